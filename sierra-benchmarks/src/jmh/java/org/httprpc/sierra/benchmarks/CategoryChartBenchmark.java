@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.benchmarks;
+
+import org.httprpc.sierra.charts.BarChart;
+import org.httprpc.sierra.charts.CandlestickChart;
+import org.httprpc.sierra.charts.Chart;
+import org.httprpc.sierra.charts.DataSet;
+import org.httprpc.sierra.charts.OHLC;
+import org.httprpc.sierra.charts.PieChart;
+import org.openjdk.jmh.annotations.Param;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Benchmarks category and pie charts. Each category produces an axis label,
+ * so points are distributed across {@value #DATA_SET_COUNT} data sets and the
+ * largest size is limited accordingly.
+ */
+public class CategoryChartBenchmark extends ChartBenchmark {
+    /**
+     * Category chart types.
+     */
+    public enum ChartType {
+        BAR,
+        CANDLESTICK,
+        PIE
+    }
+
+    @Param({"BAR", "CANDLESTICK", "PIE"})
+    public ChartType chartType;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private static final int DATA_SET_COUNT = 10;
+
+    @Override
+    Chart<?, ?> createChart() {
+        var random = new Random(0);
+
+        var categoryCount = size / DATA_SET_COUNT;
+
+        return switch (chartType) {
+            case BAR -> {
+                var chart = new BarChart<Integer, Double>();
+
+                chart.setDataSets(createDataSets(random, categoryCount));
+
+                yield chart;
+            }
+
+            case CANDLESTICK -> {
+                var chart = new CandlestickChart<Integer>();
+
+                var dataSets = new ArrayList<DataSet<Integer, OHLC>>(DATA_SET_COUNT);
+
+                for (var i = 0; i < DATA_SET_COUNT; i++) {
+                    var dataSet = new DataSet<Integer, OHLC>("Data Set " + i, getColor(i));
+
+                    var dataPoints = new TreeMap<Integer, OHLC>();
+
+                    var close = 100.0;
+
+                    for (var j = 0; j < categoryCount; j++) {
+                        var open = close;
+
+                        close = Math.max(open + random.nextGaussian(), 1.0);
+
+                        var high = Math.max(open, close) + random.nextDouble();
+                        var low = Math.max(Math.min(open, close) - random.nextDouble(), 0.0);
+
+                        dataPoints.put(j, new OHLC(open, high, low, close));
+                    }
+
+                    dataSet.setDataPoints(dataPoints);
+
+                    dataSets.add(dataSet);
+                }
+
+                chart.setDataSets(dataSets);
+
+                yield chart;
+            }
+
+            case PIE -> {
+                var chart = new PieChart<Integer, Double>();
+
+                chart.setDataSets(createDataSets(random, categoryCount));
+
+                yield chart;
+            }
+        };
+    }
+
+    private static ArrayList<DataSet<Integer, Double>> createDataSets(Random random, int categoryCount) {
+        var dataSets = new ArrayList<DataSet<Integer, Double>>(DATA_SET_COUNT);
+
+        for (var i = 0; i < DATA_SET_COUNT; i++) {
+            var dataSet = new DataSet<Integer, Double>("Data Set " + i, getColor(i));
+
+            var dataPoints = new TreeMap<Integer, Double>();
+
+            for (var j = 0; j < categoryCount; j++) {
+                dataPoints.put(j, random.nextDouble() * 100);
+            }
+
+            dataSet.setDataPoints(dataPoints);
+
+            dataSets.add(dataSet);
+        }
+
+        return dataSets;
+    }
+
+    private static Color getColor(int i) {
+        return Color.getHSBColor((float)i / DATA_SET_COUNT, 0.75f, 0.85f);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.benchmarks;
+
+import org.apache.batik.dom.GenericDOMImplementation;
+import org.apache.batik.svggen.SVGGraphics2D;
+import org.httprpc.sierra.charts.Chart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.DOMImplementation;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract base class for chart benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class ChartBenchmark {
+    /**
+     * Drawing targets.
+     */
+    public enum Target {
+        IMAGE,
+        SVG,
+        SVG_STREAM
+    }
+
+    /**
+     * Drawing target state. The target is declared here rather than on the
+     * benchmark itself so that it only parameterizes {@link #draw(TargetState)}.
+     */
+    @State(Scope.Thread)
+    public static class TargetState {
+        @Param({"IMAGE", "SVG", "SVG_STREAM"})
+        public Target target;
+
+        private BufferedImage image = null;
+
+        private DOMImplementation domImplementation = null;
+
+        /**
+         * Prepares the drawing target.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+            domImplementation = GenericDOMImplementation.getDOMImplementation();
+        }
+    }
+
+    private Chart<?, ?> chart = null;
+
+    static final int WIDTH = 1280;
+    static final int HEIGHT = 720;
+
+    private static final String SVG_NAMESPACE_URI = "http://www.w3.org/2000/svg";
+
+    /**
+     * Creates the chart to benchmark.
+     *
+     * @return
+     * The chart instance.
+     */
+    abstract Chart<?, ?> createChart();
+
+    /**
+     * Prepares the chart.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        chart = createChart();
+
+        chart.setSize(WIDTH, HEIGHT);
+
+        // Ensure that draw() measures painting only
+        var graphics = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+        chart.draw(graphics);
+
+        graphics.dispose();
+    }
+
+    /**
+     * Validates the chart. No bounds are set, so they are recalculated from
+     * the chart data, as they would be for a newly populated chart.
+     */
+    @Benchmark
+    public void validate() {
+        chart.validate();
+    }
+
+    /**
+     * Draws the chart to the current target.
+     *
+     * @param targetState
+     * The drawing target state.
+     *
+     * @return
+     * The graphics context.
+     */
+    @Benchmark
+    public Graphics2D draw(TargetState targetState) {
+        var graphics = switch (targetState.target) {
+            case IMAGE -> targetState.image.createGraphics();
+            case SVG -> new SVGGraphics2D(targetState.domImplementation.createDocument(SVG_NAMESPACE_URI, "svg", null));
+            case SVG_STREAM -> null;
+        };
+
+        if (graphics == null) {
+            try {
+                chart.writeSVG(Writer.nullWriter());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+
+            return null;
+        }
+
+        chart.draw(graphics);
+
+        graphics.dispose();
+
+        return graphics;
+    }
+}
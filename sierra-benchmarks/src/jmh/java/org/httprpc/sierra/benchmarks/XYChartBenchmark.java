@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.benchmarks;
+
+import org.httprpc.sierra.charts.ArraySeries;
+import org.httprpc.sierra.charts.Chart;
+import org.httprpc.sierra.charts.DataSet;
+import org.httprpc.sierra.charts.ScatterChart;
+import org.httprpc.sierra.charts.TimeSeriesChart;
+import org.openjdk.jmh.annotations.Param;
+
+import java.awt.Color;
+import java.util.Random;
+
+import static org.httprpc.kilo.util.Collections.*;
+
+/**
+ * Benchmarks XY charts.
+ */
+public class XYChartBenchmark extends ChartBenchmark {
+    /**
+     * XY chart types.
+     */
+    public enum ChartType {
+        TIME_SERIES,
+        SCATTER
+    }
+
+    @Param({"TIME_SERIES", "SCATTER"})
+    public ChartType chartType;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Override
+    Chart<?, ?> createChart() {
+        var random = new Random(0);
+
+        var keys = new long[size];
+        var values = new double[size];
+
+        var value = 0.0;
+
+        for (var i = 0; i < size; i++) {
+            value += random.nextGaussian();
+
+            keys[i] = i;
+            values[i] = value;
+        }
+
+        var dataSet = new DataSet<Long, Double>("Values", Color.BLUE);
+
+        dataSet.setDataPoints(new ArraySeries(keys, values));
+
+        return switch (chartType) {
+            case TIME_SERIES -> {
+                var chart = new TimeSeriesChart<Long, Double>(key -> key, Number::longValue);
+
+                chart.setDataSets(listOf(dataSet));
+
+                yield chart;
+            }
+
+            case SCATTER -> {
+                var chart = new ScatterChart<Long, Double>(key -> key, Number::longValue);
+
+                chart.setDataSets(listOf(dataSet));
+
+                yield chart;
+            }
+        };
+    }
+}
@@ -0,0 +1,871 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.tools.generator;
+
+import org.httprpc.kilo.beans.BeanAdapter;
+import org.httprpc.sierra.ConstantAdapter;
+import org.httprpc.sierra.HorizontalAlignment;
+import org.httprpc.sierra.LayoutPanel;
+import org.httprpc.sierra.Markup;
+import org.httprpc.sierra.MenuButton;
+import org.httprpc.sierra.Orientation;
+import org.httprpc.sierra.Outlet;
+import org.httprpc.sierra.UILoader;
+import org.httprpc.sierra.VerticalAlignment;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.swing.AbstractButton;
+import javax.swing.Icon;
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
+import javax.swing.JScrollPane;
+import javax.swing.JSplitPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTextField;
+import javax.swing.JToolBar;
+import javax.swing.KeyStroke;
+import javax.swing.SwingConstants;
+import javax.swing.border.TitledBorder;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Image;
+import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Generates Java code that constructs the component hierarchy declared by a
+ * markup document. Code is generated for each type annotated with
+ * {@link Markup}; other types, including those that declare {@link Outlet}
+ * fields, are ignored.
+ */
+@SupportedAnnotationTypes("org.httprpc.sierra.Markup")
+@SupportedOptions({CodeGenerator.RESOURCE_PATH, CodeGenerator.BINDINGS})
+public class CodeGenerator extends AbstractProcessor {
+    private static class GeneratorException extends RuntimeException {
+        int lineNumber;
+
+        GeneratorException(RuntimeException exception, int lineNumber) {
+            super(exception);
+
+            this.lineNumber = lineNumber;
+        }
+
+        @Override
+        public String getMessage() {
+            return String.format("[Line %d] %s", lineNumber, getCause().getMessage());
+        }
+    }
+
+    private static class Frame {
+        String variable;
+        Class<?> type;
+
+        int childCount = 0;
+
+        Frame(String variable, Class<?> type) {
+            this.variable = variable;
+            this.type = type;
+        }
+    }
+
+    private static class Placement {
+        String constraints = null;
+
+        String tabTitle = null;
+        String tabIcon = null;
+    }
+
+    private class DocumentGenerator {
+        TypeElement owner;
+        String documentName;
+        Map<String, VariableElement> outlets;
+
+        String ownerName;
+        String packageName;
+
+        Deque<String> documents = new LinkedList<>();
+
+        StringBuilder body = new StringBuilder();
+
+        Deque<Frame> frames = new LinkedList<>();
+
+        Map<String, String> groups = new HashMap<>();
+
+        Placement placement = null;
+
+        int componentCount = 0;
+
+        boolean usesImages = false;
+
+        String root = null;
+
+        DocumentGenerator(TypeElement owner, String documentName, Map<String, VariableElement> outlets) {
+            this.owner = owner;
+            this.documentName = documentName;
+            this.outlets = outlets;
+
+            ownerName = processingEnv.getTypeUtils().erasure(owner.asType()).toString();
+            packageName = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+        }
+
+        void generate() throws IOException, XMLStreamException {
+            process(documentName);
+
+            var className = String.format("%sUI", getFlatName(owner));
+
+            var qualifiedName = packageName.isEmpty() ? className : String.format("%s.%s", packageName, className);
+
+            var sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, owner);
+
+            try (var writer = sourceFile.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.append(String.format("package %s;\n\n", packageName));
+                }
+
+                writer.append(String.format("// Generated from %s; do not edit.\n", documentName));
+                writer.append(String.format("final class %s {\n", className));
+                writer.append(String.format("    private %s() {\n", className));
+                writer.append("    }\n\n");
+
+                writer.append(String.format("    static javax.swing.JComponent load(%s owner) {\n", ownerName));
+                writer.append("        return load(owner, null);\n");
+                writer.append("    }\n\n");
+
+                writer.append(String.format("    static javax.swing.JComponent load(%s owner, java.util.ResourceBundle resourceBundle) {\n", ownerName));
+                writer.append(body);
+                writer.append(String.format("        return %s;\n", root));
+                writer.append("    }\n\n");
+
+                writer.append("    private static String getText(java.util.ResourceBundle resourceBundle, String value) {\n");
+                writer.append("        if (resourceBundle == null) {\n");
+                writer.append("            return value;\n");
+                writer.append("        }\n\n");
+                writer.append("        return resourceBundle.getString(value.trim());\n");
+                writer.append("    }\n");
+
+                if (usesImages) {
+                    writer.append("\n");
+                    writer.append("    private static java.awt.Image getImage(String name) {\n");
+                    writer.append("        try {\n");
+                    writer.append(String.format("            return javax.imageio.ImageIO.read(%s.class.getResource(name));\n", ownerName));
+                    writer.append("        } catch (java.io.IOException exception) {\n");
+                    writer.append("            throw new RuntimeException(exception);\n");
+                    writer.append("        }\n");
+                    writer.append("    }\n");
+                }
+
+                writer.append("}\n");
+            }
+        }
+
+        void process(String documentName) throws IOException, XMLStreamException {
+            if (documents.contains(documentName)) {
+                throw new UnsupportedOperationException(String.format("Circular include (%s).", documentName));
+            }
+
+            documents.push(documentName);
+
+            var xmlInputFactory = XMLInputFactory.newInstance();
+
+            xmlInputFactory.setProperty("javax.xml.stream.isNamespaceAware", false);
+            xmlInputFactory.setProperty("javax.xml.stream.isSupportingExternalEntities", false);
+            xmlInputFactory.setProperty("javax.xml.stream.supportDTD", false);
+
+            try (var inputStream = open(documentName)) {
+                var xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
+
+                while (xmlStreamReader.hasNext()) {
+                    switch (xmlStreamReader.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> {
+                            try {
+                                processStartElement(xmlStreamReader);
+                            } catch (RuntimeException exception) {
+                                throw new GeneratorException(exception, xmlStreamReader.getLocation().getLineNumber());
+                            }
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> frames.pop();
+                    }
+                }
+            }
+
+            documents.pop();
+        }
+
+        InputStream open(String documentName) throws IOException {
+            var resourcePath = processingEnv.getOptions().get(RESOURCE_PATH);
+
+            if (resourcePath != null) {
+                var directories = resourcePath.split(File.pathSeparator);
+
+                for (var i = 0; i < directories.length; i++) {
+                    var path = Path.of(directories[i]).resolve(packageName.replace('.', '/')).resolve(documentName);
+
+                    if (Files.exists(path)) {
+                        return Files.newInputStream(path);
+                    }
+                }
+            }
+
+            return processingEnv.getFiler().getResource(StandardLocation.SOURCE_PATH, packageName, documentName).openInputStream();
+        }
+
+        void processStartElement(XMLStreamReader xmlStreamReader) throws IOException, XMLStreamException {
+            var parent = frames.peek();
+
+            if (parent != null && parent.type == null) {
+                throw new UnsupportedOperationException("Include elements cannot have content.");
+            }
+
+            // Placement attributes specified by an include element apply to the root of the fragment
+            var placement = this.placement;
+
+            this.placement = null;
+
+            var tag = xmlStreamReader.getLocalName();
+
+            if (tag.equals(INCLUDE_TAG)) {
+                processInclude(xmlStreamReader, placement);
+
+                return;
+            }
+
+            var type = UILoader.getType(tag);
+
+            if (type == null) {
+                throw new UnsupportedOperationException(String.format("Invalid tag (%s).", tag));
+            }
+
+            try {
+                type.getConstructor();
+            } catch (NoSuchMethodException exception) {
+                throw new UnsupportedOperationException(String.format("%s cannot be instantiated.", type.getName()));
+            }
+
+            VariableElement outlet = null;
+
+            for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
+                if (xmlStreamReader.getAttributeLocalName(i).equals(UILoader.Attribute.NAME.getName())) {
+                    outlet = outlets.get(xmlStreamReader.getAttributeValue(i));
+                }
+            }
+
+            if (outlet != null) {
+                checkOutlet(outlet, type);
+            }
+
+            var variable = String.format("component%d", componentCount++);
+
+            if (type.getTypeParameters().length == 0) {
+                append("var %s = new %s();", variable, type.getCanonicalName());
+            } else if (outlet != null && getTypeName(outlet).equals(type.getCanonicalName())) {
+                // Declare the variable using the outlet's type so that its type arguments are inferred
+                append("%s %s = new %s<>();", outlet.asType(), variable, type.getCanonicalName());
+            } else {
+                append("var %s = new %s<>();", variable, type.getCanonicalName());
+            }
+
+            if (JSplitPane.class.isAssignableFrom(type)) {
+                append("%s.setLeftComponent(null);", variable);
+                append("%s.setRightComponent(null);", variable);
+            }
+
+            String title = null;
+
+            String titleColor = null;
+            String titleFont = null;
+
+            var titleJustification = TitledBorder.DEFAULT_JUSTIFICATION;
+            var titlePosition = TitledBorder.DEFAULT_POSITION;
+
+            String outsideBorder = null;
+            String insideBorder = null;
+
+            String constraints = null;
+
+            String tabTitle = null;
+            String tabIcon = null;
+
+            var properties = BeanAdapter.getProperties(type);
+
+            for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
+                var name = xmlStreamReader.getAttributeLocalName(i);
+                var value = xmlStreamReader.getAttributeValue(i);
+
+                if (name.equals(UILoader.Attribute.NAME.getName())) {
+                    append("%s.setName(%s);", variable, quote(value));
+
+                    if (outlet != null) {
+                        append("owner.%s = %s;", value, variable);
+                    }
+                } else if (name.equals(UILoader.Attribute.TITLE.getName())) {
+                    title = getText(value);
+                } else if (name.equals(UILoader.Attribute.TITLE_COLOR.getName())) {
+                    titleColor = String.format("org.httprpc.sierra.UILoader.parseColor(%s)", quote(value));
+                } else if (name.equals(UILoader.Attribute.TITLE_FONT.getName())) {
+                    titleFont = String.format("org.httprpc.sierra.UILoader.parseFont(%s)", quote(value));
+                } else if (name.equals(UILoader.Attribute.TITLE_JUSTIFICATION.getName())) {
+                    titleJustification = getValue(value, UILoader.TitleJustification.values());
+                } else if (name.equals(UILoader.Attribute.TITLE_POSITION.getName())) {
+                    titlePosition = getValue(value, UILoader.TitlePosition.values());
+                } else if (name.equals(UILoader.Attribute.BORDER.getName())) {
+                    outsideBorder = String.format("org.httprpc.sierra.UILoader.parseBorder(%s)", quote(value));
+                } else if (name.equals(UILoader.Attribute.PADDING.getName())) {
+                    insideBorder = getPadding(value);
+                } else if (name.equals(UILoader.Attribute.WIDTH.getName())) {
+                    append("%s.setPreferredSize(new java.awt.Dimension(%d, 0));", variable, Integer.parseInt(value));
+                } else if (name.equals(UILoader.Attribute.HEIGHT.getName())) {
+                    append("%s.setPreferredSize(new java.awt.Dimension(0, %d));", variable, Integer.parseInt(value));
+                } else if (name.equals(UILoader.Attribute.SIZE.getName())) {
+                    append("%s.setPreferredSize(%s);", variable, getSize(value));
+                } else if (name.equals(UILoader.Attribute.WEIGHT.getName())) {
+                    constraints = String.format("Double.valueOf(%s)", Double.parseDouble(value));
+                } else if (name.equals(UILoader.Attribute.LABEL.getName())) {
+                    constraints = getText(value);
+                } else if (name.equals(UILoader.Attribute.COLUMN_SPAN.getName())) {
+                    constraints = String.format("Integer.valueOf(%d)", Integer.parseInt(value));
+                } else if (name.equals(UILoader.Attribute.GROUP.getName())) {
+                    if (!AbstractButton.class.isAssignableFrom(type)) {
+                        throw new UnsupportedOperationException("Component is not a button.");
+                    }
+
+                    var group = groups.get(value);
+
+                    if (group == null) {
+                        group = String.format("group%d", groups.size());
+
+                        append("var %s = new javax.swing.ButtonGroup();", group);
+
+                        groups.put(value, group);
+                    }
+
+                    append("%s.add(%s);", group, variable);
+                } else if (name.equals(UILoader.Attribute.TAB_TITLE.getName())) {
+                    tabTitle = getText(value);
+                } else if (name.equals(UILoader.Attribute.TAB_ICON.getName())) {
+                    tabIcon = value;
+                } else if (name.equals(UILoader.Attribute.LAZY.getName())) {
+                    // Generated code does not parse the document, so tab content is always constructed eagerly
+                    continue;
+                } else if (name.equals(UILoader.Attribute.STYLE.getName()) || name.equals(UILoader.Attribute.STYLE_CLASS.getName())) {
+                    append("%s.putClientProperty(%s, %s);", variable, quote(String.format("FlatLaf.%s", name)), quote(value));
+                } else if (name.equals(UILoader.Attribute.PLACEHOLDER_TEXT.getName())) {
+                    append("%s.putClientProperty(%s, %s);", variable, quote(String.format("%s.%s", JTextField.class.getSimpleName(), name)), getText(value));
+                } else if (name.equals(UILoader.Attribute.SHOW_CLEAR_BUTTON.getName())) {
+                    append("%s.putClientProperty(%s, Boolean.%S);", variable, quote(String.format("%s.%s", JTextField.class.getSimpleName(), name)), Boolean.valueOf(value));
+                } else if (name.equals(UILoader.Attribute.LEADING_ICON.getName()) || name.equals(UILoader.Attribute.TRAILING_ICON.getName())) {
+                    append("%s.putClientProperty(%s, %s);", variable, quote(String.format("%s.%s", JTextField.class.getSimpleName(), name)), getIcon(value, variable));
+                } else {
+                    var mutator = properties.containsKey(name) ? properties.get(name).getMutator() : null;
+
+                    if (mutator == null) {
+                        throw new UnsupportedOperationException(String.format("Invalid attribute name (%s).", name));
+                    }
+
+                    var propertyType = mutator.getParameterTypes()[0];
+
+                    String argument;
+                    if (propertyType == Integer.TYPE || propertyType == Integer.class) {
+                        argument = String.valueOf(getIntegerValue(name, value, type));
+                    } else if (propertyType == String.class) {
+                        argument = getText(value);
+                    } else if (propertyType == Color.class) {
+                        argument = String.format("org.httprpc.sierra.UILoader.parseColor(%s)", quote(value));
+                    } else if (propertyType == Font.class) {
+                        argument = String.format("org.httprpc.sierra.UILoader.parseFont(%s)", quote(value));
+                    } else if (propertyType == Icon.class) {
+                        argument = getIcon(value, variable);
+                    } else if (propertyType == Image.class) {
+                        argument = String.format("getImage(%s)", quote(value.trim()));
+
+                        usesImages = true;
+                    } else if (propertyType == KeyStroke.class) {
+                        argument = getKeyStroke(value, type);
+                    } else if (Enum.class.isAssignableFrom(propertyType)) {
+                        argument = getEnumValue(value, propertyType);
+                    } else if (propertyType == Boolean.TYPE || propertyType == Boolean.class) {
+                        argument = String.valueOf(Boolean.parseBoolean(value));
+                    } else if (propertyType == Long.TYPE || propertyType == Long.class) {
+                        argument = String.format("%dL", Long.parseLong(value));
+                    } else if (propertyType == Double.TYPE || propertyType == Double.class) {
+                        argument = String.valueOf(Double.parseDouble(value));
+                    } else if (propertyType == Float.TYPE || propertyType == Float.class) {
+                        argument = String.format("%sf", Float.parseFloat(value));
+                    } else {
+                        // Validate the value now, but defer the conversion to run time
+                        BeanAdapter.coerce(value, propertyType);
+
+                        argument = String.format("org.httprpc.kilo.beans.BeanAdapter.coerce(%s, %s.class)", quote(value), propertyType.getCanonicalName());
+                    }
+
+                    append("%s.%s(%s);", variable, mutator.getName(), argument);
+                }
+            }
+
+            if (placement != null) {
+                if (placement.constraints != null) {
+                    constraints = placement.constraints;
+                }
+
+                if (placement.tabTitle != null) {
+                    tabTitle = placement.tabTitle;
+                }
+
+                if (placement.tabIcon != null) {
+                    tabIcon = placement.tabIcon;
+                }
+            }
+
+            if (title != null) {
+                var titledBorder = String.format("%sTitledBorder", variable);
+
+                append("var %s = new javax.swing.border.TitledBorder(%s, %s);", titledBorder, coalesce(outsideBorder), title);
+
+                if (titleColor != null) {
+                    append("%s.setTitleColor(%s);", titledBorder, titleColor);
+                }
+
+                if (titleFont != null) {
+                    append("%s.setTitleFont(%s);", titledBorder, titleFont);
+                }
+
+                if (titleJustification != TitledBorder.DEFAULT_JUSTIFICATION) {
+                    append("%s.setTitleJustification(%d);", titledBorder, titleJustification);
+                }
+
+                if (titlePosition != TitledBorder.DEFAULT_POSITION) {
+                    append("%s.setTitlePosition(%d);", titledBorder, titlePosition);
+                }
+
+                append("%s.setBorder(new javax.swing.border.CompoundBorder(%s, %s));", variable, titledBorder, coalesce(insideBorder));
+            } else if (outsideBorder != null) {
+                append("%s.setBorder(new javax.swing.border.CompoundBorder(%s, %s));", variable, outsideBorder, coalesce(insideBorder));
+            } else if (insideBorder != null) {
+                append("%s.setBorder(%s);", variable, insideBorder);
+            }
+
+            if (parent == null) {
+                root = variable;
+            } else {
+                var parentType = parent.type;
+                var parentVariable = parent.variable;
+
+                if (LayoutPanel.class.isAssignableFrom(parentType)) {
+                    if (constraints == null) {
+                        append("%s.add(%s);", parentVariable, variable);
+                    } else {
+                        append("%s.add(%s, %s);", parentVariable, variable, constraints);
+                    }
+                } else if (JScrollPane.class.isAssignableFrom(parentType)) {
+                    append("%s.setViewportView(%s);", parentVariable, variable);
+                } else if (JSplitPane.class.isAssignableFrom(parentType)) {
+                    switch (parent.childCount) {
+                        case 0 -> append("%s.setLeftComponent(%s);", parentVariable, variable);
+                        case 1 -> append("%s.setRightComponent(%s);", parentVariable, variable);
+                        default -> throw new UnsupportedOperationException("Unexpected split pane content.");
+                    }
+                } else if (JTabbedPane.class.isAssignableFrom(parentType)) {
+                    append("%s.addTab(%s, %s, %s);", parentVariable,
+                        coalesce(tabTitle),
+                        (tabIcon == null) ? "null" : getIcon(tabIcon, parentVariable),
+                        variable);
+                } else if (JToolBar.class.isAssignableFrom(parentType)
+                    || JMenuBar.class.isAssignableFrom(parentType)
+                    || JMenu.class.isAssignableFrom(parentType)
+                    || MenuButton.class.isAssignableFrom(parentType)) {
+                    append("%s.add((java.awt.Component)%s);", parentVariable, variable);
+                } else {
+                    throw new UnsupportedOperationException("Invalid parent type.");
+                }
+
+                parent.childCount++;
+            }
+
+            body.append("\n");
+
+            frames.push(new Frame(variable, type));
+        }
+
+        void processInclude(XMLStreamReader xmlStreamReader, Placement outerPlacement) throws IOException, XMLStreamException {
+            String source = null;
+
+            var placement = new Placement();
+
+            for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
+                var name = xmlStreamReader.getAttributeLocalName(i);
+                var value = xmlStreamReader.getAttributeValue(i);
+
+                if (name.equals(UILoader.Attribute.SOURCE.getName())) {
+                    source = value.trim();
+                } else if (name.equals(UILoader.Attribute.WEIGHT.getName())) {
+                    placement.constraints = String.format("Double.valueOf(%s)", Double.parseDouble(value));
+                } else if (name.equals(UILoader.Attribute.LABEL.getName())) {
+                    placement.constraints = getText(value);
+                } else if (name.equals(UILoader.Attribute.COLUMN_SPAN.getName())) {
+                    placement.constraints = String.format("Integer.valueOf(%d)", Integer.parseInt(value));
+                } else if (name.equals(UILoader.Attribute.TAB_TITLE.getName())) {
+                    placement.tabTitle = getText(value);
+                } else if (name.equals(UILoader.Attribute.TAB_ICON.getName())) {
+                    placement.tabIcon = value;
+                } else if (!name.equals(UILoader.Attribute.LAZY.getName())) {
+                    throw new UnsupportedOperationException(String.format("Invalid attribute name (%s).", name));
+                }
+            }
+
+            if (source == null) {
+                throw new UnsupportedOperationException("Source is required.");
+            }
+
+            // An enclosing include element takes precedence
+            if (outerPlacement != null) {
+                if (outerPlacement.constraints != null) {
+                    placement.constraints = outerPlacement.constraints;
+                }
+
+                if (outerPlacement.tabTitle != null) {
+                    placement.tabTitle = outerPlacement.tabTitle;
+                }
+
+                if (outerPlacement.tabIcon != null) {
+                    placement.tabIcon = outerPlacement.tabIcon;
+                }
+            }
+
+            this.placement = placement;
+
+            // Fragments are expanded inline; the include element itself is represented by an untyped frame
+            process(source);
+
+            frames.push(new Frame(null, null));
+        }
+
+        void checkOutlet(VariableElement outlet, Class<?> type) {
+            var typeUtils = processingEnv.getTypeUtils();
+
+            var typeElement = processingEnv.getElementUtils().getTypeElement(type.getCanonicalName());
+
+            if (typeElement != null && !typeUtils.isAssignable(typeUtils.erasure(typeElement.asType()), typeUtils.erasure(outlet.asType()))) {
+                throw new UnsupportedOperationException(String.format("Invalid outlet type (%s).", outlet.getSimpleName()));
+            }
+        }
+
+        String getTypeName(VariableElement outlet) {
+            var typeUtils = processingEnv.getTypeUtils();
+
+            return typeUtils.erasure(outlet.asType()).toString();
+        }
+
+        String getText(String value) {
+            return String.format("getText(resourceBundle, %s)", quote(value));
+        }
+
+        String getIcon(String value, String component) {
+            var components = value.split(";");
+
+            var name = components[0].trim();
+
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Invalid resource name.");
+            }
+
+            return String.format("org.httprpc.sierra.UILoader.createIcon(%s.class.getResource(%s), %s, %s)",
+                ownerName,
+                quote(name),
+                (components.length > 1) ? getSize(components[1]) : "null",
+                component);
+        }
+
+        void append(String format, Object... arguments) {
+            body.append("        ");
+            body.append(String.format(format, arguments));
+            body.append("\n");
+        }
+    }
+
+    /**
+     * The resource path option. Specifies the directories containing markup
+     * documents, separated by the platform path separator.
+     */
+    public static final String RESOURCE_PATH = "sierra.resourcePath";
+
+    /**
+     * The bindings option. Specifies the path to a properties file containing
+     * custom tag bindings.
+     */
+    public static final String BINDINGS = "sierra.bindings";
+
+    private boolean bound = false;
+
+    private static final String INCLUDE_TAG = "include";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        var messager = processingEnv.getMessager();
+
+        if (!bound) {
+            var bindingsPath = processingEnv.getOptions().get(BINDINGS);
+
+            if (bindingsPath != null) {
+                var bindings = new Properties();
+
+                try (var inputStream = Files.newInputStream(Path.of(bindingsPath))) {
+                    bindings.load(inputStream);
+
+                    UILoader.bind(bindings, getClass().getClassLoader());
+                } catch (IOException | ClassNotFoundException exception) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, String.format("Unable to load bindings (%s).", exception.getMessage()));
+
+                    return false;
+                }
+            }
+
+            bound = true;
+        }
+
+        for (var element : roundEnvironment.getElementsAnnotatedWith(Markup.class)) {
+            var owner = (TypeElement)element;
+
+            var outlets = new LinkedHashMap<String, VariableElement>();
+
+            var valid = true;
+
+            for (var enclosedElement : owner.getEnclosedElements()) {
+                if (enclosedElement.getKind() != ElementKind.FIELD || enclosedElement.getAnnotation(Outlet.class) == null) {
+                    continue;
+                }
+
+                var modifiers = enclosedElement.getModifiers();
+
+                // Generated code assigns outlets directly, so types that opt in cannot use private outlets
+                if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "Outlets must be non-private, non-static, and non-final.", enclosedElement);
+
+                    valid = false;
+
+                    continue;
+                }
+
+                outlets.put(enclosedElement.getSimpleName().toString(), (VariableElement)enclosedElement);
+            }
+
+            if (!valid) {
+                continue;
+            }
+
+            var documentName = owner.getAnnotation(Markup.class).value();
+
+            var documentGenerator = new DocumentGenerator(owner, documentName, outlets);
+
+            try {
+                documentGenerator.generate();
+            } catch (IOException | XMLStreamException | RuntimeException exception) {
+                messager.printMessage(Diagnostic.Kind.ERROR, String.format("%s: %s", documentName, exception.getMessage()), owner);
+            }
+        }
+
+        return true;
+    }
+
+    private static String getFlatName(TypeElement typeElement) {
+        var enclosingElement = typeElement.getEnclosingElement();
+
+        if (enclosingElement instanceof TypeElement enclosingTypeElement) {
+            return String.format("%s_%s", getFlatName(enclosingTypeElement), typeElement.getSimpleName());
+        } else {
+            return typeElement.getSimpleName().toString();
+        }
+    }
+
+    private static int getIntegerValue(String name, String value, Class<?> type) {
+        if (name.equals(UILoader.Attribute.HORIZONTAL_ALIGNMENT.getName())
+            || name.equals(UILoader.Attribute.HORIZONTAL_TEXT_POSITION.getName())) {
+            return getValue(value, HorizontalAlignment.values());
+        } else if (name.equals(UILoader.Attribute.VERTICAL_ALIGNMENT.getName())
+            || name.equals(UILoader.Attribute.VERTICAL_TEXT_POSITION.getName())) {
+            return getValue(value, VerticalAlignment.values());
+        } else if (name.equals(UILoader.Attribute.ORIENTATION.getName())) {
+            var orientation = getValue(value, Orientation.values());
+
+            if (JSplitPane.class.isAssignableFrom(type)) {
+                return switch (orientation) {
+                    case SwingConstants.HORIZONTAL -> JSplitPane.HORIZONTAL_SPLIT;
+                    case SwingConstants.VERTICAL -> JSplitPane.VERTICAL_SPLIT;
+                    default -> throw new UnsupportedOperationException();
+                };
+            }
+
+            return orientation;
+        } else if (name.equals(UILoader.Attribute.FOCUS_LOST_BEHAVIOR.getName())) {
+            return getValue(value, UILoader.FocusLostBehavior.values());
+        } else if (name.equals(UILoader.Attribute.HORIZONTAL_SCROLL_BAR_POLICY.getName())) {
+            return getValue(value, UILoader.HorizontalScrollBarPolicy.values());
+        } else if (name.equals(UILoader.Attribute.VERTICAL_SCROLL_BAR_POLICY.getName())) {
+            return getValue(value, UILoader.VerticalScrollBarPolicy.values());
+        } else if (name.equals(UILoader.Attribute.SELECTION_MODE.getName())) {
+            return getValue(value, UILoader.ListSelectionMode.values());
+        } else if (name.equals(UILoader.Attribute.LAYOUT_ORIENTATION.getName())) {
+            return getValue(value, UILoader.LayoutOrientation.values());
+        } else if (name.equals(UILoader.Attribute.AUTO_RESIZE_MODE.getName())) {
+            return getValue(value, UILoader.AutoResizeMode.values());
+        } else if (name.equals(UILoader.Attribute.TAB_PLACEMENT.getName())) {
+            return getValue(value, UILoader.TabPlacement.values());
+        } else if (name.equals(UILoader.Attribute.TAB_LAYOUT_POLICY.getName())) {
+            return getValue(value, UILoader.TabLayoutPolicy.values());
+        } else {
+            return Integer.parseInt(value);
+        }
+    }
+
+    private static int getValue(String key, ConstantAdapter[] values) {
+        for (var i = 0; i < values.length; i++) {
+            var value = values[i];
+
+            if (key.equals(value.getKey())) {
+                return value.getValue();
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid key.");
+    }
+
+    private static String getEnumValue(String value, Class<?> type) {
+        var name = value.toUpperCase().replace('-', '_');
+
+        var constants = type.getEnumConstants();
+
+        for (var i = 0; i < constants.length; i++) {
+            if (((Enum<?>)constants[i]).name().equals(name)) {
+                return String.format("%s.%s", type.getCanonicalName(), name);
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid enum value.");
+    }
+
+    private static String getKeyStroke(String value, Class<?> type) {
+        try {
+            var field = KeyEvent.class.getField(value);
+
+            if (field.getType() != Integer.TYPE || !value.startsWith("VK_")) {
+                throw new IllegalArgumentException("Invalid key code.");
+            }
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalArgumentException("Invalid key code.");
+        }
+
+        var modifiers = JMenuItem.class.isAssignableFrom(type) ? "java.awt.Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx()" : "0";
+
+        return String.format("javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.%s, %s)", value, modifiers);
+    }
+
+    private static String getPadding(String value) {
+        var components = value.split(",");
+
+        if (components.length == 1) {
+            var padding = Integer.parseInt(components[0].trim());
+
+            return String.format("new javax.swing.border.EmptyBorder(%1$d, %1$d, %1$d, %1$d)", padding);
+        } else if (components.length == 4) {
+            var top = Integer.parseInt(components[0].trim());
+            var left = Integer.parseInt(components[1].trim());
+            var bottom = Integer.parseInt(components[2].trim());
+            var right = Integer.parseInt(components[3].trim());
+
+            return String.format("new javax.swing.border.EmptyBorder(%d, %d, %d, %d)", top, left, bottom, right);
+        } else {
+            throw new IllegalArgumentException("Invalid padding.");
+        }
+    }
+
+    private static String getSize(String value) {
+        var components = value.split(",");
+
+        if (components.length == 1) {
+            var size = Integer.parseInt(components[0].trim());
+
+            return String.format("new java.awt.Dimension(%1$d, %1$d)", size);
+        } else if (components.length == 2) {
+            var width = Integer.parseInt(components[0].trim());
+            var height = Integer.parseInt(components[1].trim());
+
+            return String.format("new java.awt.Dimension(%d, %d)", width, height);
+        } else {
+            throw new IllegalArgumentException("Invalid size.");
+        }
+    }
+
+    private static String coalesce(String expression) {
+        return (expression == null) ? "null" : expression;
+    }
+
+    private static String quote(String value) {
+        var stringBuilder = new StringBuilder();
+
+        stringBuilder.append('"');
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            var c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> stringBuilder.append("\\\"");
+                case '\\' -> stringBuilder.append("\\\\");
+                case '\n' -> stringBuilder.append("\\n");
+                case '\r' -> stringBuilder.append("\\r");
+                case '\t' -> stringBuilder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        stringBuilder.append(String.format("\\u%04x", (int)c));
+                    } else {
+                        stringBuilder.append(c);
+                    }
+                }
+            }
+        }
+
+        stringBuilder.append('"');
+
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.tools.generator;
+
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CodeGeneratorTest {
+    private static class Compilation {
+        boolean success;
+        List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+        Path sourceOutputDirectory;
+
+        Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path sourceOutputDirectory) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+
+            this.sourceOutputDirectory = sourceOutputDirectory;
+        }
+
+        String getErrorMessage() {
+            for (var diagnostic : diagnostics) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    return diagnostic.getMessage(null);
+                }
+            }
+
+            return null;
+        }
+
+        String getGeneratedSource(String name) throws IOException {
+            var path = sourceOutputDirectory.resolve("test").resolve(String.format("%s.java", name));
+
+            return Files.exists(path) ? Files.readString(path) : null;
+        }
+    }
+
+    @Test
+    public void testValidView() throws IOException {
+        var compilation = compile("""
+            package test;
+
+            import javax.swing.JLabel;
+            import org.httprpc.sierra.DatePicker;
+            import org.httprpc.sierra.Markup;
+            import org.httprpc.sierra.Outlet;
+
+            @Markup("View.xml")
+            public class View {
+                @Outlet JLabel label = null;
+                @Outlet DatePicker datePicker = null;
+            }
+            """, """
+            <column-panel>
+                <label name="label" text="Hello"/>
+                <date-picker name="datePicker" date="2024-01-15"/>
+            </column-panel>
+            """);
+
+        assertTrue(compilation.success);
+        assertTrue(compilation.diagnostics.isEmpty());
+
+        var source = compilation.getGeneratedSource("ViewUI");
+
+        assertNotNull(source);
+
+        assertTrue(source.contains("owner.label = component1;"));
+        assertTrue(source.contains("org.httprpc.kilo.beans.BeanAdapter.coerce(\"2024-01-15\", java.time.LocalDate.class)"));
+    }
+
+    @Test
+    public void testGenericOutlets() throws IOException {
+        var compilation = compile("""
+            package test;
+
+            import javax.swing.JComboBox;
+            import javax.swing.JComponent;
+            import org.httprpc.sierra.Markup;
+            import org.httprpc.sierra.Outlet;
+
+            @Markup("View.xml")
+            public class View {
+                @Outlet JComboBox<String> comboBox = null;
+                @Outlet JComponent list = null;
+            }
+            """, """
+            <column-panel>
+                <combo-box name="comboBox"/>
+                <list name="list"/>
+            </column-panel>
+            """);
+
+        // Raw type warnings are treated as errors
+        assertTrue(compilation.success);
+        assertTrue(compilation.diagnostics.isEmpty());
+
+        var source = compilation.getGeneratedSource("ViewUI");
+
+        assertTrue(source.contains("javax.swing.JComboBox<java.lang.String> component1 = new javax.swing.JComboBox<>();"));
+        assertTrue(source.contains("var component2 = new javax.swing.JList<>();"));
+    }
+
+    @Test
+    public void testIncludeAttributes() throws IOException {
+        var compilation = compile("""
+            package test;
+
+            import org.httprpc.sierra.Markup;
+
+            @Markup("View.xml")
+            public class View {
+            }
+            """, mapOf(
+            entry("View.xml", """
+                <form-panel>
+                    <include source="fragment.xml" label="Name"/>
+                </form-panel>
+                """),
+            entry("fragment.xml", """
+                <text-field/>
+                """)
+        ));
+
+        assertTrue(compilation.success);
+
+        var source = compilation.getGeneratedSource("ViewUI");
+
+        assertTrue(source.contains("component0.add(component1, getText(resourceBundle, \"Name\"));"));
+    }
+
+    @Test
+    public void testRejectedView() throws IOException {
+        var compilation = compile("""
+            package test;
+
+            import org.httprpc.sierra.Markup;
+
+            @Markup("View.xml")
+            public class View {
+            }
+            """, """
+            <column-panel>
+                <xyz/>
+            </column-panel>
+            """);
+
+        assertFalse(compilation.success);
+        assertEquals("View.xml: [Line 2] Invalid tag (xyz).", compilation.getErrorMessage());
+    }
+
+    @Test
+    public void testInvalidValue() throws IOException {
+        var compilation = compile("""
+            package test;
+
+            import org.httprpc.sierra.Markup;
+
+            @Markup("View.xml")
+            public class View {
+            }
+            """, """
+            <date-picker date="xyz"/>
+            """);
+
+        assertFalse(compilation.success);
+        assertNull(compilation.getGeneratedSource("ViewUI"));
+    }
+
+    @Test
+    public void testPrivateOutlets() throws IOException {
+        var compilation = compile("""
+            package test;
+
+            import javax.swing.JLabel;
+            import org.httprpc.sierra.Markup;
+            import org.httprpc.sierra.Outlet;
+
+            @Markup("View.xml")
+            public class View {
+                private @Outlet JLabel label = null;
+            }
+            """, """
+            <label name="label"/>
+            """);
+
+        assertFalse(compilation.success);
+        assertEquals("Outlets must be non-private, non-static, and non-final.", compilation.getErrorMessage());
+    }
+
+    @Test
+    public void testUnannotatedType() throws IOException {
+        var compilation = compile("""
+            package test;
+
+            import javax.swing.JLabel;
+            import org.httprpc.sierra.Outlet;
+
+            public class View {
+                private @Outlet JLabel label = null;
+            }
+            """, mapOf());
+
+        assertTrue(compilation.success);
+        assertTrue(compilation.diagnostics.isEmpty());
+
+        assertNull(compilation.getGeneratedSource("ViewUI"));
+    }
+
+    private static Compilation compile(String source, String document) throws IOException {
+        return compile(source, mapOf(entry("View.xml", document)));
+    }
+
+    private static Compilation compile(String source, Map<String, String> documents) throws IOException {
+        var directory = Files.createTempDirectory(CodeGeneratorTest.class.getSimpleName());
+
+        var sourceDirectory = Files.createDirectories(directory.resolve("src").resolve("test"));
+        var resourceDirectory = Files.createDirectories(directory.resolve("resources").resolve("test"));
+
+        var classOutputDirectory = Files.createDirectories(directory.resolve("classes"));
+        var sourceOutputDirectory = Files.createDirectories(directory.resolve("generated"));
+
+        var sourceFile = Files.writeString(sourceDirectory.resolve("View.java"), source);
+
+        var options = new ArrayList<>(listOf(
+            "-classpath", System.getProperty("java.class.path"),
+            "-d", classOutputDirectory.toString(),
+            "-s", sourceOutputDirectory.toString(),
+            "-Xlint:rawtypes,unchecked",
+            "-Werror"
+        ));
+
+        for (var entry : documents.entrySet()) {
+            Files.writeString(resourceDirectory.resolve(entry.getKey()), entry.getValue());
+        }
+
+        // The compiler reports unrecognized options when no annotated types are found
+        if (!documents.isEmpty()) {
+            options.add(String.format("-A%s=%s", CodeGenerator.RESOURCE_PATH, directory.resolve("resources")));
+        }
+
+        var javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+        var diagnosticCollector = new DiagnosticCollector<JavaFileObject>();
+
+        try (var fileManager = javaCompiler.getStandardFileManager(diagnosticCollector, null, null)) {
+            var task = javaCompiler.getTask(null, fileManager, diagnosticCollector, options, null, fileManager.getJavaFileObjects(sourceFile));
+
+            task.setProcessors(listOf(new CodeGenerator()));
+
+            var success = task.call();
+
+            return new Compilation(success, diagnosticCollector.getDiagnostics(), sourceOutputDirectory);
+        }
+    }
+}
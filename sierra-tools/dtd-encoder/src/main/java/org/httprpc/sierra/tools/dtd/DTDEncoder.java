@@ -84,6 +84,7 @@ public class DTDEncoder extends Encoder<Void> {
         appendAttributeDeclaration(UILoader.Attribute.GROUP.getName(), CDATA, writer);
         appendAttributeDeclaration(UILoader.Attribute.TAB_TITLE.getName(), CDATA, writer);
         appendAttributeDeclaration(UILoader.Attribute.TAB_ICON.getName(), CDATA, writer);
+        appendAttributeDeclaration(UILoader.Attribute.LAZY.getName(), String.format("(%b|%b)", true, false), writer);
         appendAttributeDeclaration(UILoader.Attribute.STYLE.getName(), CDATA, writer);
         appendAttributeDeclaration(UILoader.Attribute.STYLE_CLASS.getName(), CDATA, writer);
 
@@ -198,6 +199,15 @@ public class DTDEncoder extends Encoder<Void> {
             }
         }
 
+        writer.append("<!ELEMENT include EMPTY>\n");
+        writer.append(String.format("<!ATTLIST include %s %s #REQUIRED", UILoader.Attribute.SOURCE.getName(), CDATA));
+        writer.append(String.format(" %s %s #IMPLIED", UILoader.Attribute.WEIGHT.getName(), CDATA));
+        writer.append(String.format(" %s %s #IMPLIED", UILoader.Attribute.LABEL.getName(), CDATA));
+        writer.append(String.format(" %s %s #IMPLIED", UILoader.Attribute.COLUMN_SPAN.getName(), CDATA));
+        writer.append(String.format(" %s %s #IMPLIED", UILoader.Attribute.TAB_TITLE.getName(), CDATA));
+        writer.append(String.format(" %s %s #IMPLIED", UILoader.Attribute.TAB_ICON.getName(), CDATA));
+        writer.append(String.format(" %s (%b|%b) #IMPLIED>\n", UILoader.Attribute.LAZY.getName(), true, false));
+
         writer.flush();
     }
 
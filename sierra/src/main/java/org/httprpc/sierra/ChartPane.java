@@ -15,12 +15,16 @@
 package org.httprpc.sierra;
 
 import org.httprpc.sierra.charts.Chart;
+import org.httprpc.sierra.charts.ChartListener;
 
 import javax.swing.JComponent;
+import javax.swing.event.ChangeListener;
 import javax.swing.plaf.ComponentUI;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.httprpc.kilo.util.Optionals.*;
 
@@ -69,6 +73,10 @@ public class ChartPane<C extends Chart<?, ?>> extends JComponent {
 
     private C chart;
 
+    private List<ChartListener> chartListeners = new LinkedList<>();
+
+    private ChangeListener changeListener = event -> repaint();
+
     /**
      * Constructs a new chart pane.
      */
@@ -101,18 +109,73 @@ public class ChartPane<C extends Chart<?, ?>> extends JComponent {
     }
 
     /**
-     * Sets the chart displayed by the component.
+     * Sets the chart displayed by the component. The component is repainted
+     * automatically when the chart's change listeners are notified.
      *
      * @param chart
      * The chart to display, or {@code null} for no chart.
      */
     public void setChart(C chart) {
+        if (this.chart != null) {
+            for (var listener : chartListeners) {
+                this.chart.removeChartListener(listener);
+            }
+
+            this.chart.removeChangeListener(changeListener);
+        }
+
         this.chart = chart;
 
+        if (chart != null) {
+            for (var listener : chartListeners) {
+                chart.addChartListener(listener);
+            }
+
+            chart.addChangeListener(changeListener);
+        }
+
         revalidate();
         repaint();
     }
 
+    /**
+     * Adds a chart listener. The listener is registered with the current
+     * chart, as well as with any chart subsequently displayed by the
+     * component.
+     *
+     * @param listener
+     * The chart listener to add.
+     */
+    public void addChartListener(ChartListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        chartListeners.add(listener);
+
+        if (chart != null) {
+            chart.addChartListener(listener);
+        }
+    }
+
+    /**
+     * Removes a chart listener.
+     *
+     * @param listener
+     * The chart listener to remove.
+     */
+    public void removeChartListener(ChartListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        chartListeners.remove(listener);
+
+        if (chart != null) {
+            chart.removeChartListener(listener);
+        }
+    }
+
     @Override
     public void doLayout() {
         if (chart == null) {
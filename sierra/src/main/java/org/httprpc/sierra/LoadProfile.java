@@ -0,0 +1,243 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records timing information for a document load. All times are reported in
+ * nanoseconds.
+ */
+public class LoadProfile {
+    /**
+     * Represents an accumulated timing.
+     */
+    public static class Timing {
+        private int count = 0;
+        private long time = 0;
+
+        private Timing() {
+        }
+
+        /**
+         * Returns the number of timed operations. Elements and attributes
+         * are timed once when compiled and once each time they are
+         * instantiated.
+         *
+         * @return
+         * The number of timed operations.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the total time.
+         *
+         * @return
+         * The total time spent in the timed operations.
+         */
+        public long getTime() {
+            return time;
+        }
+    }
+
+    private String name;
+
+    private long compileTime = 0;
+    private long instantiationTime = 0;
+
+    private long documentTime = 0;
+
+    private int iconCount = 0;
+    private long iconTime = 0;
+
+    // Images decoded in the background are recorded on the executor's thread
+    private int imageCount = 0;
+    private long imageTime = 0;
+
+    private int reflectiveCallCount = 0;
+
+    private Map<String, Timing> tagTimings = new TreeMap<>();
+    private Map<String, Timing> attributeTimings = new TreeMap<>();
+
+    LoadProfile(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the document name.
+     *
+     * @return
+     * The name of the profiled document.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the compile time.
+     *
+     * @return
+     * The time spent reading and parsing the document and resolving
+     * attribute values.
+     */
+    public long getCompileTime() {
+        return compileTime;
+    }
+
+    /**
+     * Returns the instantiation time.
+     *
+     * @return
+     * The time spent constructing and configuring components.
+     */
+    public long getInstantiationTime() {
+        return instantiationTime;
+    }
+
+    /**
+     * Returns the document time.
+     *
+     * @return
+     * The time spent reading and parsing markup, including that of included
+     * fragments. Included in the compile time.
+     */
+    public long getDocumentTime() {
+        return documentTime;
+    }
+
+    /**
+     * Returns the icon count.
+     *
+     * @return
+     * The number of icons that were created (excluding cache hits).
+     */
+    public int getIconCount() {
+        return iconCount;
+    }
+
+    /**
+     * Returns the icon time.
+     *
+     * @return
+     * The time spent creating icons and parsing their SVG documents. Shared
+     * icons are created when a document is compiled, and button icons each
+     * time it is instantiated, so this time is included in the compile and
+     * instantiation times, respectively.
+     */
+    public long getIconTime() {
+        return iconTime;
+    }
+
+    /**
+     * Returns the image count.
+     *
+     * @return
+     * The number of images that were decoded (excluding cache hits).
+     */
+    public synchronized int getImageCount() {
+        return imageCount;
+    }
+
+    /**
+     * Returns the image time.
+     *
+     * @return
+     * The time spent decoding images. Images decoded by the image executor
+     * are included when decoding completes, which may be after the profile
+     * has been reported.
+     */
+    public synchronized long getImageTime() {
+        return imageTime;
+    }
+
+    /**
+     * Returns the reflective call count.
+     *
+     * @return
+     * The number of property lookups, setter resolutions, and reflective
+     * setter invocations.
+     */
+    public int getReflectiveCallCount() {
+        return reflectiveCallCount;
+    }
+
+    /**
+     * Returns the tag timings. Each timing includes the time spent compiling
+     * and instantiating elements having the given tag, excluding their
+     * children.
+     *
+     * @return
+     * The tag timings, keyed by tag name.
+     */
+    public Map<String, Timing> getTagTimings() {
+        return Collections.unmodifiableMap(tagTimings);
+    }
+
+    /**
+     * Returns the attribute timings. Each timing includes the time spent
+     * resolving and applying attributes having the given name.
+     *
+     * @return
+     * The attribute timings, keyed by attribute name.
+     */
+    public Map<String, Timing> getAttributeTimings() {
+        return Collections.unmodifiableMap(attributeTimings);
+    }
+
+    void addCompileTime(long time) {
+        compileTime += time;
+    }
+
+    void addInstantiationTime(long time) {
+        instantiationTime += time;
+    }
+
+    void addDocumentTime(long time) {
+        documentTime += time;
+    }
+
+    void addIcon(long time) {
+        iconCount++;
+        iconTime += time;
+    }
+
+    synchronized void addImage(long time) {
+        imageCount++;
+        imageTime += time;
+    }
+
+    void addReflectiveCall() {
+        reflectiveCallCount++;
+    }
+
+    void addTagTime(String tag, long time) {
+        add(tagTimings, tag, time);
+    }
+
+    void addAttributeTime(String name, long time) {
+        add(attributeTimings, name, time);
+    }
+
+    private static void add(Map<String, Timing> timings, String key, long time) {
+        var timing = timings.computeIfAbsent(key, k -> new Timing());
+
+        timing.count++;
+        timing.time += time;
+    }
+}
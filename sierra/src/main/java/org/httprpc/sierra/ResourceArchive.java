@@ -0,0 +1,397 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Provides read access to an indexed archive of markup documents and
+ * assets. The archive is memory-mapped when opened; resources are located via
+ * an in-memory index and read directly from the mapped buffer.
+ */
+public class ResourceArchive {
+    private record Entry(int offset, int length) {
+    }
+
+    private static class BufferInputStream extends InputStream {
+        ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            var n = Math.min(length, buffer.remaining());
+
+            buffer.get(bytes, offset, n);
+
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            var count = (int)Math.max(Math.min(n, buffer.remaining()), 0);
+
+            buffer.position(buffer.position() + count);
+
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private class Handler extends URLStreamHandler {
+        @Override
+        protected URLConnection openConnection(URL url) throws IOException {
+            var name = getName(url);
+
+            if (!entries.containsKey(name)) {
+                throw new IOException(String.format("Resource not found (%s).", name));
+            }
+
+            return new URLConnection(url) {
+                @Override
+                public void connect() {
+                    connected = true;
+                }
+
+                @Override
+                public int getContentLength() {
+                    return entries.get(name).length();
+                }
+
+                @Override
+                public InputStream getInputStream() {
+                    return ResourceArchive.this.getInputStream(name);
+                }
+            };
+        }
+    }
+
+    private ByteBuffer buffer;
+    private Map<String, Entry> entries;
+
+    private String base;
+    private Handler handler = new Handler();
+
+    private static final int MAGIC = 0x53524131;
+
+    private static final String SCHEME = "sierra-archive";
+    private static final String SEPARATOR = "!/";
+
+    private ResourceArchive(ByteBuffer buffer, Map<String, Entry> entries, Path path) {
+        this.buffer = buffer;
+        this.entries = entries;
+
+        base = path.toUri() + SEPARATOR;
+    }
+
+    /**
+     * Opens a resource archive.
+     *
+     * @param path
+     * The path to the archive.
+     *
+     * @return
+     * The resource archive.
+     *
+     * @throws IOException
+     * If an exception occurs while opening the archive, or if the file is not
+     * a valid resource archive.
+     */
+    public static ResourceArchive open(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException();
+        }
+
+        ByteBuffer buffer;
+        try (var fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = fileChannel.size();
+
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Archive is too large.");
+            }
+
+            buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        var entries = new HashMap<String, Entry>();
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Invalid archive.");
+            }
+
+            var count = buffer.getInt();
+
+            for (var i = 0; i < count; i++) {
+                var nameBytes = new byte[buffer.getInt()];
+
+                buffer.get(nameBytes);
+
+                var name = new String(nameBytes, StandardCharsets.UTF_8);
+
+                var offset = buffer.getInt();
+                var length = buffer.getInt();
+
+                if (offset < 0 || length < 0 || offset > buffer.capacity() - length) {
+                    throw new IOException("Invalid archive.");
+                }
+
+                entries.put(name, new Entry(offset, length));
+            }
+        } catch (RuntimeException exception) {
+            throw new IOException("Invalid archive.", exception);
+        }
+
+        return new ResourceArchive(buffer, entries, path.toAbsolutePath());
+    }
+
+    /**
+     * Creates a resource archive containing all of the files in a directory.
+     * Resource names are the paths of the files relative to the directory,
+     * using "/" as a separator (for example,
+     * "com/example/GreetingTest.xml").
+     *
+     * @param directory
+     * The directory containing the resources to archive.
+     *
+     * @param path
+     * The path to the archive that will be created.
+     *
+     * @throws IOException
+     * If an exception occurs while creating the archive.
+     */
+    public static void create(Path directory, Path path) throws IOException {
+        if (directory == null || path == null) {
+            throw new IllegalArgumentException();
+        }
+
+        var files = new ArrayList<Path>();
+
+        try (var paths = Files.walk(directory)) {
+            paths.filter(Files::isRegularFile).sorted().forEach(files::add);
+        }
+
+        var names = new ArrayList<byte[]>(files.size());
+
+        var offset = 8L;
+
+        for (var file : files) {
+            var relativePath = directory.relativize(file);
+
+            var nameBuilder = new StringBuilder();
+
+            for (var element : relativePath) {
+                if (!nameBuilder.isEmpty()) {
+                    nameBuilder.append('/');
+                }
+
+                nameBuilder.append(element);
+            }
+
+            var name = nameBuilder.toString().getBytes(StandardCharsets.UTF_8);
+
+            names.add(name);
+
+            offset += 12 + name.length;
+        }
+
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        var index = new DataOutputStream(byteArrayOutputStream);
+
+        index.writeInt(MAGIC);
+        index.writeInt(files.size());
+
+        for (int i = 0, n = files.size(); i < n; i++) {
+            var name = names.get(i);
+
+            var length = Files.size(files.get(i));
+
+            if (offset + length > Integer.MAX_VALUE) {
+                throw new IOException("Archive is too large.");
+            }
+
+            index.writeInt(name.length);
+            index.write(name);
+            index.writeInt((int)offset);
+            index.writeInt((int)length);
+
+            offset += length;
+        }
+
+        try (var outputStream = Files.newOutputStream(path)) {
+            byteArrayOutputStream.writeTo(outputStream);
+
+            for (var file : files) {
+                copy(file, outputStream);
+            }
+        }
+    }
+
+    private static void copy(Path file, OutputStream outputStream) throws IOException {
+        try (var inputStream = Files.newInputStream(file)) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+
+    /**
+     * Returns the names of the resources in the archive.
+     *
+     * @return
+     * The resource names.
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Determines if the archive contains a resource.
+     *
+     * @param name
+     * The resource name.
+     *
+     * @return
+     * {@code true} if the archive contains the resource; {@code false},
+     * otherwise.
+     */
+    public boolean contains(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return entries.containsKey(name);
+    }
+
+    /**
+     * Returns the contents of a resource. The returned buffer is a read-only
+     * view of the mapped archive; no data is copied.
+     *
+     * @param name
+     * The resource name.
+     *
+     * @return
+     * The resource contents, or {@code null} if the archive does not contain
+     * the resource.
+     */
+    public ByteBuffer getBuffer(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException();
+        }
+
+        var entry = entries.get(name);
+
+        if (entry == null) {
+            return null;
+        }
+
+        return buffer.slice(entry.offset(), entry.length()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns an input stream for a resource.
+     *
+     * @param name
+     * The resource name.
+     *
+     * @return
+     * An input stream for reading the resource, or {@code null} if the
+     * archive does not contain the resource.
+     */
+    public InputStream getInputStream(String name) {
+        var buffer = getBuffer(name);
+
+        if (buffer == null) {
+            return null;
+        }
+
+        return new BufferInputStream(buffer);
+    }
+
+    /**
+     * Returns a URL for a resource. The URL can be used to read the resource
+     * for as long as the archive is referenced.
+     *
+     * @param name
+     * The resource name.
+     *
+     * @return
+     * The resource URL, or {@code null} if the archive does not contain the
+     * resource.
+     */
+    public URL getURL(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException();
+        }
+
+        if (!entries.containsKey(name)) {
+            return null;
+        }
+
+        try {
+            return URL.of(new URI(SCHEME, base + name, null), handler);
+        } catch (URISyntaxException | IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static String getName(URL url) {
+        String schemeSpecificPart;
+        try {
+            schemeSpecificPart = url.toURI().getSchemeSpecificPart();
+        } catch (URISyntaxException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        return schemeSpecificPart.substring(schemeSpecificPart.indexOf(SEPARATOR) + SEPARATOR.length());
+    }
+}
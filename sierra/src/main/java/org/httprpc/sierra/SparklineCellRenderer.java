@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra;
+
+import org.httprpc.sierra.charts.SparklineChart;
+
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.table.TableCellRenderer;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+/**
+ * Renders a table cell value as a sparkline. Cell values are expected to be
+ * instances of {@code double[]}. A single chart instance is shared by all
+ * cells.
+ */
+public class SparklineCellRenderer extends JComponent implements TableCellRenderer {
+    private SparklineChart chart = new SparklineChart();
+
+    private static final double[] emptyValues = new double[0];
+
+    private static final int PADDING = 2;
+
+    /**
+     * Constructs a new sparkline cell renderer.
+     */
+    public SparklineCellRenderer() {
+        setBorder(BorderFactory.createEmptyBorder(PADDING, PADDING, PADDING, PADDING));
+
+        setOpaque(true);
+    }
+
+    /**
+     * Returns the chart used to draw the sparklines.
+     *
+     * @return
+     * The sparkline chart.
+     */
+    public SparklineChart getChart() {
+        return chart;
+    }
+
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value, boolean selected, boolean hasFocus, int row, int column) {
+        if (selected) {
+            setBackground(table.getSelectionBackground());
+        } else {
+            setBackground(table.getBackground());
+        }
+
+        chart.setValues((value instanceof double[] values) ? values : emptyValues);
+
+        return this;
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        var width = getWidth();
+        var height = getHeight();
+
+        if (isOpaque()) {
+            graphics.setColor(getBackground());
+            graphics.fillRect(0, 0, width, height);
+        }
+
+        var insets = getInsets();
+
+        chart.setSize(Math.max(width - (insets.left + insets.right), 0), Math.max(height - (insets.top + insets.bottom), 0));
+
+        var chartGraphics = (Graphics2D)graphics.create();
+
+        chartGraphics.translate(insets.left, insets.top);
+
+        chart.draw(chartGraphics);
+
+        chartGraphics.dispose();
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    public void invalidate() {
+        // No-op
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    public void validate() {
+        // No-op
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    public void revalidate() {
+        // No-op
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    public void repaint(long time, int x, int y, int width, int height) {
+        // No-op
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    public void repaint(Rectangle bounds) {
+        // No-op
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    public void repaint() {
+        // No-op
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
+        // No-op
+    }
+
+    /**
+     * Overridden for performance reasons.
+     */
+    @Override
+    public void firePropertyChange(String propertyName, boolean oldValue, boolean newValue) {
+        // No-op
+    }
+}
@@ -18,12 +18,15 @@ import javax.swing.JComponent;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
 import java.awt.font.GlyphVector;
 import java.text.StringCharacterIterator;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Displays a string of text.
@@ -117,6 +120,11 @@ public class TextPane extends JComponent {
 
     private List<GlyphVector> glyphVectors = new ArrayList<>();
 
+    private String layoutText = null;
+    private Font layoutFont = null;
+    private int layoutWidth = 0;
+    private FontRenderContext layoutFontRenderContext = null;
+
     /**
      * Constructs a new text pane.
      */
@@ -217,12 +225,6 @@ public class TextPane extends JComponent {
 
     @Override
     public void doLayout() {
-        glyphVectors.clear();
-
-        if (text == null) {
-            return;
-        }
-
         var insets = getInsets();
 
         var width = Math.max(getWidth() - (insets.left + insets.right), 0);
@@ -230,6 +232,24 @@ public class TextPane extends JComponent {
         var font = getFont();
         var fontRenderContext = getFontMetrics(font).getFontRenderContext();
 
+        if (Objects.equals(text, layoutText)
+            && font.equals(layoutFont)
+            && width == layoutWidth
+            && fontRenderContext.equals(layoutFontRenderContext)) {
+            return;
+        }
+
+        layoutText = text;
+        layoutFont = font;
+        layoutWidth = width;
+        layoutFontRenderContext = fontRenderContext;
+
+        glyphVectors.clear();
+
+        if (text == null) {
+            return;
+        }
+
         if (width == 0) {
             glyphVectors.add(font.createGlyphVector(fontRenderContext, text));
         } else {
@@ -18,6 +18,7 @@ import com.formdev.flatlaf.extras.FlatSVGIcon;
 import org.httprpc.kilo.beans.BeanAdapter;
 
 import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import javax.swing.AbstractButton;
 import javax.swing.ButtonGroup;
 import javax.swing.Icon;
@@ -33,6 +34,7 @@ import javax.swing.JList;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
+import javax.swing.JPanel;
 import javax.swing.JPasswordField;
 import javax.swing.JPopupMenu;
 import javax.swing.JProgressBar;
@@ -54,14 +56,16 @@ import javax.swing.KeyStroke;
 import javax.swing.ListSelectionModel;
 import javax.swing.ScrollPaneConstants;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 import javax.swing.tree.TreeSelectionModel;
-import javax.xml.stream.Location;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
@@ -79,23 +83,41 @@ import java.awt.RenderingHints;
 import java.awt.Toolkit;
 import java.awt.event.KeyEvent;
 import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -194,6 +216,16 @@ public class UILoader {
          */
         TAB_ICON("tabIcon", String.class),
 
+        /**
+         * Lazy attribute.
+         */
+        LAZY("lazy", Boolean.class),
+
+        /**
+         * Source attribute.
+         */
+        SOURCE("source", String.class),
+
         /**
          * Style attribute.
          */
@@ -1008,63 +1040,352 @@ public class UILoader {
         }
     }
 
+    private record ResourceKey(String url, Dimension size, Class<?> mapperType) {
+    }
+
+    private record FragmentKey(Class<?> ownerType, String url, ResourceBundle resourceBundle) {
+    }
+
+    private static class ResourceCache {
+        int capacity = DEFAULT_CACHE_CAPACITY;
+
+        long hitCount = 0;
+        long missCount = 0;
+
+        Map<ResourceKey, SoftReference<Object>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ResourceKey, SoftReference<Object>> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        synchronized Object get(ResourceKey key) {
+            var value = map(entries.get(key), SoftReference::get);
+
+            if (value == null) {
+                entries.remove(key);
+
+                missCount++;
+            } else {
+                hitCount++;
+            }
+
+            return value;
+        }
+
+        synchronized void put(ResourceKey key, Object value) {
+            entries.put(key, new SoftReference<>(value));
+        }
+
+        synchronized void setCapacity(int capacity) {
+            this.capacity = capacity;
+
+            var iterator = entries.values().iterator();
+
+            while (entries.size() > capacity) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        synchronized void clear() {
+            entries.clear();
+
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
     private static class LoadException extends RuntimeException {
-        Location location;
+        int lineNumber;
 
-        LoadException(RuntimeException exception, Location location) {
+        LoadException(RuntimeException exception, int lineNumber) {
             super(exception);
 
-            this.location = location;
+            this.lineNumber = lineNumber;
         }
 
         LoadException(Exception exception) {
             super(exception);
 
-            location = null;
+            lineNumber = -1;
         }
 
         @Override
         public String getMessage() {
             var message = getCause().getMessage();
 
-            if (location == null) {
+            if (lineNumber == -1) {
                 return message;
             } else {
-                var lineNumber = location.getLineNumber();
+                return String.format("[Line %d] %s", lineNumber, message);
+            }
+        }
+    }
 
-                if (lineNumber == -1) {
-                    return message;
-                } else {
-                    return String.format("[Line %d] %s", lineNumber, message);
+    private interface Operation {
+        void apply(JComponent component, Context context);
+    }
+
+    private static class Context {
+        Object owner;
+        LoadProfile profile;
+
+        Map<String, ButtonGroup> groups = new HashMap<>();
+
+        Context(Object owner, LoadProfile profile) {
+            this.owner = owner;
+            this.profile = profile;
+        }
+
+        void invoke(MethodHandle setter, Object target, Object argument) {
+            if (profile != null) {
+                profile.addReflectiveCall();
+            }
+
+            UILoader.invoke(setter, target, argument);
+        }
+    }
+
+    private static class Element {
+        int lineNumber;
+        String tag;
+
+        Supplier<? extends JComponent> supplier = null;
+
+        List<Operation> operations = new ArrayList<>();
+        List<String> attributeNames = new ArrayList<>();
+
+        Supplier<Border> border = null;
+
+        Object constraints = null;
+
+        String tabTitle = null;
+        Icon tabIcon = null;
+
+        boolean lazy = false;
+
+        String source = null;
+        Element fragment = null;
+
+        List<Element> children = new ArrayList<>();
+
+        Element(int lineNumber, String tag) {
+            this.lineNumber = lineNumber;
+            this.tag = tag;
+        }
+
+        JComponent instantiate(JComponent parent, Context context) {
+            if (lazy && parent instanceof JTabbedPane tabbedPane) {
+                defer(tabbedPane, context);
+
+                return null;
+            }
+
+            return instantiate(parent, context, this);
+        }
+
+        JComponent instantiate(JComponent parent, Context context, Element placement) {
+            if (fragment != null) {
+                // The outermost include element determines how the fragment's root is placed within the parent
+                try {
+                    return fragment.instantiate(parent, context, placement);
+                } catch (LoadException exception) {
+                    throw new LoadException(new UnsupportedOperationException(String.format("%s: %s", source, exception.getMessage()), exception), lineNumber);
+                }
+            }
+
+            var profile = context.profile;
+
+            var start = (profile == null) ? 0 : System.nanoTime();
+
+            JComponent component;
+            try {
+                component = supplier.get();
+
+                if (component instanceof JSplitPane splitPane) {
+                    splitPane.setLeftComponent(null);
+                    splitPane.setRightComponent(null);
+                }
+
+                // Templates compiled without profiling do not record attribute names
+                var timeAttributes = (profile != null && attributeNames.size() == operations.size());
+
+                for (int i = 0, n = operations.size(); i < n; i++) {
+                    if (!timeAttributes) {
+                        operations.get(i).apply(component, context);
+                    } else {
+                        var operationStart = System.nanoTime();
+
+                        operations.get(i).apply(component, context);
+
+                        profile.addAttributeTime(attributeNames.get(i), System.nanoTime() - operationStart);
+                    }
+                }
+
+                if (border != null) {
+                    component.setBorder(border.get());
+                }
+
+                if (parent != null) {
+                    if (parent instanceof LayoutPanel) {
+                        parent.add(component, placement.constraints);
+                    } else if (parent instanceof JScrollPane scrollPane) {
+                        scrollPane.setViewportView(component);
+                    } else if (parent instanceof JSplitPane splitPane) {
+                        if (splitPane.getLeftComponent() == null) {
+                            splitPane.setLeftComponent(component);
+                        } else if (splitPane.getRightComponent() == null) {
+                            splitPane.setRightComponent(component);
+                        } else {
+                            throw new UnsupportedOperationException("Unexpected split pane content.");
+                        }
+                    } else if (parent instanceof JTabbedPane tabbedPane) {
+                        tabbedPane.addTab(placement.tabTitle, placement.tabIcon, component);
+                    } else if (parent instanceof JToolBar
+                        || parent instanceof JMenuBar
+                        || parent instanceof JMenu
+                        || parent instanceof MenuButton) {
+                        parent.add(component);
+                    } else {
+                        throw new UnsupportedOperationException("Invalid parent type.");
+                    }
+                }
+            } catch (RuntimeException exception) {
+                throw new LoadException(exception, lineNumber);
+            }
+
+            if (profile != null) {
+                profile.addTagTime(tag, System.nanoTime() - start);
+            }
+
+            for (var child : children) {
+                child.instantiate(component, context);
+            }
+
+            return component;
+        }
+
+        void defer(JTabbedPane tabbedPane, Context context) {
+            var placeholder = new JPanel();
+
+            // The load's profile may already have been reported by the time the tab is selected
+            var deferredContext = new Context(context.owner, null);
+
+            deferredContext.groups = context.groups;
+
+            tabbedPane.addTab(tabTitle, tabIcon, placeholder);
+
+            var changeListener = new ChangeListener() {
+                @Override
+                public void stateChanged(ChangeEvent event) {
+                    if (tabbedPane.getSelectedComponent() != placeholder) {
+                        return;
+                    }
+
+                    tabbedPane.removeChangeListener(this);
+
+                    // Instantiate the content as a standalone hierarchy, then swap it in for the placeholder
+                    tabbedPane.setComponentAt(tabbedPane.indexOfComponent(placeholder), instantiate(null, deferredContext));
                 }
+            };
+
+            tabbedPane.addChangeListener(changeListener);
+
+            changeListener.stateChanged(new ChangeEvent(tabbedPane));
+        }
+    }
+
+    /**
+     * Compiled markup document. Attribute values are parsed and property
+     * setters resolved when the document is compiled, so a template can be
+     * instantiated repeatedly without re-reading the document.
+     */
+    public static class Template {
+        private Class<?> ownerType;
+        private String name;
+
+        private Element root;
+
+        private Template(Class<?> ownerType, String name, Element root) {
+            this.ownerType = ownerType;
+            this.name = name;
+
+            this.root = root;
+        }
+
+        /**
+         * Instantiates the template.
+         *
+         * @param owner
+         * The document's owner. Must be an instance of the type of the owner
+         * the template was compiled with.
+         *
+         * @return
+         * The instantiated component hierarchy.
+         */
+        public JComponent instantiate(Object owner) {
+            if (owner == null || !ownerType.isInstance(owner)) {
+                throw new IllegalArgumentException();
             }
+
+            var profile = createProfile(name);
+
+            var component = UILoader.instantiate(root, owner, profile);
+
+            report(profile);
+
+            return component;
         }
     }
 
-    private Object owner;
+    private Class<?> ownerType;
     private String name;
     private ResourceBundle resourceBundle;
 
     private Path path;
 
     private Map<String, Field> fields = new HashMap<>();
-    private Map<String, ButtonGroup> groups = new HashMap<>();
 
-    private Map<String, Icon> icons = new HashMap<>();
-    private Map<String, Image> images = new HashMap<>();
+    private Deque<Element> elements = new LinkedList<>();
+
+    private Element root = null;
+
+    private Set<String> includes = new HashSet<>();
 
-    private Deque<JComponent> components = new LinkedList<>();
+    private LoadProfile profile;
 
-    private JComponent root = null;
+    private static final MethodType setterType = MethodType.methodType(Void.TYPE, Object.class, Object.class);
 
-    private static final Map<String, Class<? extends JComponent>> types = new HashMap<>();
-    private static final Map<String, Supplier<? extends JComponent>> suppliers = new HashMap<>();
+    // Documents may be compiled off the event dispatch thread while tags, colors, or fonts are being defined
+    private static final Map<String, Class<? extends JComponent>> types = new ConcurrentHashMap<>();
+    private static final Map<String, Supplier<? extends JComponent>> suppliers = new ConcurrentHashMap<>();
 
-    private static final Map<String, Color> colors = new HashMap<>();
-    private static final Map<String, Font> fonts = new HashMap<>();
+    private static final Map<String, Color> colors = new ConcurrentHashMap<>();
+    private static final Map<String, Font> fonts = new ConcurrentHashMap<>();
 
     private static final Map<String, Integer> keyCodes = new HashMap<>();
 
+    private static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    private static final ResourceCache resourceCache = new ResourceCache();
+
+    private static final Map<ResourceKey, CompletableFuture<Image>> pendingImages = new ConcurrentHashMap<>();
+
+    private static final IndexColorModel placeholderColorModel = new IndexColorModel(1, 2, new byte[2], new byte[2], new byte[2], 0);
+
+    private static volatile Executor imageExecutor = null;
+
+    private static volatile Consumer<LoadProfile> profileHandler = null;
+
+    private static final Executor loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final String INCLUDE_TAG = "include";
+
+    private static final Map<FragmentKey, Element> fragments = new ConcurrentHashMap<>();
+
+    private static final List<ResourceArchive> archives = new CopyOnWriteArrayList<>();
+
     static {
         bind("label", JLabel.class, JLabel::new);
         bind("button", JButton.class, JButton::new);
@@ -1294,19 +1615,33 @@ public class UILoader {
         }
     }
 
-    private UILoader(Object owner, String name, ResourceBundle resourceBundle) {
-        this.owner = owner;
+    static {
+        // Cached fragments are shared by every document that includes them, so they are discarded when the look and
+        // feel changes rather than being reused with state derived from the previous one
+        UIManager.addPropertyChangeListener(event -> {
+            if (event.getPropertyName().equals("lookAndFeel")) {
+                fragments.clear();
+            }
+        });
+    }
+
+    private UILoader(Class<?> ownerType, String name, ResourceBundle resourceBundle, LoadProfile profile) {
+        this.ownerType = ownerType;
         this.name = name;
         this.resourceBundle = resourceBundle;
+        this.profile = profile;
     }
 
-    private UILoader(Path path) {
+    private UILoader(Path path, LoadProfile profile) {
         this.path = path;
+        this.profile = profile;
     }
 
-    private JComponent load() {
-        if (owner != null) {
-            var fields = owner.getClass().getDeclaredFields();
+    private Element compile() {
+        if (ownerType != null) {
+            countReflectiveCall();
+
+            var fields = ownerType.getDeclaredFields();
 
             for (var i = 0; i < fields.length; i++) {
                 var field = fields[i];
@@ -1323,6 +1658,8 @@ public class UILoader {
         xmlInputFactory.setProperty("javax.xml.stream.isSupportingExternalEntities", false);
         xmlInputFactory.setProperty("javax.xml.stream.supportDTD", false);
 
+        var documentStart = (profile == null) ? 0 : System.nanoTime();
+
         try (var inputStream = open()) {
             if (inputStream == null) {
                 throw new UnsupportedOperationException("Named resource does not exist.");
@@ -1330,13 +1667,33 @@ public class UILoader {
 
             var xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
 
+            endDocumentRead(documentStart);
+
             while (xmlStreamReader.hasNext()) {
-                switch (xmlStreamReader.next()) {
+                // Only reading is timed here; included fragments record their own document time
+                var readStart = (profile == null) ? 0 : System.nanoTime();
+
+                var event = xmlStreamReader.next();
+
+                endDocumentRead(readStart);
+
+                switch (event) {
                     case XMLStreamConstants.START_ELEMENT -> {
+                        var lineNumber = xmlStreamReader.getLocation().getLineNumber();
+
+                        var start = (profile == null) ? 0 : System.nanoTime();
+
                         try {
-                            processStartElement(xmlStreamReader);
+                            processStartElement(xmlStreamReader, lineNumber);
                         } catch (RuntimeException exception) {
-                            throw new LoadException(exception, xmlStreamReader.getLocation());
+                            throw new LoadException(exception, lineNumber);
+                        }
+
+                        // Include elements are not timed, since their fragments' elements are timed individually
+                        var tag = xmlStreamReader.getLocalName();
+
+                        if (profile != null && !tag.equals(INCLUDE_TAG)) {
+                            profile.addTagTime(tag, System.nanoTime() - start);
                         }
                     }
                     case XMLStreamConstants.END_ELEMENT -> processEndElement();
@@ -1349,135 +1706,170 @@ public class UILoader {
         return root;
     }
 
+    private void endDocumentRead(long start) {
+        if (profile != null) {
+            profile.addDocumentTime(System.nanoTime() - start);
+        }
+    }
+
     private InputStream open() throws IOException {
-        if (owner != null) {
-            return owner.getClass().getResourceAsStream(name);
+        if (ownerType != null) {
+            var resourceName = getResourceName(ownerType, name);
+
+            for (var archive : archives) {
+                var inputStream = archive.getInputStream(resourceName);
+
+                if (inputStream != null) {
+                    return inputStream;
+                }
+            }
+
+            return ownerType.getResourceAsStream(name);
         } else {
             return path.toUri().toURL().openStream();
         }
     }
 
-    private void processStartElement(XMLStreamReader xmlStreamReader) {
+    private void processStartElement(XMLStreamReader xmlStreamReader, int lineNumber) {
+        var parent = elements.peek();
+
+        if (parent != null && parent.fragment != null) {
+            throw new UnsupportedOperationException("Include elements cannot have content.");
+        }
+
         var tag = xmlStreamReader.getLocalName();
 
+        if (tag.equals(INCLUDE_TAG)) {
+            processInclude(xmlStreamReader, lineNumber);
+
+            return;
+        }
+
         var type = types.get(tag);
 
-        JComponent component;
+        var element = new Element(lineNumber, tag);
+
         if (type == null) {
             if (path == null) {
                 throw new UnsupportedOperationException(String.format("Invalid tag (%s).", tag));
             }
 
-            var label = new JLabel(UIManager.getIcon("OptionPane.warningIcon"), SwingConstants.CENTER);
+            element.supplier = () -> {
+                var label = new JLabel(UIManager.getIcon("OptionPane.warningIcon"), SwingConstants.CENTER);
 
-            label.setHorizontalTextPosition(SwingConstants.CENTER);
-            label.setVerticalTextPosition(SwingConstants.BOTTOM);
-            label.setIconTextGap(0);
+                label.setHorizontalTextPosition(SwingConstants.CENTER);
+                label.setVerticalTextPosition(SwingConstants.BOTTOM);
+                label.setIconTextGap(0);
 
-            label.setText(tag);
+                label.setText(tag);
 
-            component = label;
+                return label;
+            };
         } else {
-            component = suppliers.get(tag).get();
-        }
-
-        if (component instanceof JSplitPane splitPane) {
-            splitPane.setLeftComponent(null);
-            splitPane.setRightComponent(null);
+            element.supplier = suppliers.get(tag);
         }
 
         String title = null;
 
-        Color titleColor = null;
-        Font titleFont = null;
+        String titleColor = null;
+        String titleFont = null;
 
         var titleJustification = TitledBorder.DEFAULT_JUSTIFICATION;
         var titlePosition = TitledBorder.DEFAULT_POSITION;
 
-        Border outsideBorder = null;
+        String outsideBorder = null;
         EmptyBorder insideBorder = null;
 
-        Object constraints = null;
-
-        String tabTitle = null;
-        Icon tabIcon = null;
+        if (type != null) {
+            countReflectiveCall();
+        }
 
         var properties = map(type, BeanAdapter::getProperties);
 
+        var operations = element.operations;
+
+        String attributeName = null;
+        var attributeStart = 0L;
+
         for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
             var name = xmlStreamReader.getAttributeLocalName(i);
             var value = xmlStreamReader.getAttributeValue(i);
 
+            attributeStart = endAttribute(element, attributeName, attributeStart);
+            attributeName = name;
+
             if (name.equals(Attribute.NAME.getName())) {
-                component.setName(value);
+                var field = fields.get(value);
+
+                if (field != null) {
+                    countReflectiveCall();
+                }
 
-                perform(fields.get(value), field -> {
-                    field.setAccessible(true);
+                var outlet = map(field, UILoader::getSetter);
 
-                    try {
-                        field.set(owner, component);
-                    } catch (IllegalAccessException exception) {
-                        throw new UnsupportedOperationException(exception);
+                operations.add((component, context) -> {
+                    component.setName(value);
+
+                    if (outlet != null) {
+                        context.invoke(outlet, context.owner, component);
                     }
                 });
             } else if (name.equals(Attribute.TITLE.getName())) {
                 title = getText(value);
             } else if (name.equals(Attribute.TITLE_COLOR.getName())) {
-                titleColor = parseColor(value);
+                titleColor = value;
             } else if (name.equals(Attribute.TITLE_FONT.getName())) {
-                titleFont = parseFont(value);
+                titleFont = value;
             } else if (name.equals(Attribute.TITLE_JUSTIFICATION.getName())) {
                 titleJustification = getValue(value, TitleJustification.values());
             } else if (name.equals(Attribute.TITLE_POSITION.getName())) {
                 titlePosition = getValue(value, TitlePosition.values());
             } else if (name.equals(Attribute.BORDER.getName())) {
-                outsideBorder = parseBorder(value);
+                outsideBorder = value;
             } else if (name.equals(Attribute.PADDING.getName())) {
                 insideBorder = parsePadding(value);
             } else if (name.equals(Attribute.WIDTH.getName())) {
-                component.setPreferredSize(new Dimension(Integer.parseInt(value), 0));
+                var width = Integer.parseInt(value);
+
+                operations.add((component, context) -> component.setPreferredSize(new Dimension(width, 0)));
             } else if (name.equals(Attribute.HEIGHT.getName())) {
-                component.setPreferredSize(new Dimension(0, Integer.parseInt(value)));
+                var height = Integer.parseInt(value);
+
+                operations.add((component, context) -> component.setPreferredSize(new Dimension(0, height)));
             } else if (name.equals(Attribute.SIZE.getName())) {
-                component.setPreferredSize(parseSize(value));
+                var size = parseSize(value);
+
+                operations.add((component, context) -> component.setPreferredSize(new Dimension(size)));
             } else if (name.equals(Attribute.WEIGHT.getName())) {
-                constraints = Double.parseDouble(value);
+                element.constraints = Double.parseDouble(value);
             } else if (name.equals(Attribute.LABEL.getName())) {
-                constraints = getText(value);
+                element.constraints = getText(value);
             } else if (name.equals(Attribute.COLUMN_SPAN.getName())) {
-                constraints = Integer.parseInt(value);
+                element.constraints = Integer.parseInt(value);
             } else if (name.equals(Attribute.GROUP.getName())) {
                 if (type == null) {
                     continue;
                 }
 
-                if (!(component instanceof AbstractButton button)) {
+                if (!AbstractButton.class.isAssignableFrom(type)) {
                     throw new UnsupportedOperationException("Component is not a button.");
                 }
 
-                groups.computeIfAbsent(value, key -> new ButtonGroup()).add(button);
+                operations.add((component, context) -> context.groups.computeIfAbsent(value, key -> new ButtonGroup()).add((AbstractButton)component));
             } else if (name.equals(Attribute.TAB_TITLE.getName())) {
-                tabTitle = getText(value);
+                element.tabTitle = getText(value);
             } else if (name.equals(Attribute.TAB_ICON.getName())) {
-                tabIcon = getIcon(value);
-
-                if (tabIcon instanceof FlatSVGIcon flatSVGIcon) {
-                    flatSVGIcon.setColorFilter(new FlatSVGIcon.ColorFilter(new TabbedPaneColorMapper()));
-                }
+                element.tabIcon = getIcon(value, new TabbedPaneColorMapper());
+            } else if (name.equals(Attribute.LAZY.getName())) {
+                element.lazy = Boolean.parseBoolean(value);
             } else if (name.equals(Attribute.STYLE.getName()) || name.equals(Attribute.STYLE_CLASS.getName())) {
-                component.putClientProperty(String.format("FlatLaf.%s", name), value);
+                putClientProperty(operations, String.format("FlatLaf.%s", name), value);
             } else if (name.equals(Attribute.PLACEHOLDER_TEXT.getName())) {
-                component.putClientProperty(String.format("%s.%s", JTextField.class.getSimpleName(), name), getText(value));
+                putClientProperty(operations, String.format("%s.%s", JTextField.class.getSimpleName(), name), getText(value));
             } else if (name.equals(Attribute.SHOW_CLEAR_BUTTON.getName())) {
-                component.putClientProperty(String.format("%s.%s", JTextField.class.getSimpleName(), name), Boolean.valueOf(value));
+                putClientProperty(operations, String.format("%s.%s", JTextField.class.getSimpleName(), name), Boolean.valueOf(value));
             } else if (name.equals(Attribute.LEADING_ICON.getName()) || name.equals(Attribute.TRAILING_ICON.getName())) {
-                var icon = getIcon(value);
-
-                if (icon instanceof FlatSVGIcon flatSVGIcon) {
-                    flatSVGIcon.setColorFilter(new FlatSVGIcon.ColorFilter(new TextFieldColorMapper()));
-                }
-
-                component.putClientProperty(String.format("%s.%s", JTextField.class.getSimpleName(), name), icon);
+                putClientProperty(operations, String.format("%s.%s", JTextField.class.getSimpleName(), name), getIcon(value, new TextFieldColorMapper()));
             } else {
                 if (type == null) {
                     continue;
@@ -1489,6 +1881,10 @@ public class UILoader {
                     throw new UnsupportedOperationException(String.format("Invalid attribute name (%s).", name));
                 }
 
+                countReflectiveCall();
+
+                var setter = getSetter(mutator);
+
                 var propertyType = mutator.getParameterTypes()[0];
 
                 Object argument;
@@ -1502,7 +1898,7 @@ public class UILoader {
                     } else if (name.equals(Attribute.ORIENTATION.getName())) {
                         argument = getValue(value, Orientation.values());
 
-                        if (component instanceof JSplitPane) {
+                        if (JSplitPane.class.isAssignableFrom(type)) {
                             argument = switch ((int)argument) {
                                 case SwingConstants.HORIZONTAL -> JSplitPane.HORIZONTAL_SPLIT;
                                 case SwingConstants.VERTICAL -> JSplitPane.VERTICAL_SPLIT;
@@ -1531,34 +1927,44 @@ public class UILoader {
                 } else if (propertyType == String.class) {
                     argument = getText(value);
                 } else if (propertyType == Color.class) {
-                    argument = parseColor(value);
+                    operations.add((component, context) -> context.invoke(setter, component, parseColor(value)));
+
+                    continue;
                 } else if (propertyType == Font.class) {
-                    argument = parseFont(value);
+                    operations.add((component, context) -> context.invoke(setter, component, parseFont(value)));
+
+                    continue;
                 } else if (propertyType == Icon.class) {
-                    var icon = getIcon(value);
-
-                    if (icon instanceof FlatSVGIcon flatSVGIcon) {
-                        Function<Color, Color> mapper;
-                        if (component instanceof JLabel) {
-                            mapper = new LabelColorMapper();
-                        } else if (component instanceof JButton button) {
-                            mapper = new ButtonColorMapper(button);
-                        } else if (component instanceof JToggleButton toggleButton) {
-                            mapper = new ToggleButtonColorMapper(toggleButton);
-                        } else if (component instanceof JMenuItem menuItem) {
-                            mapper = new MenuItemColorMapper(menuItem);
-                        } else {
-                            mapper = null;
-                        }
+                    if (AbstractButton.class.isAssignableFrom(type)) {
+                        // Button color mappers depend on the state of the component, so each instance requires its own icon
+                        var components = value.split(";");
 
-                        if (mapper != null) {
-                            flatSVGIcon.setColorFilter(new FlatSVGIcon.ColorFilter(mapper));
-                        }
+                        var url = getURL(components[0].trim());
+                        var size = (components.length > 1) ? parseSize(components[1]) : null;
+
+                        operations.add((component, context) -> context.invoke(setter, component, createIcon(url, size, getColorMapper(component), context.profile)));
+
+                        continue;
                     }
 
-                    argument = icon;
+                    argument = getIcon(value, JLabel.class.isAssignableFrom(type) ? new LabelColorMapper() : null);
                 } else if (propertyType == Image.class) {
-                    argument = getImage(value);
+                    var url = getURL(value.trim());
+
+                    // The executor is consulted when the component is instantiated; here, it only determines whether
+                    // the image is decoded up front or just its dimensions are read for use by the placeholder
+                    Dimension size;
+                    if (imageExecutor == null) {
+                        var image = getImage(url);
+
+                        size = (image == null) ? null : new Dimension(image.getWidth(null), image.getHeight(null));
+                    } else {
+                        size = readImageSize(url);
+                    }
+
+                    operations.add((component, context) -> loadImage(url, size, setter, component, context.profile));
+
+                    continue;
                 } else if (propertyType == KeyStroke.class) {
                     var keyCode = keyCodes.get(value);
 
@@ -1568,119 +1974,392 @@ public class UILoader {
 
                     var modifiers = 0;
 
-                    if (component instanceof JMenuItem) {
+                    if (JMenuItem.class.isAssignableFrom(type)) {
                         modifiers |= Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx();
                     }
 
                     argument = KeyStroke.getKeyStroke(keyCode, modifiers);
+                } else if (Enum.class.isAssignableFrom(propertyType)) {
+                    argument = BeanAdapter.coerce(value.toUpperCase().replace('-', '_'), propertyType);
                 } else {
-                    if (Enum.class.isAssignableFrom(propertyType)) {
-                        value = value.toUpperCase().replace('-', '_');
-                    }
-
                     argument = BeanAdapter.coerce(value, propertyType);
                 }
 
-                try {
-                    mutator.invoke(component, argument);
-                } catch (IllegalAccessException | InvocationTargetException exception) {
-                    throw new UnsupportedOperationException(exception);
-                }
-            }
-        }
-
-        Border border;
-        if (title != null) {
-            var titledBorder = new TitledBorder(outsideBorder, title);
-
-            titledBorder.setTitleColor(titleColor);
-            titledBorder.setTitleFont(titleFont);
-
-            if (titleJustification != TitledBorder.DEFAULT_JUSTIFICATION) {
-                titledBorder.setTitleJustification(titleJustification);
+                setProperty(operations, setter, argument);
             }
-
-            if (titlePosition != TitledBorder.DEFAULT_POSITION) {
-                titledBorder.setTitlePosition(titlePosition);
-            }
-
-            border = new CompoundBorder(titledBorder, insideBorder);
-        } else if (outsideBorder != null) {
-            border = new CompoundBorder(outsideBorder, insideBorder);
-        } else {
-            border = insideBorder;
         }
 
-        if (border != null) {
-            component.setBorder(border);
-        }
+        endAttribute(element, attributeName, attributeStart);
 
-        var parent = components.peek();
+        element.border = getBorder(title, titleColor, titleFont, titleJustification, titlePosition, outsideBorder, insideBorder);
 
         if (parent != null) {
-            if (parent instanceof LayoutPanel) {
-                parent.add(component, constraints);
-            } else if (parent instanceof JScrollPane scrollPane) {
-                scrollPane.setViewportView(component);
-            } else if (parent instanceof JSplitPane splitPane) {
-                if (splitPane.getLeftComponent() == null) {
-                    splitPane.setLeftComponent(component);
-                } else if (splitPane.getRightComponent() == null) {
-                    splitPane.setRightComponent(component);
-                } else {
-                    throw new UnsupportedOperationException("Unexpected split pane content.");
-                }
-            } else if (parent instanceof JTabbedPane tabbedPane) {
-                tabbedPane.addTab(tabTitle, tabIcon, component);
-            } else if (parent instanceof JToolBar
-                || parent instanceof JMenuBar
-                || parent instanceof JMenu
-                || parent instanceof MenuButton) {
-                parent.add(component);
-            } else {
-                throw new UnsupportedOperationException("Invalid parent type.");
-            }
+            parent.children.add(element);
         }
 
-        components.push(component);
+        elements.push(element);
     }
 
-    private String getText(String value) {
-        if (resourceBundle == null) {
-            return value;
-        } else {
-            var key = value.trim();
+    private void processInclude(XMLStreamReader xmlStreamReader, int lineNumber) {
+        String source = null;
 
-            if (key.isEmpty()) {
-                throw new IllegalArgumentException("Invalid resource key.");
-            }
+        Object constraints = null;
 
-            return resourceBundle.getString(key);
-        }
-    }
+        String tabTitle = null;
+        Icon tabIcon = null;
 
-    private Icon getIcon(String value) {
-        var components = value.split(";");
+        Boolean lazy = null;
 
-        var icon = icons.computeIfAbsent(components[0].trim(), key -> new FlatSVGIcon(getURL(key)));
+        for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
+            var name = xmlStreamReader.getAttributeLocalName(i);
+            var value = xmlStreamReader.getAttributeValue(i);
 
-        if (components.length > 1) {
-            var size = parseSize(components[1]);
+            if (name.equals(Attribute.SOURCE.getName())) {
+                source = value.trim();
+            } else if (name.equals(Attribute.WEIGHT.getName())) {
+                constraints = Double.parseDouble(value);
+            } else if (name.equals(Attribute.LABEL.getName())) {
+                constraints = getText(value);
+            } else if (name.equals(Attribute.COLUMN_SPAN.getName())) {
+                constraints = Integer.parseInt(value);
+            } else if (name.equals(Attribute.TAB_TITLE.getName())) {
+                tabTitle = getText(value);
+            } else if (name.equals(Attribute.TAB_ICON.getName())) {
+                tabIcon = getIcon(value, new TabbedPaneColorMapper());
+            } else if (name.equals(Attribute.LAZY.getName())) {
+                lazy = Boolean.valueOf(value);
+            } else {
+                throw new UnsupportedOperationException(String.format("Invalid attribute name (%s).", name));
+            }
+        }
 
-            icon = ((FlatSVGIcon)icon).derive(size.width, size.height);
+        if (source == null) {
+            throw new UnsupportedOperationException("Source is required.");
         }
 
-        return icon;
+        var element = new Element(lineNumber, INCLUDE_TAG);
+
+        var fragment = getFragment(source);
+
+        element.source = source;
+        element.fragment = fragment;
+
+        // Placement attributes specified by the include element take precedence over those of the fragment's root
+        element.constraints = coalesce(constraints, () -> fragment.constraints);
+
+        element.tabTitle = coalesce(tabTitle, () -> fragment.tabTitle);
+        element.tabIcon = coalesce(tabIcon, () -> fragment.tabIcon);
+
+        element.lazy = coalesce(lazy, () -> fragment.lazy);
+
+        var parent = elements.peek();
+
+        if (parent != null) {
+            parent.children.add(element);
+        }
+
+        elements.push(element);
     }
 
-    private Image getImage(String value) {
-        return images.computeIfAbsent(value.trim(), key -> {
-            try {
-                return ImageIO.read(getURL(key));
-            } catch (IOException exception) {
-                throw new RuntimeException(exception);
+    private Element getFragment(String source) {
+        var url = getURL(source).toExternalForm();
+
+        var includes = new HashSet<>(this.includes);
+
+        var document = (ownerType != null) ? name : path.getFileName().toString();
+
+        includes.add(getURL(document).toExternalForm());
+
+        if (includes.contains(url)) {
+            throw new UnsupportedOperationException(String.format("Circular include (%s).", source));
+        }
+
+        UILoader uiLoader;
+        if (ownerType != null) {
+            uiLoader = new UILoader(ownerType, source, resourceBundle, profile);
+        } else {
+            uiLoader = new UILoader(path.resolveSibling(source), profile);
+        }
+
+        uiLoader.includes = includes;
+
+        // Documents loaded by path may be edited while the application is running, so their fragments are not cached
+        if (ownerType == null) {
+            return compileFragment(uiLoader, source);
+        }
+
+        var key = new FragmentKey(ownerType, url, resourceBundle);
+
+        var fragment = fragments.get(key);
+
+        if (fragment == null) {
+            fragment = compileFragment(uiLoader, source);
+
+            var existing = fragments.putIfAbsent(key, fragment);
+
+            if (existing != null) {
+                fragment = existing;
             }
-        });
+        }
+
+        return fragment;
+    }
+
+    private static Supplier<Border> getBorder(String title,
+        String titleColor,
+        String titleFont,
+        int titleJustification,
+        int titlePosition,
+        String outsideBorder,
+        EmptyBorder insideBorder) {
+        // Colors and fonts may refer to look-and-feel defaults, so borders are created when the component is instantiated
+        if (title != null) {
+            return () -> {
+                var titledBorder = new TitledBorder(map(outsideBorder, UILoader::parseBorder), title);
+
+                titledBorder.setTitleColor(map(titleColor, UILoader::parseColor));
+                titledBorder.setTitleFont(map(titleFont, UILoader::parseFont));
+
+                if (titleJustification != TitledBorder.DEFAULT_JUSTIFICATION) {
+                    titledBorder.setTitleJustification(titleJustification);
+                }
+
+                if (titlePosition != TitledBorder.DEFAULT_POSITION) {
+                    titledBorder.setTitlePosition(titlePosition);
+                }
+
+                return new CompoundBorder(titledBorder, insideBorder);
+            };
+        } else if (outsideBorder != null) {
+            return () -> new CompoundBorder(parseBorder(outsideBorder), insideBorder);
+        } else if (insideBorder != null) {
+            return () -> insideBorder;
+        } else {
+            return null;
+        }
+    }
+
+    private static Element compileFragment(UILoader uiLoader, String source) {
+        try {
+            return uiLoader.compile();
+        } catch (LoadException exception) {
+            throw new UnsupportedOperationException(String.format("%s: %s", source, exception.getMessage()), exception);
+        }
+    }
+
+    private long endAttribute(Element element, String name, long start) {
+        var now = (profile == null) ? 0 : System.nanoTime();
+
+        if (profile != null && name != null) {
+            while (element.attributeNames.size() < element.operations.size()) {
+                element.attributeNames.add(name);
+            }
+
+            profile.addAttributeTime(name, now - start);
+        }
+
+        return now;
+    }
+
+    private void countReflectiveCall() {
+        if (profile != null) {
+            profile.addReflectiveCall();
+        }
+    }
+
+    private static void putClientProperty(List<Operation> operations, String key, Object value) {
+        operations.add((component, context) -> component.putClientProperty(key, value));
+    }
+
+    private static void setProperty(List<Operation> operations, MethodHandle setter, Object argument) {
+        operations.add((component, context) -> context.invoke(setter, component, argument));
+    }
+
+    private static MethodHandle getSetter(Field field) {
+        field.setAccessible(true);
+
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(setterType);
+        } catch (IllegalAccessException exception) {
+            throw new UnsupportedOperationException(exception);
+        }
+    }
+
+    private static MethodHandle getSetter(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(setterType);
+        } catch (IllegalAccessException exception) {
+            throw new UnsupportedOperationException(exception);
+        }
+    }
+
+    private static void invoke(MethodHandle setter, Object target, Object argument) {
+        try {
+            setter.invokeExact(target, argument);
+        } catch (Throwable throwable) {
+            throw new UnsupportedOperationException(throwable);
+        }
+    }
+
+    private String getText(String value) {
+        if (resourceBundle == null) {
+            return value;
+        } else {
+            var key = value.trim();
+
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Invalid resource key.");
+            }
+
+            return resourceBundle.getString(key);
+        }
+    }
+
+    private Icon getIcon(String value, Function<Color, Color> mapper) {
+        var components = value.split(";");
+
+        var url = getURL(components[0].trim());
+        var size = (components.length > 1) ? parseSize(components[1]) : null;
+
+        // Mappers used here are stateless, so icons that share a mapper type can also share a color filter
+        var key = new ResourceKey(url.toExternalForm(), size, map(mapper, Object::getClass));
+
+        return getResource(key, () -> createIcon(url, size, mapper, profile));
+    }
+
+    private Image getImage(URL url) {
+        return getResource(new ResourceKey(url.toExternalForm(), null, null), () -> readImage(url, profile));
+    }
+
+    private static Image readImage(URL url, LoadProfile profile) {
+        var start = (profile == null) ? 0 : System.nanoTime();
+
+        Image image;
+        try {
+            image = ImageIO.read(url);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        if (profile != null) {
+            profile.addImage(System.nanoTime() - start);
+        }
+
+        return image;
+    }
+
+    private static void loadImage(URL url, Dimension size, MethodHandle setter, JComponent component, LoadProfile profile) {
+        var key = new ResourceKey(url.toExternalForm(), null, null);
+
+        var image = (Image)resourceCache.get(key);
+
+        if (image != null) {
+            invoke(setter, component, image);
+
+            return;
+        }
+
+        var executor = imageExecutor;
+
+        if (executor == null) {
+            image = readImage(url, profile);
+
+            if (image != null) {
+                resourceCache.put(key, image);
+            }
+
+            invoke(setter, component, image);
+
+            return;
+        }
+
+        invoke(setter, component, createPlaceholder(size));
+
+        var future = pendingImages.get(key);
+
+        if (future == null) {
+            var pendingImage = new CompletableFuture<Image>();
+
+            future = pendingImages.putIfAbsent(key, pendingImage);
+
+            if (future == null) {
+                future = pendingImage;
+
+                executor.execute(() -> {
+                    try {
+                        // Decoding may complete after the profile has been reported
+                        var start = (profile == null) ? 0 : System.nanoTime();
+
+                        var result = ImageIO.read(url);
+
+                        if (profile != null) {
+                            profile.addImage(System.nanoTime() - start);
+                        }
+
+                        if (result != null) {
+                            resourceCache.put(key, result);
+                        }
+
+                        pendingImage.complete(result);
+                    } catch (IOException | RuntimeException exception) {
+                        pendingImage.completeExceptionally(exception);
+                    } finally {
+                        pendingImages.remove(key);
+                    }
+                });
+            }
+        }
+
+        // If the image cannot be decoded, the placeholder is retained
+        future.thenAcceptAsync(result -> {
+            if (result != null) {
+                invoke(setter, component, result);
+            }
+        }, SwingUtilities::invokeLater);
+    }
+
+    private static Image createPlaceholder(Dimension size) {
+        var width = (size == null) ? 1 : size.width;
+        var height = (size == null) ? 1 : size.height;
+
+        return new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY, placeholderColorModel);
+    }
+
+    private static Dimension readImageSize(URL url) {
+        // Only the image header is read, so the placeholder can reserve the image's dimensions
+        try (var inputStream = url.openStream();
+            var imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+            var imageReaders = ImageIO.getImageReaders(imageInputStream);
+
+            if (imageReaders.hasNext()) {
+                var imageReader = imageReaders.next();
+
+                try {
+                    imageReader.setInput(imageInputStream, true, true);
+
+                    return new Dimension(imageReader.getWidth(0), imageReader.getHeight(0));
+                } finally {
+                    imageReader.dispose();
+                }
+            }
+        } catch (IOException exception) {
+            // No-op
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getResource(ResourceKey key, Supplier<T> supplier) {
+        var value = (T)resourceCache.get(key);
+
+        if (value == null) {
+            value = supplier.get();
+
+            resourceCache.put(key, value);
+        }
+
+        return value;
     }
 
     private URL getURL(String name) {
@@ -1688,8 +2367,24 @@ public class UILoader {
             throw new IllegalArgumentException("Invalid resource name.");
         }
 
-        if (owner != null) {
-            return owner.getClass().getResource(name);
+        if (ownerType != null) {
+            var resourceName = getResourceName(ownerType, name);
+
+            for (var archive : archives) {
+                var url = archive.getURL(resourceName);
+
+                if (url != null) {
+                    return url;
+                }
+            }
+
+            var url = ownerType.getResource(name);
+
+            if (url == null) {
+                throw new IllegalArgumentException(String.format("Resource not found (%s).", name));
+            }
+
+            return url;
         } else {
             var uri = path.resolveSibling(name).toUri();
 
@@ -1701,8 +2396,22 @@ public class UILoader {
         }
     }
 
+    private static String getResourceName(Class<?> type, String name) {
+        if (name.startsWith("/")) {
+            return name.substring(1);
+        }
+
+        var packageName = type.getPackageName();
+
+        if (packageName.isEmpty()) {
+            return name;
+        }
+
+        return packageName.replace('.', '/') + "/" + name;
+    }
+
     private void processEndElement() {
-        root = components.pop();
+        root = elements.pop();
     }
 
     /**
@@ -1741,9 +2450,13 @@ public class UILoader {
             throw new IllegalArgumentException();
         }
 
-        var uiLoader = new UILoader(owner, name, resourceBundle);
+        var profile = createProfile(name);
+
+        var component = instantiate(compile(owner.getClass(), name, resourceBundle, profile).root, owner, profile);
 
-        return uiLoader.load();
+        report(profile);
+
+        return component;
     }
 
     /**
@@ -1760,9 +2473,187 @@ public class UILoader {
             throw new IllegalArgumentException();
         }
 
-        var uiLoader = new UILoader(path);
+        var profile = createProfile(path.toString());
+
+        var start = (profile == null) ? 0 : System.nanoTime();
+
+        var root = new UILoader(path, profile).compile();
+
+        if (profile != null) {
+            profile.addCompileTime(System.nanoTime() - start);
+        }
+
+        var component = instantiate(root, null, profile);
 
-        return uiLoader.load();
+        report(profile);
+
+        return component;
+    }
+
+    /**
+     * Compiles a markup document.
+     *
+     * @param owner
+     * The document's owner.
+     *
+     * @param name
+     * The name of the document, relative to the owner's type.
+     *
+     * @return
+     * The compiled template.
+     */
+    public static Template compile(Object owner, String name) {
+        return compile(owner, name, null);
+    }
+
+    /**
+     * Compiles a markup document.
+     *
+     * @param owner
+     * The document's owner.
+     *
+     * @param name
+     * The name of the document, relative to the owner's type.
+     *
+     * @param resourceBundle
+     * The resource bundle, or {@code null} for no resource bundle.
+     *
+     * @return
+     * The compiled template.
+     */
+    public static Template compile(Object owner, String name, ResourceBundle resourceBundle) {
+        if (owner == null || name == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return compile(owner.getClass(), name, resourceBundle);
+    }
+
+    /**
+     * Compiles a markup document for a given owner type.
+     *
+     * @param ownerType
+     * The document's owner type.
+     *
+     * @param name
+     * The name of the document, relative to the owner type.
+     *
+     * @return
+     * The compiled template.
+     */
+    public static Template compile(Class<?> ownerType, String name) {
+        return compile(ownerType, name, null);
+    }
+
+    /**
+     * Compiles a markup document for a given owner type. The resulting
+     * template can be instantiated using any instance of the owner type; for
+     * example, a holder object for each row of a list.
+     *
+     * @param ownerType
+     * The document's owner type.
+     *
+     * @param name
+     * The name of the document, relative to the owner type.
+     *
+     * @param resourceBundle
+     * The resource bundle, or {@code null} for no resource bundle.
+     *
+     * @return
+     * The compiled template.
+     */
+    public static Template compile(Class<?> ownerType, String name, ResourceBundle resourceBundle) {
+        if (ownerType == null || name == null) {
+            throw new IllegalArgumentException();
+        }
+
+        var profile = createProfile(name);
+
+        var template = compile(ownerType, name, resourceBundle, profile);
+
+        report(profile);
+
+        return template;
+    }
+
+    private static Template compile(Class<?> ownerType, String name, ResourceBundle resourceBundle, LoadProfile profile) {
+        var start = (profile == null) ? 0 : System.nanoTime();
+
+        var uiLoader = new UILoader(ownerType, name, resourceBundle, profile);
+
+        var template = new Template(ownerType, name, uiLoader.compile());
+
+        if (profile != null) {
+            profile.addCompileTime(System.nanoTime() - start);
+        }
+
+        return template;
+    }
+
+    private static JComponent instantiate(Element root, Object owner, LoadProfile profile) {
+        var start = (profile == null) ? 0 : System.nanoTime();
+
+        var component = root.instantiate(null, new Context(owner, profile));
+
+        if (profile != null) {
+            profile.addInstantiationTime(System.nanoTime() - start);
+        }
+
+        return component;
+    }
+
+    /**
+     * Asynchronously deserializes a component hierarchy from a markup
+     * document.
+     *
+     * @param owner
+     * The document's owner.
+     *
+     * @param name
+     * The name of the document, relative to the owner's type.
+     *
+     * @return
+     * A future representing the deserialized component hierarchy.
+     */
+    public static CompletableFuture<JComponent> loadAsync(Object owner, String name) {
+        return loadAsync(owner, name, null);
+    }
+
+    /**
+     * Asynchronously deserializes a component hierarchy from a markup
+     * document. The document is read, parsed, and compiled on a virtual
+     * thread. The components are then constructed and the owner's outlets
+     * populated on the event dispatch thread. Colors, fonts, and borders,
+     * which may refer to look-and-feel defaults, are also resolved on the
+     * event dispatch thread.
+     *
+     * @param owner
+     * The document's owner.
+     *
+     * @param name
+     * The name of the document, relative to the owner's type.
+     *
+     * @param resourceBundle
+     * The resource bundle, or {@code null} for no resource bundle.
+     *
+     * @return
+     * A future representing the deserialized component hierarchy.
+     */
+    public static CompletableFuture<JComponent> loadAsync(Object owner, String name, ResourceBundle resourceBundle) {
+        if (owner == null || name == null) {
+            throw new IllegalArgumentException();
+        }
+
+        var profile = createProfile(name);
+
+        return CompletableFuture.supplyAsync(() -> compile(owner.getClass(), name, resourceBundle, profile), loadExecutor)
+            .thenApplyAsync(template -> {
+                var component = instantiate(template.root, owner, profile);
+
+                report(profile);
+
+                return component;
+            }, SwingUtilities::invokeLater);
     }
 
     /**
@@ -1913,7 +2804,246 @@ public class UILoader {
         fonts.put(name, font);
     }
 
-    private static Border parseBorder(String value) {
+    /**
+     * Returns the resource cache capacity. The default value is 256.
+     *
+     * @return
+     * The maximum number of icons and images retained by the resource cache.
+     */
+    public static int getCacheCapacity() {
+        synchronized (resourceCache) {
+            return resourceCache.capacity;
+        }
+    }
+
+    /**
+     * Sets the resource cache capacity. Icons and images are shared by all
+     * documents loaded by the application; when the capacity is exceeded, the
+     * least recently used entries are discarded. Cached entries may also be
+     * reclaimed by the garbage collector when memory is low.
+     *
+     * @param capacity
+     * The maximum number of icons and images retained by the resource cache.
+     */
+    public static void setCacheCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        resourceCache.setCapacity(capacity);
+    }
+
+    /**
+     * Returns the number of resource cache hits.
+     *
+     * @return
+     * The number of icon and image requests that were satisfied by the
+     * resource cache.
+     */
+    public static long getCacheHitCount() {
+        synchronized (resourceCache) {
+            return resourceCache.hitCount;
+        }
+    }
+
+    /**
+     * Returns the number of resource cache misses.
+     *
+     * @return
+     * The number of icon and image requests that required a resource to be
+     * loaded.
+     */
+    public static long getCacheMissCount() {
+        synchronized (resourceCache) {
+            return resourceCache.missCount;
+        }
+    }
+
+    /**
+     * Discards all cached icons, images, and document fragments and resets
+     * the cache statistics.
+     */
+    public static void clearCache() {
+        resourceCache.clear();
+
+        fragments.clear();
+    }
+
+    /**
+     * Returns the profile handler.
+     *
+     * @return
+     * The profile handler, or {@code null} if profiling is disabled.
+     */
+    public static Consumer<LoadProfile> getProfileHandler() {
+        return profileHandler;
+    }
+
+    /**
+     * Sets the profile handler. When a handler is specified, a profile is
+     * recorded for each document that is loaded, compiled, or instantiated,
+     * and is passed to the handler when the operation is complete. Profiling
+     * is disabled by default.
+     *
+     * @param profileHandler
+     * The profile handler, or {@code null} to disable profiling.
+     */
+    public static void setProfileHandler(Consumer<LoadProfile> profileHandler) {
+        UILoader.profileHandler = profileHandler;
+    }
+
+    private static LoadProfile createProfile(String name) {
+        return (profileHandler == null) ? null : new LoadProfile(name);
+    }
+
+    private static void report(LoadProfile profile) {
+        var profileHandler = UILoader.profileHandler;
+
+        if (profile != null && profileHandler != null) {
+            profileHandler.accept(profile);
+        }
+    }
+
+    /**
+     * Returns the image executor.
+     *
+     * @return
+     * The executor that will be used to decode images, or {@code null} if
+     * images are decoded synchronously.
+     */
+    public static Executor getImageExecutor() {
+        return imageExecutor;
+    }
+
+    /**
+     * Sets the image executor. When an executor is specified, images that are
+     * not already cached are decoded in the background. Components initially
+     * display a transparent placeholder having the same dimensions as the
+     * image, which is replaced on the UI thread when decoding is complete.
+     * The executor applies to components that are instantiated after it is
+     * set, including those created from previously compiled templates.
+     *
+     * @param imageExecutor
+     * The executor that will be used to decode images, or {@code null} to
+     * decode images synchronously.
+     */
+    public static void setImageExecutor(Executor imageExecutor) {
+        UILoader.imageExecutor = imageExecutor;
+    }
+
+    /**
+     * Adds a resource archive. Documents, fragments, icons, and images that
+     * are loaded relative to an owner type are resolved against registered
+     * archives, in the order in which they were added, before the owner's
+     * class loader is consulted. Resource names are fully qualified (for
+     * example, "com/example/GreetingTest.xml").
+     *
+     * @param archive
+     * The archive to add.
+     */
+    public static void addArchive(ResourceArchive archive) {
+        if (archive == null) {
+            throw new IllegalArgumentException();
+        }
+
+        archives.add(archive);
+    }
+
+    /**
+     * Removes a resource archive. Cached icons, images, and fragments that
+     * were loaded from the archive are not discarded.
+     *
+     * @param archive
+     * The archive to remove.
+     */
+    public static void removeArchive(ResourceArchive archive) {
+        if (archive == null) {
+            throw new IllegalArgumentException();
+        }
+
+        archives.remove(archive);
+    }
+
+    /**
+     * Creates an icon.
+     *
+     * @param url
+     * The URL of the SVG document containing the icon.
+     *
+     * @param size
+     * The icon size, or {@code null} for the default size.
+     *
+     * @param component
+     * The component that will display the icon, or {@code null} for no
+     * component. Determines the color filter that will be applied to the
+     * icon.
+     *
+     * @return
+     * The icon.
+     */
+    public static Icon createIcon(URL url, Dimension size, JComponent component) {
+        if (url == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return createIcon(url, size, getColorMapper(component), null);
+    }
+
+    private static Function<Color, Color> getColorMapper(JComponent component) {
+        if (component instanceof JLabel) {
+            return new LabelColorMapper();
+        } else if (component instanceof JButton button) {
+            return new ButtonColorMapper(button);
+        } else if (component instanceof JToggleButton toggleButton) {
+            return new ToggleButtonColorMapper(toggleButton);
+        } else if (component instanceof JMenuItem menuItem) {
+            return new MenuItemColorMapper(menuItem);
+        } else if (component instanceof JTextField) {
+            return new TextFieldColorMapper();
+        } else if (component instanceof JTabbedPane) {
+            return new TabbedPaneColorMapper();
+        } else {
+            return null;
+        }
+    }
+
+    private static Icon createIcon(URL url, Dimension size, Function<Color, Color> mapper, LoadProfile profile) {
+        var start = (profile == null) ? 0 : System.nanoTime();
+
+        var icon = new FlatSVGIcon(url);
+
+        if (size != null) {
+            icon = icon.derive(size.width, size.height);
+        }
+
+        if (mapper != null) {
+            icon.setColorFilter(new FlatSVGIcon.ColorFilter(mapper));
+        }
+
+        if (profile != null) {
+            // SVG documents are otherwise parsed when the icon is first painted
+            icon.hasFound();
+
+            profile.addIcon(System.nanoTime() - start);
+        }
+
+        return icon;
+    }
+
+    /**
+     * Parses a border value.
+     *
+     * @param value
+     * The border value.
+     *
+     * @return
+     * The parsed border.
+     */
+    public static Border parseBorder(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
         var components = value.split(",");
 
         var color = parseColor(components[0].trim());
@@ -1990,7 +3120,20 @@ public class UILoader {
         }
     }
 
-    private static Color parseColor(String value) {
+    /**
+     * Parses a color value.
+     *
+     * @param value
+     * The color value.
+     *
+     * @return
+     * The parsed color.
+     */
+    public static Color parseColor(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
         var components = value.split(";");
 
         var name = components[0].trim();
@@ -2006,7 +3149,20 @@ public class UILoader {
         }
     }
 
-    private static Font parseFont(String value) {
+    /**
+     * Parses a font value.
+     *
+     * @param value
+     * The font value.
+     *
+     * @return
+     * The parsed font.
+     */
+    public static Font parseFont(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
         var name = value.trim();
 
         return coalesce(UIManager.getFont(name), () -> coalesce(fonts.get(name), () -> Font.decode(name)));
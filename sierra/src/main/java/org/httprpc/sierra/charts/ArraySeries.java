@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+/**
+ * Read-only series backed by primitive arrays.
+ */
+public class ArraySeries extends IndexedSeries {
+    private long[] keys;
+    private double[] values;
+
+    private int start;
+    private int count;
+
+    /**
+     * Constructs a new array series.
+     *
+     * @param keys
+     * The series keys, in strictly ascending order.
+     *
+     * @param values
+     * The series values.
+     */
+    public ArraySeries(long[] keys, double[] values) {
+        if (keys == null || values == null || keys.length != values.length) {
+            throw new IllegalArgumentException();
+        }
+
+        for (var i = 1; i < keys.length; i++) {
+            if (keys[i] <= keys[i - 1]) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        this.keys = keys;
+        this.values = values;
+
+        start = 0;
+        count = keys.length;
+    }
+
+    ArraySeries(long[] keys, double[] values, int start, int count) {
+        this.keys = keys;
+        this.values = values;
+
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    long getKey(long index) {
+        return keys[start + (int)index];
+    }
+
+    @Override
+    double getValue(long index) {
+        return values[start + (int)index];
+    }
+
+    @Override
+    IndexedSeries slice(long start, long end) {
+        return new ArraySeries(keys, values, this.start + (int)start, (int)Math.max(end - start, 0));
+    }
+}
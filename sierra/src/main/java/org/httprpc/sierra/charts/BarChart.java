@@ -92,7 +92,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
 
     private SortedSet<K> keys = sortedSetOf();
 
-    private List<List<Rectangle2D.Double>> barRectangles = listOf();
+    private List<List<Rectangle2D>> barRectangles = listOf();
 
     private static final int DEFAULT_BAR_WIDTH = 24;
     private static final int DEFAULT_BAR_HEIGHT = 18;
@@ -218,16 +218,24 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
         var positiveTotals = new TreeMap<K, Double>();
         var negativeTotals = new TreeMap<K, Double>();
 
-        var rangeBounds = getRangeBounds();
+        var rangeBounds = getExplicitRangeBounds();
 
         var rangeMinimum = 0.0;
         var rangeMaximum = 0.0;
 
+        var sharedKeys = getSharedKeys();
+
+        if (sharedKeys != null) {
+            keys.addAll(sharedKeys);
+        }
+
         for (var dataSet : dataSets) {
-            for (var entry : dataSet.getDataPoints().entrySet()) {
+            for (var entry : getVisibleDataPoints(dataSet.getDataPoints()).entrySet()) {
                 var key = entry.getKey();
 
-                keys.add(key);
+                if (sharedKeys == null) {
+                    keys.add(key);
+                }
 
                 if (rangeBounds == null) {
                     var value = coalesce(map(entry.getValue(), Number::doubleValue), () -> 0.0);
@@ -244,6 +252,8 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
             }
         }
 
+        Bounds<Double> defaultRangeBounds = null;
+
         if (rangeBounds == null) {
             if (stacked) {
                 for (var value : positiveTotals.values()) {
@@ -255,10 +265,10 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
                 }
             }
 
-            setRangeBounds(adjustBounds(rangeMinimum, rangeMaximum));
+            defaultRangeBounds = adjustBounds(rangeMinimum, rangeMaximum);
         }
 
-        validateGrid();
+        validateGrid(null, defaultRangeBounds);
 
         var keyCount = keys.size();
 
@@ -292,7 +302,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
             var i = 0;
 
             for (var dataSet : dataSets) {
-                var dataSetBarRectangles = new ArrayList<Rectangle2D.Double>(keyCount);
+                var dataSetBarRectangles = new ArrayList<Rectangle2D>(keyCount);
 
                 var dataPoints = dataSet.getDataPoints();
 
@@ -303,7 +313,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
 
                     var barWidth = Math.abs(value) * rangeScale;
 
-                    Rectangle2D.Double barRectangle;
+                    Rectangle2D barRectangle;
                     if (stacked) {
                         var barY = gridY + rowHeight * j + barSpacing;
 
@@ -322,7 +332,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
                             positiveTotals.put(key, totalWidth + barWidth);
                         }
 
-                        barRectangle = new Rectangle2D.Double(barX, barY, barWidth, barHeight);
+                        barRectangle = createRectangle(barX, barY, barWidth, barHeight);
                     } else {
                         var barY = gridY + rowHeight * j + barSpacing * (i + 1) + barHeight * i;
 
@@ -333,7 +343,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
                             barX = zeroX;
                         }
 
-                        barRectangle = new Rectangle2D.Double(barX, barY, barWidth, barHeight);
+                        barRectangle = createRectangle(barX, barY, barWidth, barHeight);
                     }
 
                     dataSetBarRectangles.add(barRectangle);
@@ -354,7 +364,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
             var i = 0;
 
             for (var dataSet : dataSets) {
-                var dataSetBarRectangles = new ArrayList<Rectangle2D.Double>(keyCount);
+                var dataSetBarRectangles = new ArrayList<Rectangle2D>(keyCount);
 
                 var dataPoints = dataSet.getDataPoints();
 
@@ -365,7 +375,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
 
                     var barHeight = Math.abs(value) * rangeScale;
 
-                    Rectangle2D.Double barRectangle;
+                    Rectangle2D barRectangle;
                     if (stacked) {
                         var barX = gridX + columnWidth * j + barSpacing;
 
@@ -384,7 +394,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
                             negativeTotals.put(key, totalHeight + barHeight);
                         }
 
-                        barRectangle = new Rectangle2D.Double(barX, barY, barWidth, barHeight);
+                        barRectangle = createRectangle(barX, barY, barWidth, barHeight);
                     } else {
                         var barX = gridX + columnWidth * j + barSpacing * (i + 1) + barWidth * i;
 
@@ -395,7 +405,7 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
                             barY = zeroY;
                         }
 
-                        barRectangle = new Rectangle2D.Double(barX, barY, barWidth, barHeight);
+                        barRectangle = createRectangle(barX, barY, barWidth, barHeight);
                     }
 
                     dataSetBarRectangles.add(barRectangle);
@@ -412,6 +422,11 @@ public class BarChart<K extends Comparable<? super K>, V extends Number> extends
         validateMarkers();
     }
 
+    @Override
+    int getShapeCount() {
+        return getShapeCount(barRectangles);
+    }
+
     @Override
     void drawChart(Graphics2D graphics) {
         drawGrid(graphics);
@@ -0,0 +1,365 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import javax.swing.Icon;
+import java.awt.BasicStroke;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+
+import static org.httprpc.kilo.util.Collections.*;
+
+/**
+ * Box plot chart.
+ */
+public class BoxPlotChart<K extends Comparable<? super K>> extends CategoryChart<K, QuantileSketch> {
+    /**
+     * Box plot chart legend icon.
+     */
+    public static class LegendIcon implements Icon {
+        private DataSet<?, ?> dataSet;
+
+        private Rectangle2D.Double shape = new Rectangle2D.Double();
+
+        private static final int SIZE = 12;
+
+        /**
+         * Constructs a new box plot chart legend icon.
+         *
+         * @param dataSet
+         * The data set the icon is associated with.
+         */
+        public LegendIcon(DataSet<?, ?> dataSet) {
+            if (dataSet == null) {
+                throw new IllegalArgumentException();
+            }
+
+            this.dataSet = dataSet;
+        }
+
+        @Override
+        public void paintIcon(Component component, Graphics graphics, int x, int y) {
+            var iconGraphics = (Graphics2D)graphics.create();
+
+            iconGraphics.setRenderingHints(renderingHints);
+
+            paintIcon(iconGraphics, x, y);
+
+            iconGraphics.dispose();
+        }
+
+        private void paintIcon(Graphics2D graphics, int x, int y) {
+            var lineWidth = outlineStroke.getLineWidth();
+
+            shape.setFrame(x + lineWidth / 2, y + lineWidth / 2, SIZE - lineWidth, SIZE - lineWidth);
+
+            graphics.setColor(colorWithAlpha(dataSet.getColor(), 0x80));
+            graphics.fill(shape);
+
+            graphics.setColor(dataSet.getColor());
+            graphics.setStroke(outlineStroke);
+
+            graphics.draw(shape);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return SIZE;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return SIZE;
+        }
+    }
+
+    private double whiskerQuantile = 0.0;
+
+    private double boxTransparency = 0.5;
+
+    private SortedSet<K> keys = sortedSetOf();
+
+    private List<List<Rectangle2D>> boxRectangles = listOf();
+
+    private List<List<Line2D>> medianLines = listOf();
+
+    private List<List<Line2D>> upperWhiskerLines = listOf();
+    private List<List<Line2D>> lowerWhiskerLines = listOf();
+
+    private static final int DEFAULT_BOX_WIDTH = 12;
+
+    private static final double BOX_WIDTH_RATIO = 0.5;
+
+    private static final BasicStroke outlineStroke;
+    private static final BasicStroke whiskerStroke;
+    static {
+        outlineStroke = new BasicStroke(1.0f);
+        whiskerStroke = new BasicStroke(1.0f);
+    }
+
+    /**
+     * Returns the whisker quantile. The default value is 0.0, indicating that
+     * the whiskers extend to the minimum and maximum values.
+     *
+     * @return
+     * The whisker quantile.
+     */
+    public double getWhiskerQuantile() {
+        return whiskerQuantile;
+    }
+
+    /**
+     * Sets the whisker quantile. The lower whisker extends to the given
+     * quantile, and the upper whisker to its complement.
+     *
+     * @param whiskerQuantile
+     * The whisker quantile, as a value from 0.0 to 0.25.
+     */
+    public void setWhiskerQuantile(double whiskerQuantile) {
+        if (whiskerQuantile < 0.0 || whiskerQuantile > 0.25) {
+            throw new IllegalArgumentException();
+        }
+
+        this.whiskerQuantile = whiskerQuantile;
+
+        invalidate();
+    }
+
+    /**
+     * Returns the box transparency. The default value is 0.5.
+     *
+     * @return
+     * The box transparency.
+     */
+    public double getBoxTransparency() {
+        return boxTransparency;
+    }
+
+    /**
+     * Sets the box transparency.
+     *
+     * @param boxTransparency
+     * The box transparency, as a value from 0.0 to 1.0.
+     */
+    public void setBoxTransparency(double boxTransparency) {
+        if (boxTransparency < 0.0 || boxTransparency > 1.0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.boxTransparency = boxTransparency;
+    }
+
+    @Override
+    public void sizeToFit() {
+        super.sizeToFit();
+
+        var m = keys.size();
+        var n = getDataSets().size();
+
+        var margins = getMargins();
+
+        var columnWidth = DEFAULT_BOX_WIDTH * n / BOX_WIDTH_RATIO;
+
+        var preferredWidth = columnWidth * m
+            + margins.left + margins.right
+            + getVerticalGridLineStroke().getLineWidth();
+
+        setSize(Math.max((int)Math.ceil(preferredWidth), getWidth()), getHeight());
+    }
+
+    @Override
+    SortedSet<K> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public void validate() {
+        keys.clear();
+
+        boxRectangles.clear();
+
+        medianLines.clear();
+
+        upperWhiskerLines.clear();
+        lowerWhiskerLines.clear();
+
+        var dataSets = getDataSets();
+
+        var rangeBounds = getExplicitRangeBounds();
+
+        var rangeMinimum = Double.POSITIVE_INFINITY;
+        var rangeMaximum = Double.NEGATIVE_INFINITY;
+
+        var sharedKeys = getSharedKeys();
+
+        if (sharedKeys != null) {
+            keys.addAll(sharedKeys);
+        }
+
+        for (var dataSet : dataSets) {
+            for (var entry : getVisibleDataPoints(dataSet.getDataPoints()).entrySet()) {
+                if (sharedKeys == null) {
+                    keys.add(entry.getKey());
+                }
+
+                var value = entry.getValue();
+
+                if (rangeBounds == null && value != null && value.getCount() > 0) {
+                    rangeMinimum = Math.min(rangeMinimum, value.getQuantile(whiskerQuantile));
+                    rangeMaximum = Math.max(rangeMaximum, value.getQuantile(1.0 - whiskerQuantile));
+                }
+            }
+        }
+
+        Bounds<Double> defaultRangeBounds = null;
+
+        if (rangeBounds == null && rangeMinimum <= rangeMaximum) {
+            defaultRangeBounds = adjustBounds(rangeMinimum, rangeMaximum);
+        }
+
+        validateGrid(null, defaultRangeBounds);
+
+        var keyCount = keys.size();
+
+        if (keyCount == 0) {
+            return;
+        }
+
+        var gridX = getGridBounds().getX();
+
+        var rangeScale = getRangeScale();
+
+        var zeroY = getOrigin().getY();
+
+        var n = dataSets.size();
+
+        var columnWidth = getColumnWidth();
+
+        var boxWidth = (columnWidth / n) * BOX_WIDTH_RATIO;
+        var boxSpacing = (columnWidth - (boxWidth * n)) / (n + 1);
+
+        var i = 0;
+
+        for (var dataSet : dataSets) {
+            var dataSetBoxRectangles = new ArrayList<Rectangle2D>(keyCount);
+
+            var dataSetMedianLines = new ArrayList<Line2D>(keyCount);
+
+            var dataSetUpperWhiskerLines = new ArrayList<Line2D>(keyCount);
+            var dataSetLowerWhiskerLines = new ArrayList<Line2D>(keyCount);
+
+            var dataPoints = dataSet.getDataPoints();
+
+            var j = 0;
+
+            for (var key : keys) {
+                var value = dataPoints.get(key);
+
+                if (value != null && value.getCount() > 0) {
+                    var lowerWhisker = zeroY - value.getQuantile(whiskerQuantile) * rangeScale;
+                    var lowerQuartile = zeroY - value.getQuantile(0.25) * rangeScale;
+                    var median = zeroY - value.getQuantile(0.5) * rangeScale;
+                    var upperQuartile = zeroY - value.getQuantile(0.75) * rangeScale;
+                    var upperWhisker = zeroY - value.getQuantile(1.0 - whiskerQuantile) * rangeScale;
+
+                    var boxX = gridX + columnWidth * j + boxSpacing * (i + 1) + boxWidth * i;
+
+                    var lineX = boxX + boxWidth / 2;
+
+                    dataSetBoxRectangles.add(createRectangle(boxX, upperQuartile, boxWidth, lowerQuartile - upperQuartile));
+
+                    dataSetMedianLines.add(createLine(boxX, median, boxX + boxWidth, median));
+
+                    dataSetUpperWhiskerLines.add(createLine(lineX, upperWhisker, lineX, upperQuartile));
+                    dataSetLowerWhiskerLines.add(createLine(lineX, lowerQuartile, lineX, lowerWhisker));
+                }
+
+                j++;
+            }
+
+            boxRectangles.add(dataSetBoxRectangles);
+
+            medianLines.add(dataSetMedianLines);
+
+            upperWhiskerLines.add(dataSetUpperWhiskerLines);
+            lowerWhiskerLines.add(dataSetLowerWhiskerLines);
+
+            i++;
+        }
+
+        validateMarkers();
+    }
+
+    @Override
+    int getShapeCount() {
+        return getShapeCount(boxRectangles)
+            + getShapeCount(medianLines)
+            + getShapeCount(upperWhiskerLines)
+            + getShapeCount(lowerWhiskerLines);
+    }
+
+    @Override
+    void drawChart(Graphics2D graphics) {
+        drawGrid(graphics);
+
+        if (boxRectangles.isEmpty()) {
+            return;
+        }
+
+        var i = 0;
+
+        for (var dataSet : getDataSets()) {
+            var dataSetBoxRectangles = boxRectangles.get(i);
+
+            var dataSetMedianLines = medianLines.get(i);
+
+            var dataSetUpperWhiskerLines = upperWhiskerLines.get(i);
+            var dataSetLowerWhiskerLines = lowerWhiskerLines.get(i);
+
+            var color = dataSet.getColor();
+
+            var fillColor = colorWithAlpha(color, (int)(boxTransparency * 255));
+
+            for (int j = 0, n = dataSetBoxRectangles.size(); j < n; j++) {
+                var boxRectangle = dataSetBoxRectangles.get(j);
+
+                graphics.setColor(fillColor);
+
+                graphics.fill(boxRectangle);
+
+                graphics.setColor(color);
+                graphics.setStroke(outlineStroke);
+
+                graphics.draw(boxRectangle);
+                graphics.draw(dataSetMedianLines.get(j));
+
+                graphics.setStroke(whiskerStroke);
+
+                graphics.draw(dataSetUpperWhiskerLines.get(j));
+                graphics.draw(dataSetLowerWhiskerLines.get(j));
+            }
+
+            i++;
+        }
+
+        drawMarkers(graphics);
+    }
+}
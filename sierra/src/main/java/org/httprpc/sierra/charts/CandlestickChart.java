@@ -22,7 +22,9 @@ import java.awt.Graphics2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.SortedMap;
 import java.util.SortedSet;
 
 import static org.httprpc.kilo.util.Collections.*;
@@ -92,10 +94,14 @@ public class CandlestickChart<K extends Comparable<? super K>> extends CategoryC
 
     private SortedSet<K> keys = sortedSetOf();
 
-    private List<List<Rectangle2D.Double>> bodyRectangles = listOf();
+    private List<List<Rectangle2D>> bodyRectangles = listOf();
 
-    private List<List<Line2D.Double>> highWickLines = listOf();
-    private List<List<Line2D.Double>> lowWickLines = listOf();
+    private List<List<Line2D>> highWickLines = listOf();
+    private List<List<Line2D>> lowWickLines = listOf();
+
+    private List<BitSet> bodyFills = listOf();
+
+    private boolean floatGeometry = false;
 
     private static final int DEFAULT_BODY_WIDTH = 12;
 
@@ -159,21 +165,28 @@ public class CandlestickChart<K extends Comparable<? super K>> extends CategoryC
     public void validate() {
         keys.clear();
 
-        bodyRectangles.clear();
-
-        highWickLines.clear();
-        lowWickLines.clear();
-
         var dataSets = getDataSets();
 
-        var rangeBounds = getRangeBounds();
+        var rangeBounds = getExplicitRangeBounds();
 
         var rangeMinimum = Double.POSITIVE_INFINITY;
         var rangeMaximum = Double.NEGATIVE_INFINITY;
 
+        var sharedKeys = getSharedKeys();
+
+        if (sharedKeys != null) {
+            keys.addAll(sharedKeys);
+        }
+
+        var visibleDataPoints = new ArrayList<SortedMap<K, OHLC>>(dataSets.size());
+
         for (var dataSet : dataSets) {
-            for (var entry : dataSet.getDataPoints().entrySet()) {
-                keys.add(entry.getKey());
+            var dataPoints = getVisibleDataPoints(dataSet.getDataPoints());
+
+            for (var entry : dataPoints.entrySet()) {
+                if (sharedKeys == null) {
+                    keys.add(entry.getKey());
+                }
 
                 if (rangeBounds == null) {
                     var value = entry.getValue();
@@ -182,44 +195,71 @@ public class CandlestickChart<K extends Comparable<? super K>> extends CategoryC
                     rangeMaximum = Math.max(rangeMaximum, value.high());
                 }
             }
+
+            visibleDataPoints.add(dataPoints);
         }
 
+        Bounds<Double> defaultRangeBounds = null;
+
         if (rangeBounds == null && rangeMinimum <= rangeMaximum) {
-            setRangeBounds(adjustBounds(rangeMinimum, rangeMaximum));
+            defaultRangeBounds = adjustBounds(rangeMinimum, rangeMaximum);
         }
 
-        validateGrid();
+        validateGrid(null, defaultRangeBounds);
 
         var keyCount = keys.size();
 
+        var n = (keyCount == 0 || getFloatPrecision() != floatGeometry) ? 0 : dataSets.size();
+
+        trim(bodyRectangles, n);
+
+        trim(highWickLines, n);
+        trim(lowWickLines, n);
+
+        trim(bodyFills, n);
+
+        floatGeometry = getFloatPrecision();
+
         if (keyCount == 0) {
             return;
         }
 
+        n = dataSets.size();
+
         var gridX = getGridBounds().getX();
 
         var rangeScale = getRangeScale();
 
         var zeroY = getOrigin().getY();
 
-        var n = dataSets.size();
-
         var columnWidth = getColumnWidth();
 
         var bodyWidth = columnWidth * BODY_WIDTH_RATIO / Math.sqrt(n);
         var bodySpacing = (columnWidth - (bodyWidth * n)) / (n + 1);
 
-        var i = 0;
+        for (var i = 0; i < n; i++) {
+            if (i == bodyRectangles.size()) {
+                bodyRectangles.add(new ArrayList<>(keyCount));
 
-        for (var dataSet : dataSets) {
-            var dataSetBodyRectangles = new ArrayList<Rectangle2D.Double>(keyCount);
+                highWickLines.add(new ArrayList<>(keyCount));
+                lowWickLines.add(new ArrayList<>(keyCount));
 
-            var dataSetHighWickLines = new ArrayList<Line2D.Double>(keyCount);
-            var dataSetLowWickLines = new ArrayList<Line2D.Double>(keyCount);
+                bodyFills.add(new BitSet(keyCount));
+            }
 
-            var dataPoints = dataSet.getDataPoints();
+            var dataSetBodyRectangles = bodyRectangles.get(i);
+
+            var dataSetHighWickLines = highWickLines.get(i);
+            var dataSetLowWickLines = lowWickLines.get(i);
+
+            var dataSetBodyFills = bodyFills.get(i);
+
+            dataSetBodyFills.clear();
+
+            var dataPoints = visibleDataPoints.get(i);
 
             var j = 0;
+            var k = 0;
 
             for (var key : keys) {
                 var value = dataPoints.get(key);
@@ -242,31 +282,51 @@ public class CandlestickChart<K extends Comparable<? super K>> extends CategoryC
                         bottom = zeroY - open * rangeScale;
                     }
 
-                    var bodyRectangle = new Rectangle2D.Double(lineX - bodyWidth / 2, top, bodyWidth, bottom - top);
+                    var bodyX = lineX - bodyWidth / 2;
 
-                    dataSetBodyRectangles.add(bodyRectangle);
+                    var highY = zeroY - high * rangeScale;
+                    var lowY = zeroY - low * rangeScale;
+
+                    if (k < dataSetBodyRectangles.size()) {
+                        dataSetBodyRectangles.get(k).setRect(bodyX, top, bodyWidth, bottom - top);
+
+                        dataSetHighWickLines.get(k).setLine(lineX, highY, lineX, top);
+                        dataSetLowWickLines.get(k).setLine(lineX, bottom, lineX, lowY);
+                    } else {
+                        dataSetBodyRectangles.add(createRectangle(bodyX, top, bodyWidth, bottom - top));
+
+                        dataSetHighWickLines.add(createLine(lineX, highY, lineX, top));
+                        dataSetLowWickLines.add(createLine(lineX, bottom, lineX, lowY));
+                    }
 
-                    var highWickLine = new Line2D.Double(lineX, zeroY - high * rangeScale, lineX, top);
-                    var lowWickLine = new Line2D.Double(lineX, bottom, lineX, zeroY - low * rangeScale);
+                    dataSetBodyFills.set(k, close < open);
 
-                    dataSetHighWickLines.add(highWickLine);
-                    dataSetLowWickLines.add(lowWickLine);
+                    k++;
                 }
 
                 j++;
             }
 
-            bodyRectangles.add(dataSetBodyRectangles);
+            trim(dataSetBodyRectangles, k);
 
-            highWickLines.add(dataSetHighWickLines);
-            lowWickLines.add(dataSetLowWickLines);
-
-            i++;
+            trim(dataSetHighWickLines, k);
+            trim(dataSetLowWickLines, k);
         }
 
         validateMarkers();
     }
 
+    private static void trim(List<?> list, int size) {
+        if (list.size() > size) {
+            list.subList(size, list.size()).clear();
+        }
+    }
+
+    @Override
+    int getShapeCount() {
+        return getShapeCount(bodyRectangles) + getShapeCount(highWickLines) + getShapeCount(lowWickLines);
+    }
+
     @Override
     void drawChart(Graphics2D graphics) {
         drawGrid(graphics);
@@ -283,16 +343,16 @@ public class CandlestickChart<K extends Comparable<? super K>> extends CategoryC
             var dataSetHighWickLines = highWickLines.get(i);
             var dataSetLowWickLines = lowWickLines.get(i);
 
-            var j = 0;
+            var dataSetBodyFills = bodyFills.get(i);
 
             var color = dataSet.getColor();
 
             var fillColor = colorWithAlpha(color, (int)(bodyTransparency * 255));
 
-            for (var value : dataSet.getDataPoints().values()) {
+            for (int j = 0, n = dataSetBodyRectangles.size(); j < n; j++) {
                 var bodyRectangle = dataSetBodyRectangles.get(j);
 
-                if (value.close() < value.open()) {
+                if (dataSetBodyFills.get(j)) {
                     graphics.setColor(fillColor);
 
                     graphics.fill(bodyRectangle);
@@ -307,8 +367,6 @@ public class CandlestickChart<K extends Comparable<? super K>> extends CategoryC
 
                 graphics.draw(dataSetHighWickLines.get(j));
                 graphics.draw(dataSetLowWickLines.get(j));
-
-                j++;
             }
 
             i++;
@@ -14,10 +14,12 @@
 
 package org.httprpc.sierra.charts;
 
+import javax.swing.JComponent;
 import javax.swing.JLabel;
-import javax.swing.SwingConstants;
 import java.awt.Graphics2D;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.SortedMap;
 
 import static org.httprpc.kilo.util.Collections.*;
 
@@ -27,15 +29,46 @@ import static org.httprpc.kilo.util.Collections.*;
 public abstract class CategoryChart<K extends Comparable<? super K>, V> extends Chart<K, V> {
     private List<JLabel> domainMarkerLabels = listOf();
 
+    private ComponentPool<MarkerLabelKey, JLabel> domainMarkerLabelPool = new ComponentPool<>(Chart::createDomainMarkerLabel);
+
     CategoryChart() {
     }
 
+    SortedMap<K, V> getVisibleDataPoints(SortedMap<K, V> dataPoints) {
+        var domainBounds = getExplicitDomainBounds();
+
+        if (domainBounds == null) {
+            return dataPoints;
+        }
+
+        var minimum = domainBounds.minimum();
+        var maximum = domainBounds.maximum();
+
+        if (dataPoints instanceof NavigableMap<K, V> navigableMap) {
+            return navigableMap.subMap(minimum, true, maximum, true);
+        }
+
+        // Sorted maps only support exclusive upper bounds, so the window ends at the first key after the maximum
+        var tailMap = dataPoints.tailMap(minimum);
+
+        for (var key : tailMap.tailMap(maximum).keySet()) {
+            if (key.compareTo(maximum) > 0) {
+                return tailMap.headMap(key);
+            }
+        }
+
+        return tailMap;
+    }
+
     @Override
     void validateMarkers() {
         super.validateMarkers();
 
         domainMarkerLabels.clear();
 
+        domainMarkerLabelPool.reset();
+
+        var markerColor = getMarkerColor();
         var markerFont = getMarkerFont();
 
         var gridBounds = getGridBounds();
@@ -56,14 +89,9 @@ public abstract class CategoryChart<K extends Comparable<? super K>, V> extends
             var marker = domainMarkers.get(key);
 
             if (marker != null) {
-                var label = new JLabel(marker.text(), marker.icon(), SwingConstants.CENTER);
+                var label = domainMarkerLabelPool.get(new MarkerLabelKey(marker, markerFont));
 
-                label.setHorizontalTextPosition(SwingConstants.CENTER);
-                label.setVerticalAlignment(SwingConstants.CENTER);
-                label.setVerticalTextPosition(SwingConstants.BOTTOM);
-                label.setIconTextGap(2);
-
-                label.setFont(markerFont);
+            label.setForeground(markerColor);
 
                 var size = label.getPreferredSize();
 
@@ -86,15 +114,20 @@ public abstract class CategoryChart<K extends Comparable<? super K>, V> extends
         }
     }
 
+    @Override
+    List<JComponent> getLabels() {
+        var labels = super.getLabels();
+
+        labels.addAll(domainMarkerLabels);
+
+        return labels;
+    }
+
     @Override
     void drawMarkers(Graphics2D graphics) {
         super.drawMarkers(graphics);
 
-        var markerColor = getMarkerColor();
-
         for (var label : domainMarkerLabels) {
-            label.setForeground(markerColor);
-
             paintComponent(graphics, label);
         }
     }
@@ -22,19 +22,38 @@ import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.SwingConstants;
 import javax.swing.UIManager;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Insets;
 import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
 import java.text.NumberFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import static org.httprpc.kilo.util.Collections.*;
@@ -103,6 +122,25 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         }
     }
 
+    private record TextPaneKey(
+        String text,
+        Font font
+    ) {
+    }
+
+    record MarkerLabelKey(
+        Marker marker,
+        Font font
+    ) {
+    }
+
+    private record ComponentImage(
+        BufferedImage image,
+        int x,
+        int y
+    ) {
+    }
+
     private int width = 320;
     private int height = 240;
 
@@ -124,12 +162,12 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
     private BasicStroke markerStroke = defaultMarkerStroke;
     private Font markerFont = defaultMarkerFont;
 
-    private boolean showHorizontalGridLines = true;
+    boolean showHorizontalGridLines = true;
 
     private Color horizontalGridLineColor = Color.LIGHT_GRAY;
     private BasicStroke horizontalGridLineStroke = defaultGridLineStroke;
 
-    private boolean showVerticalGridLines = true;
+    boolean showVerticalGridLines = true;
 
     private Color verticalGridLineColor = Color.LIGHT_GRAY;
     private BasicStroke verticalGridLineStroke = defaultGridLineStroke;
@@ -161,13 +199,47 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
 
     private static final NumberFormat numberFormat = NumberFormat.getNumberInstance();
 
+    private static final long TILE_SIZE = 8L * 1024 * 1024;
+
+    private static final com.sun.management.ThreadMXBean threadMXBean;
+    static {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported()
+            && bean.isThreadAllocatedMemoryEnabled()) {
+            threadMXBean = bean;
+        } else {
+            threadMXBean = null;
+        }
+    }
+
     private Bounds<K> domainBounds = null;
     private Bounds<Double> rangeBounds = null;
 
+    private Bounds<K> currentDomainBounds = null;
+    private Bounds<Double> currentRangeBounds = null;
+
     private Insets margins = null;
 
+    private Insets currentMargins = null;
+
+    private boolean floatPrecision = false;
+
+    private ChartGroup<K> group = null;
+
     private boolean valid = false;
 
+    private List<ChartListener> chartListeners = new LinkedList<>();
+
+    private List<ChangeListener> changeListeners = new LinkedList<>();
+
+    private Map<JComponent, ComponentImage> componentImages = null;
+
+    private boolean measuring = false;
+
+    private long dataEndTime = 0;
+    private long gridEndTime = 0;
+    private long markersStartTime = 0;
+
     private Rectangle2D.Double gridBounds = null;
 
     private double domainScale = 0.0;
@@ -181,6 +253,14 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
     private List<TextPane> leftAxisTextPanes = listOf();
     private List<TextPane> bottomAxisTextPanes = listOf();
 
+    private ComponentPool<TextPaneKey, TextPane> textPanePool = new ComponentPool<>(key -> {
+        var textPane = new TextPane(key.text());
+
+        textPane.setFont(key.font());
+
+        return textPane;
+    });
+
     private List<Line2D.Double> horizontalGridLines = listOf();
     private List<Line2D.Double> verticalGridLines = listOf();
 
@@ -189,6 +269,18 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
     private List<JLabel> rangeMarkerLabels = listOf();
     private List<Line2D.Double> rangeMarkerLines = listOf();
 
+    private ComponentPool<MarkerLabelKey, JLabel> rangeMarkerLabelPool = new ComponentPool<>(key -> {
+        var marker = key.marker();
+
+        var label = new JLabel(marker.text(), marker.icon(), SwingConstants.CENTER);
+
+        label.setIconTextGap(2);
+
+        label.setFont(key.font());
+
+        return label;
+    });
+
     static final int SPACING = 4;
 
     static final RenderingHints renderingHints = new RenderingHints(mapOf(
@@ -296,7 +388,7 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         }
 
         var preferredWidth = columnWidth * bottomAxisTextPanes.size()
-            + margins.left + margins.right
+            + currentMargins.left + currentMargins.right
             + verticalGridLineStroke.getLineWidth();
 
         setSize((int)Math.ceil(preferredWidth), height);
@@ -376,6 +468,8 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         }
 
         this.domainLabelColor = domainLabelColor;
+
+        valid = false;
     }
 
     /**
@@ -478,6 +572,8 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         }
 
         this.rangeLabelColor = rangeLabelColor;
+
+        valid = false;
     }
 
     /**
@@ -528,6 +624,8 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         }
 
         this.markerColor = markerColor;
+
+        valid = false;
     }
 
     /**
@@ -748,6 +846,10 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         this.dataSets = dataSets;
 
         valid = false;
+
+        if (group != null) {
+            group.invalidate();
+        }
     }
 
     /**
@@ -806,10 +908,11 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
      * Returns the domain bounds.
      *
      * @return
-     * The domain bounds.
+     * The domain bounds, or the bounds computed during the most recent
+     * validation if none have been set.
      */
     public Bounds<K> getDomainBounds() {
-        return domainBounds;
+        return coalesce(domainBounds, () -> currentDomainBounds);
     }
 
     /**
@@ -828,10 +931,11 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
      * Returns the range bounds.
      *
      * @return
-     * The range bounds.
+     * The range bounds, or the bounds computed during the most recent
+     * validation if none have been set.
      */
     public Bounds<Double> getRangeBounds() {
-        return rangeBounds;
+        return coalesce(rangeBounds, () -> currentRangeBounds);
     }
 
     /**
@@ -850,10 +954,11 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
      * Returns the chart margins.
      *
      * @return
-     * The chart margins.
+     * The chart margins, or the margins computed during the most recent
+     * validation if none have been set.
      */
     public Insets getMargins() {
-        return margins;
+        return coalesce(margins, () -> currentMargins);
     }
 
     /**
@@ -868,6 +973,33 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         valid = false;
     }
 
+    /**
+     * Indicates that chart geometry will be stored using single-precision
+     * coordinates. The default value is {@code false}.
+     *
+     * @return
+     * {@code true} if single-precision coordinates will be used;
+     * {@code false}, otherwise.
+     */
+    public boolean getFloatPrecision() {
+        return floatPrecision;
+    }
+
+    /**
+     * Toggles single-precision geometry. Single precision is sufficient for
+     * screen coordinates and roughly halves the memory retained by charts
+     * containing large numbers of data points.
+     *
+     * @param floatPrecision
+     * {@code true} to use single-precision coordinates; {@code false} to use
+     * double-precision coordinates.
+     */
+    public void setFloatPrecision(boolean floatPrecision) {
+        this.floatPrecision = floatPrecision;
+
+        valid = false;
+    }
+
     /**
      * Draws the chart.
      *
@@ -877,13 +1009,301 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
     public void draw(Graphics2D graphics) {
         graphics.setRenderingHints(renderingHints);
 
+        if (chartListeners.isEmpty()) {
+            if (!valid) {
+                validate();
+
+                valid = true;
+            }
+
+            drawChart(graphics);
+        } else {
+            if (!valid) {
+                var metrics = measure(this::validate);
+
+                valid = true;
+
+                for (var listener : chartListeners) {
+                    listener.chartValidated(this, metrics);
+                }
+            }
+
+            var metrics = measure(() -> drawChart(graphics));
+
+            for (var listener : chartListeners) {
+                listener.chartDrawn(this, metrics);
+            }
+        }
+    }
+
+    /**
+     * Writes an SVG representation of the chart. Chart content is streamed
+     * directly to the writer as it is drawn.
+     *
+     * @param writer
+     * The writer to which the SVG document will be written.
+     *
+     * @throws IOException
+     * If an exception occurs while writing the document.
+     */
+    public void writeSVG(Writer writer) throws IOException {
+        if (writer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        var svgGraphics = new SVGGraphics(new BufferedWriter(writer), width, height);
+
+        try {
+            draw(svgGraphics);
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        svgGraphics.finish();
+    }
+
+    /**
+     * Writes a PNG representation of the chart. The image is rendered as a
+     * series of horizontal tiles that are drawn and compressed concurrently,
+     * and encoded rows are written to the output stream as each tile
+     * completes. Labels are rendered once, before any tiles are drawn.
+     *
+     * @param outputStream
+     * The output stream to which the image will be written.
+     *
+     * @param scale
+     * The scale at which the chart will be rendered.
+     *
+     * @throws IOException
+     * If an exception occurs while writing the image.
+     */
+    public void writePNG(OutputStream outputStream, double scale) throws IOException {
+        if (outputStream == null || scale <= 0.0) {
+            throw new IllegalArgumentException();
+        }
+
         if (!valid) {
             validate();
 
             valid = true;
         }
 
-        drawChart(graphics);
+        var imageWidth = Math.max((int)Math.ceil(width * scale), 1);
+        var imageHeight = Math.max((int)Math.ceil(height * scale), 1);
+
+        // Swing components are not thread-safe, so tiles draw pre-rendered images of them instead
+        componentImages = new HashMap<>();
+
+        for (var label : getLabels()) {
+            if (label.isVisible()) {
+                componentImages.put(label, createComponentImage(label, scale));
+            }
+        }
+
+        try {
+            writePNG(outputStream, scale, imageWidth, imageHeight);
+        } finally {
+            componentImages = null;
+        }
+    }
+
+    private void writePNG(OutputStream outputStream, double scale, int imageWidth, int imageHeight) throws IOException {
+        var tileHeight = (int)Math.max(Math.min(TILE_SIZE / ((long)imageWidth * 4), imageHeight), 1);
+
+        var tileCount = (imageHeight + tileHeight - 1) / tileHeight;
+
+        var pngEncoder = new PNGEncoder(outputStream, imageWidth, imageHeight);
+
+        pngEncoder.writeHeader();
+
+        var strips = new ArrayDeque<CompletableFuture<PNGEncoder.Strip>>();
+
+        var parallelism = Runtime.getRuntime().availableProcessors() + 1;
+
+        var i = 0;
+
+        while (i < tileCount || !strips.isEmpty()) {
+            while (i < tileCount && strips.size() < parallelism) {
+                var y = i * tileHeight;
+                var last = (i == tileCount - 1);
+
+                var stripHeight = Math.min(tileHeight, imageHeight - y);
+
+                strips.add(CompletableFuture.supplyAsync(() -> {
+                    var image = new BufferedImage(imageWidth, stripHeight, BufferedImage.TYPE_INT_ARGB);
+
+                    var graphics = image.createGraphics();
+
+                    graphics.setRenderingHints(renderingHints);
+
+                    graphics.translate(0, -y);
+                    graphics.scale(scale, scale);
+
+                    drawChart(graphics);
+
+                    graphics.dispose();
+
+                    return PNGEncoder.compress(image, last);
+                }));
+
+                i++;
+            }
+
+            PNGEncoder.Strip strip;
+            try {
+                strip = strips.remove().join();
+            } catch (CompletionException exception) {
+                for (var future : strips) {
+                    future.cancel(false);
+                }
+
+                if (exception.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else {
+                    throw exception;
+                }
+            }
+
+            pngEncoder.writeStrip(strip);
+        }
+
+        pngEncoder.finish();
+    }
+
+    /**
+     * Adds a chart listener. Listeners are notified when the chart is
+     * validated or drawn by {@link #draw(Graphics2D)}.
+     *
+     * @param listener
+     * The chart listener to add.
+     */
+    public void addChartListener(ChartListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        chartListeners.add(listener);
+    }
+
+    /**
+     * Removes a chart listener.
+     *
+     * @param listener
+     * The chart listener to remove.
+     */
+    public void removeChartListener(ChartListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        chartListeners.remove(listener);
+    }
+
+    /**
+     * Adds a change listener. Listeners are notified on the event dispatch
+     * thread when the chart's content changes outside of a property setter;
+     * for example, when a trend line that was fitted on a background thread
+     * becomes available.
+     *
+     * @param listener
+     * The change listener to add.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Removes a change listener.
+     *
+     * @param listener
+     * The change listener to remove.
+     */
+    public void removeChangeListener(ChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        changeListeners.remove(listener);
+    }
+
+    void fireStateChanged() {
+        var event = new ChangeEvent(this);
+
+        for (var changeListener : changeListeners) {
+            changeListener.stateChanged(event);
+        }
+    }
+
+    private ChartMetrics measure(Runnable runnable) {
+        var allocatedBytes = getAllocatedBytes();
+
+        var startTime = System.nanoTime();
+
+        dataEndTime = startTime;
+        gridEndTime = startTime;
+        markersStartTime = -1;
+
+        measuring = true;
+
+        try {
+            runnable.run();
+        } finally {
+            measuring = false;
+        }
+
+        var endTime = System.nanoTime();
+
+        if (markersStartTime < 0) {
+            markersStartTime = endTime;
+        }
+
+        if (allocatedBytes >= 0) {
+            allocatedBytes = getAllocatedBytes() - allocatedBytes;
+        }
+
+        return new ChartMetrics(dataEndTime - startTime,
+            gridEndTime - dataEndTime,
+            markersStartTime - gridEndTime,
+            endTime - markersStartTime,
+            getPointCount(),
+            getShapeCount(),
+            allocatedBytes);
+    }
+
+    private static long getAllocatedBytes() {
+        if (threadMXBean == null) {
+            return -1;
+        }
+
+        return threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    long getPointCount() {
+        var pointCount = 0L;
+
+        for (var dataSet : dataSets) {
+            pointCount += dataSet.getDataPoints().size();
+        }
+
+        return pointCount;
+    }
+
+    int getShapeCount() {
+        return 0;
+    }
+
+    static int getShapeCount(List<? extends List<?>> shapes) {
+        var shapeCount = 0;
+
+        for (var list : shapes) {
+            shapeCount += list.size();
+        }
+
+        return shapeCount;
     }
 
     /**
@@ -891,6 +1311,72 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
      */
     public abstract void validate();
 
+    void invalidate() {
+        valid = false;
+    }
+
+    void dataPointUpdated(DataSet<K, V> dataSet, K key, V previousValue, V value) {
+        // No-op
+    }
+
+    ChartGroup<K> getGroup() {
+        return group;
+    }
+
+    void setGroup(ChartGroup<K> group) {
+        this.group = group;
+
+        valid = false;
+    }
+
+    Bounds<K> getSharedDomainBounds() {
+        return (group == null) ? null : group.getSharedDomainBounds();
+    }
+
+    SortedSet<K> getSharedKeys() {
+        return (group == null) ? null : group.getKeys();
+    }
+
+    private String getDomainLabel(K key) {
+        if (group == null) {
+            return domainLabelTransform.apply(key);
+        } else {
+            return group.getDomainLabel(domainLabelTransform, key);
+        }
+    }
+
+    Path2D createPath(int capacity) {
+        if (floatPrecision) {
+            return new Path2D.Float(Path2D.WIND_NON_ZERO, capacity);
+        } else {
+            return new Path2D.Double(Path2D.WIND_NON_ZERO, capacity);
+        }
+    }
+
+    Rectangle2D createRectangle(double x, double y, double width, double height) {
+        if (floatPrecision) {
+            return new Rectangle2D.Float((float)x, (float)y, (float)width, (float)height);
+        } else {
+            return new Rectangle2D.Double(x, y, width, height);
+        }
+    }
+
+    Line2D createLine(double x1, double y1, double x2, double y2) {
+        if (floatPrecision) {
+            return new Line2D.Float((float)x1, (float)y1, (float)x2, (float)y2);
+        } else {
+            return new Line2D.Double(x1, y1, x2, y2);
+        }
+    }
+
+    Ellipse2D createEllipse(double x, double y, double width, double height) {
+        if (floatPrecision) {
+            return new Ellipse2D.Float((float)x, (float)y, (float)width, (float)height);
+        } else {
+            return new Ellipse2D.Double(x, y, width, height);
+        }
+    }
+
     SortedSet<K> getKeys() {
         return null;
     }
@@ -907,16 +1393,23 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         return false;
     }
 
-    void validateGrid() {
+    void validateGrid(Bounds<K> defaultDomainBounds, Bounds<Double> defaultRangeBounds) {
+        if (measuring) {
+            dataEndTime = System.nanoTime();
+        }
+
+        currentDomainBounds = coalesce(getExplicitDomainBounds(), () -> defaultDomainBounds);
+        currentRangeBounds = coalesce(rangeBounds, () -> defaultRangeBounds);
+
         var domainValueTransform = getDomainValueTransform();
 
         var domainMinimum = 0.0;
         var domainMaximum = 0.0;
 
         if (domainValueTransform != null) {
-            if (domainBounds != null) {
-                domainMinimum = domainValueTransform.apply(domainBounds.minimum()).doubleValue();
-                domainMaximum = domainValueTransform.apply(domainBounds.maximum()).doubleValue();
+            if (currentDomainBounds != null) {
+                domainMinimum = domainValueTransform.apply(currentDomainBounds.minimum()).doubleValue();
+                domainMaximum = domainValueTransform.apply(currentDomainBounds.maximum()).doubleValue();
             }
 
             if (domainMinimum == domainMaximum) {
@@ -925,28 +1418,30 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
 
                 var domainKeyTransform = getDomainKeyTransform();
 
-                domainBounds = new Bounds<>(domainKeyTransform.apply(domainMinimum), domainKeyTransform.apply(domainMaximum));
+                currentDomainBounds = new Bounds<>(domainKeyTransform.apply(domainMinimum), domainKeyTransform.apply(domainMaximum));
             }
         }
 
         var rangeMinimum = 0.0;
         var rangeMaximum = 0.0;
 
-        if (rangeBounds != null) {
-            rangeMinimum = rangeBounds.minimum();
-            rangeMaximum = rangeBounds.maximum();
+        if (currentRangeBounds != null) {
+            rangeMinimum = currentRangeBounds.minimum();
+            rangeMaximum = currentRangeBounds.maximum();
         }
 
         if (rangeMinimum == rangeMaximum) {
             rangeMinimum -= 1.0;
             rangeMaximum += 1.0;
 
-            rangeBounds = new Bounds<>(rangeMinimum, rangeMaximum);
+            currentRangeBounds = new Bounds<>(rangeMinimum, rangeMaximum);
         }
 
         leftAxisTextPanes.clear();
         bottomAxisTextPanes.clear();
 
+        textPanePool.reset();
+
         horizontalGridLines.clear();
         verticalGridLines.clear();
 
@@ -955,18 +1450,16 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         populateDomainTextPanes();
         populateRangeTextPanes();
 
-        if (margins == null) {
-            margins = getPreferredMargins();
-        }
+        currentMargins = coalesce(margins, this::getPreferredMargins);
 
         var horizontalGridLineWidth = (double)horizontalGridLineStroke.getLineWidth();
         var verticalGridLineWidth = (double)verticalGridLineStroke.getLineWidth();
 
-        var gridX = margins.left + verticalGridLineWidth / 2;
-        var gridY = margins.top + horizontalGridLineWidth / 2;
+        var gridX = currentMargins.left + verticalGridLineWidth / 2;
+        var gridY = currentMargins.top + horizontalGridLineWidth / 2;
 
-        var gridWidth = Math.max(width - (margins.left + margins.right + verticalGridLineWidth), 0.0);
-        var gridHeight = Math.max(height - (margins.top + margins.bottom + horizontalGridLineWidth), 0.0);
+        var gridWidth = Math.max(width - (currentMargins.left + currentMargins.right + verticalGridLineWidth), 0.0);
+        var gridHeight = Math.max(height - (currentMargins.top + currentMargins.bottom + horizontalGridLineWidth), 0.0);
 
         gridBounds = new Rectangle2D.Double(gridX, gridY, gridWidth, gridHeight);
 
@@ -1034,6 +1527,10 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
 
         validateVerticalAxisLabels();
         validateHorizontalAxisLabels();
+
+        if (measuring) {
+            gridEndTime = System.nanoTime();
+        }
     }
 
     private Insets getPreferredMargins() {
@@ -1056,6 +1553,14 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         return new Insets(0, left + SPACING, bottom + SPACING, 0);
     }
 
+    Bounds<K> getExplicitDomainBounds() {
+        return coalesce(getSharedDomainBounds(), () -> domainBounds);
+    }
+
+    Bounds<Double> getExplicitRangeBounds() {
+        return rangeBounds;
+    }
+
     Rectangle2D.Double getGridBounds() {
         return gridBounds;
     }
@@ -1089,29 +1594,25 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
             var domainValueTransform = getDomainValueTransform();
             var domainKeyTransform = getDomainKeyTransform();
 
-            var domainMinimum = domainValueTransform.apply(domainBounds.minimum()).doubleValue();
-            var domainMaximum = domainValueTransform.apply(domainBounds.maximum()).doubleValue();
+            var domainMinimum = domainValueTransform.apply(currentDomainBounds.minimum()).doubleValue();
+            var domainMaximum = domainValueTransform.apply(currentDomainBounds.maximum()).doubleValue();
 
             var domainStep = (domainMaximum - domainMinimum) / (domainLabelCount - 1);
 
             for (var i = 0; i < domainLabelCount; i++) {
                 var key = domainKeyTransform.apply(domainMinimum + domainStep * i);
 
-                var textPane = new TextPane(domainLabelTransform.apply(key));
-
-                textPane.setFont(domainLabelFont);
-
-                domainTextPanes.add(textPane);
+                domainTextPanes.add(textPanePool.get(new TextPaneKey(getDomainLabel(key), domainLabelFont)));
             }
         } else {
             for (var key : isTransposed() ? keys.reversed() : keys) {
-                var textPane = new TextPane(domainLabelTransform.apply(key));
-
-                textPane.setFont(domainLabelFont);
-
-                domainTextPanes.add(textPane);
+                domainTextPanes.add(textPanePool.get(new TextPaneKey(getDomainLabel(key), domainLabelFont)));
             }
         }
+
+        for (var textPane : domainTextPanes) {
+            textPane.setForeground(domainLabelColor);
+        }
     }
 
     private List<TextPane> getDomainTextPanes() {
@@ -1125,17 +1626,17 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
     private void populateRangeTextPanes() {
         var rangeTextPanes = getRangeTextPanes();
 
-        var rangeMinimum = rangeBounds.minimum();
-        var rangeMaximum = rangeBounds.maximum();
+        var rangeMinimum = currentRangeBounds.minimum();
+        var rangeMaximum = currentRangeBounds.maximum();
 
         var rangeStep = Math.abs(rangeMaximum - rangeMinimum) / (rangeLabelCount - 1);
 
         for (var i = 0; i < rangeLabelCount; i++) {
             var label = rangeLabelTransform.apply(rangeMinimum + rangeStep * i);
 
-            var textPane = new TextPane(label);
+            var textPane = textPanePool.get(new TextPaneKey(label, rangeLabelFont));
 
-            textPane.setFont(rangeLabelFont);
+            textPane.setForeground(rangeLabelColor);
 
             rangeTextPanes.add(textPane);
         }
@@ -1180,7 +1681,7 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
 
             textPane.setHorizontalAlignment(HorizontalAlignment.TRAILING);
 
-            textPane.setBounds(0, (int)Math.round(y), margins.left - SPACING, size.height);
+            textPane.setBounds(0, (int)Math.round(y), currentMargins.left - SPACING, size.height);
             textPane.doLayout();
 
             baseY -= rowHeight;
@@ -1262,9 +1763,15 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
     }
 
     void validateMarkers() {
+        if (measuring) {
+            markersStartTime = System.nanoTime();
+        }
+
         rangeMarkerLabels.clear();
         rangeMarkerLines.clear();
 
+        rangeMarkerLabelPool.reset();
+
         var gridX = gridBounds.getX();
         var gridY = gridBounds.getY();
 
@@ -1279,11 +1786,9 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
 
             var marker = entry.getValue();
 
-            var label = new JLabel(marker.text(), marker.icon(), SwingConstants.CENTER);
-
-            label.setIconTextGap(2);
+            var label = rangeMarkerLabelPool.get(new MarkerLabelKey(marker, markerFont));
 
-            label.setFont(markerFont);
+            label.setForeground(markerColor);
 
             var size = label.getPreferredSize();
 
@@ -1345,16 +1850,12 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
 
         for (var textPane : getDomainTextPanes()) {
             if (textPane.isVisible()) {
-                textPane.setForeground(domainLabelColor);
-
                 paintComponent(graphics, textPane);
             }
         }
 
         for (var textPane : getRangeTextPanes()) {
             if (textPane.isVisible()) {
-                textPane.setForeground(rangeLabelColor);
-
                 paintComponent(graphics, textPane);
             }
         }
@@ -1366,6 +1867,10 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         var height = (int)Math.floor(horizontalGridLines.getLast().getY1()) - y;
 
         graphics.clipRect(x, y, width, height);
+
+        if (measuring) {
+            gridEndTime = System.nanoTime();
+        }
     }
 
     void drawZeroLine(Graphics2D graphics, Color color, BasicStroke stroke) {
@@ -1380,9 +1885,11 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
     }
 
     void drawMarkers(Graphics2D graphics) {
-        for (var label : rangeMarkerLabels) {
-            label.setForeground(markerColor);
+        if (measuring) {
+            markersStartTime = System.nanoTime();
+        }
 
+        for (var label : rangeMarkerLabels) {
             paintComponent(graphics, label);
         }
 
@@ -1409,17 +1916,88 @@ public abstract class Chart<K extends Comparable<? super K>, V> {
         return new Bounds<>(minimum, maximum);
     }
 
+    static JLabel createDomainMarkerLabel(MarkerLabelKey key) {
+        var marker = key.marker();
+
+        var label = new JLabel(marker.text(), marker.icon(), SwingConstants.CENTER);
+
+        label.setHorizontalTextPosition(SwingConstants.CENTER);
+        label.setVerticalAlignment(SwingConstants.CENTER);
+        label.setVerticalTextPosition(SwingConstants.BOTTOM);
+        label.setIconTextGap(2);
+
+        label.setFont(key.font());
+
+        return label;
+    }
+
     static Color colorWithAlpha(Color color, int alpha) {
         return new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
     }
 
-    static void paintComponent(Graphics2D graphics, JComponent component) {
+    List<JComponent> getLabels() {
+        var labels = new ArrayList<JComponent>(leftAxisTextPanes.size() + bottomAxisTextPanes.size() + rangeMarkerLabels.size());
+
+        labels.addAll(leftAxisTextPanes);
+        labels.addAll(bottomAxisTextPanes);
+        labels.addAll(rangeMarkerLabels);
+
+        return labels;
+    }
+
+    void paintComponent(Graphics2D graphics, JComponent component) {
         graphics = (Graphics2D)graphics.create();
 
-        graphics.translate(component.getX(), component.getY());
+        if (componentImages == null) {
+            graphics.translate(component.getX(), component.getY());
+
+            // Glyphs may extend slightly beyond the component's bounds, which would otherwise be used as the clip
+            graphics.clipRect(-SPACING, -SPACING, component.getWidth() + SPACING * 2, component.getHeight() + SPACING * 2);
+
+            component.paint(graphics);
+        } else {
+            var componentImage = componentImages.get(component);
+
+            // Tiles differ only by a vertical translation
+            var transform = graphics.getTransform();
+
+            graphics.setTransform(new AffineTransform());
+
+            graphics.drawImage(componentImage.image(),
+                componentImage.x() + (int)Math.round(transform.getTranslateX()),
+                componentImage.y() + (int)Math.round(transform.getTranslateY()),
+                null);
+        }
+
+        graphics.dispose();
+    }
+
+    private static ComponentImage createComponentImage(JComponent component, double scale) {
+        var x = (component.getX() - SPACING) * scale;
+        var y = (component.getY() - SPACING) * scale;
+
+        var imageX = (int)Math.floor(x);
+        var imageY = (int)Math.floor(y);
+
+        var imageWidth = (int)Math.ceil(x - imageX + (component.getWidth() + SPACING * 2) * scale);
+        var imageHeight = (int)Math.ceil(y - imageY + (component.getHeight() + SPACING * 2) * scale);
+
+        var image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+
+        var graphics = image.createGraphics();
+
+        graphics.setRenderingHints(renderingHints);
+
+        graphics.translate(x - imageX, y - imageY);
+        graphics.scale(scale, scale);
+        graphics.translate(SPACING, SPACING);
+
+        graphics.clipRect(-SPACING, -SPACING, component.getWidth() + SPACING * 2, component.getHeight() + SPACING * 2);
 
         component.paint(graphics);
 
         graphics.dispose();
+
+        return new ComponentImage(image, imageX, imageY);
     }
 }
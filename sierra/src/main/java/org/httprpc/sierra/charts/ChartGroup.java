@@ -0,0 +1,200 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.httprpc.kilo.util.Collections.*;
+
+/**
+ * Groups charts that share a common domain. Domain bounds, category keys, and
+ * domain labels are computed once for the group and reused by each member
+ * chart, so that zooming or panning a group of stacked charts requires a
+ * single domain computation.
+ *
+ * @param <K>
+ * The key type.
+ */
+public class ChartGroup<K extends Comparable<? super K>> {
+    private List<Chart<K, ?>> charts = listOf();
+
+    private Chart.Bounds<K> domainBounds = null;
+
+    private boolean valid = false;
+
+    private Chart.Bounds<K> sharedDomainBounds = null;
+    private SortedSet<K> keys = null;
+
+    private Map<Function<K, String>, Map<K, String>> domainLabels = new IdentityHashMap<>();
+
+    /**
+     * Returns the member charts.
+     *
+     * @return
+     * The member charts.
+     */
+    public List<Chart<K, ?>> getCharts() {
+        return charts;
+    }
+
+    /**
+     * Sets the member charts. A chart may belong to at most one group.
+     *
+     * @param charts
+     * The member charts.
+     */
+    public void setCharts(List<Chart<K, ?>> charts) {
+        if (charts == null) {
+            throw new IllegalArgumentException();
+        }
+
+        for (var chart : charts) {
+            if (chart.getGroup() != null && chart.getGroup() != this) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        for (var chart : this.charts) {
+            chart.setGroup(null);
+        }
+
+        this.charts = charts;
+
+        for (var chart : charts) {
+            chart.setGroup(this);
+        }
+
+        invalidate();
+    }
+
+    /**
+     * Returns the domain bounds.
+     *
+     * @return
+     * The domain bounds.
+     */
+    public Chart.Bounds<K> getDomainBounds() {
+        return domainBounds;
+    }
+
+    /**
+     * Sets the domain bounds. The bounds are applied to every member chart,
+     * replacing any bounds set on the charts themselves.
+     *
+     * @param domainBounds
+     * The domain bounds, or {@code null} for the combined bounds of the
+     * member charts' data sets.
+     */
+    public void setDomainBounds(Chart.Bounds<K> domainBounds) {
+        this.domainBounds = domainBounds;
+
+        invalidate();
+    }
+
+    /**
+     * Invalidates the group's shared domain state, along with each member
+     * chart. This method should be called when the contents of a member
+     * chart's data sets change.
+     */
+    public void invalidate() {
+        valid = false;
+
+        for (var chart : charts) {
+            chart.invalidate();
+        }
+    }
+
+    private void validate() {
+        if (valid) {
+            return;
+        }
+
+        if (domainBounds == null) {
+            K domainMinimum = null;
+            K domainMaximum = null;
+
+            for (var chart : charts) {
+                for (var dataSet : chart.getDataSets()) {
+                    var dataPoints = dataSet.getDataPoints();
+
+                    if (dataPoints.isEmpty()) {
+                        continue;
+                    }
+
+                    var firstKey = dataPoints.firstKey();
+                    var lastKey = dataPoints.lastKey();
+
+                    if (domainMinimum == null || firstKey.compareTo(domainMinimum) < 0) {
+                        domainMinimum = firstKey;
+                    }
+
+                    if (domainMaximum == null || lastKey.compareTo(domainMaximum) > 0) {
+                        domainMaximum = lastKey;
+                    }
+                }
+            }
+
+            sharedDomainBounds = (domainMinimum == null) ? null : new Chart.Bounds<>(domainMinimum, domainMaximum);
+        } else {
+            sharedDomainBounds = domainBounds;
+        }
+
+        keys = null;
+
+        domainLabels.clear();
+
+        valid = true;
+    }
+
+    Chart.Bounds<K> getSharedDomainBounds() {
+        validate();
+
+        return sharedDomainBounds;
+    }
+
+    SortedSet<K> getKeys() {
+        validate();
+
+        if (keys == null) {
+            var keys = new TreeSet<K>();
+
+            for (var chart : charts) {
+                for (var dataSet : chart.getDataSets()) {
+                    keys.addAll(dataSet.getDataPoints().keySet());
+                }
+            }
+
+            if (sharedDomainBounds == null) {
+                this.keys = keys;
+            } else {
+                this.keys = keys.subSet(sharedDomainBounds.minimum(), true, sharedDomainBounds.maximum(), true);
+            }
+        }
+
+        return keys;
+    }
+
+    String getDomainLabel(Function<K, String> domainLabelTransform, K key) {
+        validate();
+
+        return domainLabels.computeIfAbsent(domainLabelTransform, transform -> new HashMap<>()).computeIfAbsent(key, domainLabelTransform);
+    }
+}
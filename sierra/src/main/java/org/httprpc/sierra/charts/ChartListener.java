@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.util.EventListener;
+
+/**
+ * Chart listener interface.
+ */
+public interface ChartListener extends EventListener {
+    /**
+     * Called when a chart has been validated.
+     *
+     * @param chart
+     * The source chart.
+     *
+     * @param metrics
+     * The validation metrics.
+     */
+    void chartValidated(Chart<?, ?> chart, ChartMetrics metrics);
+
+    /**
+     * Called when a chart has been drawn.
+     *
+     * @param chart
+     * The source chart.
+     *
+     * @param metrics
+     * The drawing metrics.
+     */
+    void chartDrawn(Chart<?, ?> chart, ChartMetrics metrics);
+}
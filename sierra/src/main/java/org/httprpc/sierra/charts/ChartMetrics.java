@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+/**
+ * Represents chart validation or drawing metrics. Durations are reported in
+ * nanoseconds.
+ *
+ * @param dataDuration
+ * The time spent scanning the chart's data sets for keys and bounds.
+ *
+ * @param gridDuration
+ * The time spent on the grid and axis labels.
+ *
+ * @param seriesDuration
+ * The time spent on the chart's data sets.
+ *
+ * @param markerDuration
+ * The time spent on domain and range markers.
+ *
+ * @param pointCount
+ * The number of data points in the chart's data sets.
+ *
+ * @param shapeCount
+ * The number of shapes produced for the chart's data sets.
+ *
+ * @param allocatedBytes
+ * The number of bytes allocated by the current thread, or -1 if allocation
+ * measurement is not supported.
+ */
+public record ChartMetrics(
+    long dataDuration,
+    long gridDuration,
+    long seriesDuration,
+    long markerDuration,
+    long pointCount,
+    int shapeCount,
+    long allocatedBytes
+) {
+    /**
+     * Returns the total duration.
+     *
+     * @return
+     * The sum of the data, grid, series, and marker durations.
+     */
+    public long totalDuration() {
+        return dataDuration + gridDuration + seriesDuration + markerDuration;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import javax.swing.JComponent;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Pools components used to render chart labels. Components obtained since the
+ * last reset are retained for reuse by the next validation pass; components
+ * that are not reused are discarded.
+ */
+class ComponentPool<K, C extends JComponent> {
+    private Function<K, C> factory;
+
+    private Map<K, Deque<C>> available = new HashMap<>();
+    private Map<K, Deque<C>> used = new HashMap<>();
+
+    ComponentPool(Function<K, C> factory) {
+        this.factory = factory;
+    }
+
+    void reset() {
+        var map = available;
+
+        map.clear();
+
+        available = used;
+        used = map;
+    }
+
+    C get(K key) {
+        var components = available.get(key);
+
+        C component;
+        if (components == null || components.isEmpty()) {
+            component = factory.apply(key);
+        } else {
+            component = components.pop();
+
+            component.setVisible(true);
+        }
+
+        used.computeIfAbsent(key, k -> new ArrayDeque<>()).push(component);
+
+        return component;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Non-linear curve fit. Instances are immutable and may be computed on a
+ * background thread.
+ */
+class CurveFit {
+    private double minimum;
+    private double maximum;
+
+    private DoubleUnaryOperator function;
+
+    private CurveFit(double minimum, double maximum, DoubleUnaryOperator function) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+
+        this.function = function;
+    }
+
+    double getMinimum() {
+        return minimum;
+    }
+
+    double getMaximum() {
+        return maximum;
+    }
+
+    double evaluate(double x) {
+        return function.applyAsDouble(x);
+    }
+
+    /**
+     * Fits a least-squares polynomial. Values are centered and scaled before
+     * the normal equations are solved, to limit cancellation error.
+     */
+    static CurveFit polynomial(double[] xs, double[] ys, int n, int degree) {
+        if (n <= degree) {
+            return null;
+        }
+
+        var mean = 0.0;
+
+        for (var i = 0; i < n; i++) {
+            mean += (xs[i] - mean) / (i + 1);
+        }
+
+        var scale = 0.0;
+
+        for (var i = 0; i < n; i++) {
+            scale = Math.max(scale, Math.abs(xs[i] - mean));
+        }
+
+        if (scale == 0.0) {
+            return null;
+        }
+
+        var m = degree + 1;
+
+        var sums = new double[m * 2 - 1];
+        var products = new double[m];
+
+        for (var i = 0; i < n; i++) {
+            var u = (xs[i] - mean) / scale;
+
+            var p = 1.0;
+
+            for (var j = 0; j < sums.length; j++) {
+                sums[j] += p;
+
+                if (j < m) {
+                    products[j] += p * ys[i];
+                }
+
+                p *= u;
+            }
+        }
+
+        var matrix = new double[m][m + 1];
+
+        for (var i = 0; i < m; i++) {
+            for (var j = 0; j < m; j++) {
+                matrix[i][j] = sums[i + j];
+            }
+
+            matrix[i][m] = products[i];
+        }
+
+        var coefficients = solve(matrix);
+
+        if (coefficients == null) {
+            return null;
+        }
+
+        var minimum = Arrays.stream(xs, 0, n).min().orElseThrow();
+        var maximum = Arrays.stream(xs, 0, n).max().orElseThrow();
+
+        var center = mean;
+        var width = scale;
+
+        return new CurveFit(minimum, maximum, x -> {
+            var u = (x - center) / width;
+
+            var y = 0.0;
+
+            for (var i = coefficients.length - 1; i >= 0; i--) {
+                y = y * u + coefficients[i];
+            }
+
+            return y;
+        });
+    }
+
+    private static double[] solve(double[][] matrix) {
+        var m = matrix.length;
+
+        for (var i = 0; i < m; i++) {
+            var pivot = i;
+
+            for (var j = i + 1; j < m; j++) {
+                if (Math.abs(matrix[j][i]) > Math.abs(matrix[pivot][i])) {
+                    pivot = j;
+                }
+            }
+
+            if (Math.abs(matrix[pivot][i]) < 1e-12) {
+                return null;
+            }
+
+            var row = matrix[i];
+
+            matrix[i] = matrix[pivot];
+            matrix[pivot] = row;
+
+            for (var j = i + 1; j < m; j++) {
+                var factor = matrix[j][i] / matrix[i][i];
+
+                for (var k = i; k <= m; k++) {
+                    matrix[j][k] -= factor * matrix[i][k];
+                }
+            }
+        }
+
+        var solution = new double[m];
+
+        for (var i = m - 1; i >= 0; i--) {
+            var value = matrix[i][m];
+
+            for (var j = i + 1; j < m; j++) {
+                value -= matrix[i][j] * solution[j];
+            }
+
+            solution[i] = value / matrix[i][i];
+        }
+
+        return solution;
+    }
+
+    /**
+     * Fits a locally weighted linear regression (LOESS) curve. The x values
+     * must be sorted in ascending order. The curve is sampled at the given
+     * resolution and linearly interpolated between samples.
+     */
+    static CurveFit loess(double[] xs, double[] ys, int n, double span, int resolution) {
+        if (n < 3) {
+            return null;
+        }
+
+        var minimum = xs[0];
+        var maximum = xs[n - 1];
+
+        if (maximum == minimum) {
+            return null;
+        }
+
+        var q = Math.min(Math.max((int)Math.ceil(n * span), 3), n);
+
+        var samples = new double[resolution + 1];
+
+        var step = (maximum - minimum) / resolution;
+
+        for (var i = 0; i <= resolution; i++) {
+            samples[i] = smooth(xs, ys, n, q, minimum + i * step);
+        }
+
+        return new CurveFit(minimum, maximum, x -> {
+            var t = Math.min(Math.max((x - minimum) / step, 0.0), resolution);
+
+            var i = Math.min((int)t, resolution - 1);
+
+            return samples[i] + (samples[i + 1] - samples[i]) * (t - i);
+        });
+    }
+
+    private static double smooth(double[] xs, double[] ys, int n, int q, double x0) {
+        // Select the q nearest neighbors of x0, which form a contiguous window
+        var index = Arrays.binarySearch(xs, 0, n, x0);
+
+        var low = (index < 0) ? -(index + 1) : index;
+        var high = low;
+
+        while (high - low < q) {
+            if (low == 0) {
+                high++;
+            } else if (high == n) {
+                low--;
+            } else if (x0 - xs[low - 1] <= xs[high] - x0) {
+                low--;
+            } else {
+                high++;
+            }
+        }
+
+        var distance = Math.max(x0 - xs[low], xs[high - 1] - x0) * 1.0001;
+
+        if (distance == 0.0) {
+            return Arrays.stream(ys, low, high).average().orElseThrow();
+        }
+
+        var totalWeight = 0.0;
+
+        var meanX = 0.0;
+        var meanY = 0.0;
+
+        for (var i = low; i < high; i++) {
+            var w = tricube(Math.abs(xs[i] - x0) / distance);
+
+            totalWeight += w;
+
+            meanX += w * xs[i];
+            meanY += w * ys[i];
+        }
+
+        if (totalWeight == 0.0) {
+            return Double.NaN;
+        }
+
+        meanX /= totalWeight;
+        meanY /= totalWeight;
+
+        var sumSquares = 0.0;
+        var sumProducts = 0.0;
+
+        for (var i = low; i < high; i++) {
+            var w = tricube(Math.abs(xs[i] - x0) / distance);
+
+            var dx = xs[i] - meanX;
+
+            sumSquares += w * dx * dx;
+            sumProducts += w * dx * (ys[i] - meanY);
+        }
+
+        if (sumSquares == 0.0) {
+            return meanY;
+        }
+
+        return meanY + (sumProducts / sumSquares) * (x0 - meanX);
+    }
+
+    private static double tricube(double u) {
+        if (u >= 1.0) {
+            return 0.0;
+        }
+
+        var v = 1.0 - u * u * u;
+
+        return v * v * v;
+    }
+}
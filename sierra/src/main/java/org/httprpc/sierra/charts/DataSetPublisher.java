@@ -0,0 +1,282 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import javax.swing.Timer;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes data points to a chart's data set from arbitrary threads.
+ * Pending updates are coalesced by key, so only the most recent update to
+ * each data point is retained. They are applied to the data set on the event
+ * dispatch thread at most once per frame, after which the chart is
+ * invalidated and both the chart's and the publisher's change listeners are
+ * notified.
+ *
+ * @param <K>
+ * The key type.
+ *
+ * @param <V>
+ * The value type.
+ */
+public class DataSetPublisher<K extends Comparable<? super K>, V> {
+    private record Update<V>(V value, boolean remove) {
+    }
+
+    private Chart<K, V> chart;
+    private DataSet<K, V> dataSet;
+
+    private int capacity = Integer.MAX_VALUE;
+
+    private Map<K, Update<V>> updates = new ConcurrentHashMap<>();
+
+    private AtomicBoolean pending = new AtomicBoolean(false);
+
+    private volatile int interval = DEFAULT_INTERVAL;
+
+    private Timer timer = null;
+
+    private List<ChangeListener> changeListeners = new LinkedList<>();
+
+    private static final int DEFAULT_INTERVAL = 16;
+
+    /**
+     * Constructs a new data set publisher.
+     *
+     * @param chart
+     * The chart that contains the data set.
+     *
+     * @param dataSet
+     * The data set to which data points will be published. The data set's data
+     * points must be a modifiable {@link NavigableMap}, such as a
+     * {@link java.util.TreeMap}; they are updated in place.
+     */
+    public DataSetPublisher(Chart<K, V> chart, DataSet<K, V> dataSet) {
+        if (chart == null || dataSet == null) {
+            throw new IllegalArgumentException();
+        }
+
+        if (!(dataSet.getDataPoints() instanceof NavigableMap<K, V>)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.chart = chart;
+        this.dataSet = dataSet;
+    }
+
+    /**
+     * Returns the publication interval. The default value is 16 milliseconds.
+     *
+     * @return
+     * The minimum interval between updates to the data set, in milliseconds.
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets the publication interval.
+     *
+     * @param interval
+     * The minimum interval between updates to the data set, in milliseconds.
+     */
+    public void setInterval(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.interval = interval;
+    }
+
+    /**
+     * Returns the data set capacity. The default value is
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @return
+     * The maximum number of data points retained by the data set.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the data set capacity. When the capacity is exceeded, the data
+     * points with the lowest keys are removed.
+     *
+     * @param capacity
+     * The maximum number of data points retained by the data set.
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Publishes a data point. May be called from any thread.
+     *
+     * @param key
+     * The data point key.
+     *
+     * @param value
+     * The data point value.
+     */
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+
+        publish(key, new Update<>(value, false));
+    }
+
+    /**
+     * Removes a data point. May be called from any thread.
+     *
+     * @param key
+     * The data point key.
+     */
+    public void remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+
+        publish(key, new Update<>(null, true));
+    }
+
+    private void publish(K key, Update<V> update) {
+        updates.put(key, update);
+
+        if (pending.compareAndSet(false, true)) {
+            startTimer();
+        }
+    }
+
+    private synchronized void startTimer() {
+        if (timer == null) {
+            timer = new Timer(interval, event -> flush());
+
+            timer.setRepeats(false);
+
+            // The timer may be restarted by a producer while a flush is in progress, so its events must not be dropped
+            timer.setCoalesce(false);
+        } else {
+            timer.setInitialDelay(interval);
+        }
+
+        timer.start();
+    }
+
+    /**
+     * Applies any pending updates to the data set. Called automatically on
+     * the event dispatch thread; may also be called directly from that thread
+     * to publish updates immediately.
+     *
+     * @throws IllegalStateException
+     * If the data set's data points have been replaced by a map that is not a
+     * {@link NavigableMap}.
+     */
+    public void flush() {
+        if (!(dataSet.getDataPoints() instanceof NavigableMap<K, V> dataPoints)) {
+            throw new IllegalStateException();
+        }
+
+        pending.set(false);
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        // Each update is removed atomically, so an update published for the same key during the flush is retained
+        for (var key : updates.keySet()) {
+            var update = updates.remove(key);
+
+            if (update == null) {
+                continue;
+            }
+
+            if (update.remove()) {
+                chart.dataPointUpdated(dataSet, key, dataPoints.remove(key), null);
+            } else {
+                var value = update.value();
+
+                chart.dataPointUpdated(dataSet, key, dataPoints.put(key, value), value);
+            }
+        }
+
+        while (dataPoints.size() > capacity) {
+            var entry = dataPoints.pollFirstEntry();
+
+            chart.dataPointUpdated(dataSet, entry.getKey(), entry.getValue(), null);
+        }
+
+        var group = chart.getGroup();
+
+        if (group == null) {
+            chart.invalidate();
+
+            chart.fireStateChanged();
+        } else {
+            group.invalidate();
+
+            for (var member : group.getCharts()) {
+                member.fireStateChanged();
+            }
+        }
+
+        var event = new ChangeEvent(this);
+
+        for (var changeListener : changeListeners) {
+            changeListener.stateChanged(event);
+        }
+    }
+
+    /**
+     * Adds a change listener. Listeners are notified on the event dispatch
+     * thread after pending updates have been applied to the data set.
+     *
+     * @param listener
+     * The change listener to add.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Removes a change listener.
+     *
+     * @param listener
+     * The change listener to remove.
+     */
+    public void removeChangeListener(ChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        changeListeners.remove(listener);
+    }
+}
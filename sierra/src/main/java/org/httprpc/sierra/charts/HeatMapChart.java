@@ -0,0 +1,416 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.httprpc.kilo.util.Collections.*;
+
+/**
+ * Heat map chart. Cell values are mapped to colors via a lookup table and
+ * rendered into a single raster image. Values may be provided either as a
+ * grid or as data sets. Each data set is drawn as a row, starting from the
+ * bottom of the chart, and each distinct key as a column; keys are assumed to
+ * be evenly spaced, and data set colors are not used.
+ */
+public class HeatMapChart<K extends Comparable<? super K>> extends XYChart<K, Double> {
+    private double[][] values = new double[0][0];
+
+    private Bounds<K> keyBounds = null;
+
+    private List<Color> colors = listOf(
+        new Color(0x440154),
+        new Color(0x3b528b),
+        new Color(0x21918c),
+        new Color(0x5ec962),
+        new Color(0xfde725)
+    );
+
+    private Bounds<Double> valueBounds = null;
+
+    private double[][] grid = null;
+    private Bounds<K> gridKeyBounds = null;
+
+    private int[] colorTable = null;
+
+    private BufferedImage image = null;
+
+    private static final int COLOR_TABLE_SIZE = 256;
+
+    /**
+     * Constructs a new heat map chart.
+     *
+     * @param domainValueTransform
+     * The domain value transform.
+     *
+     * @param domainKeyTransform
+     * The domain key transform.
+     */
+    public HeatMapChart(Function<K, Number> domainValueTransform, Function<Number, K> domainKeyTransform) {
+        super(domainValueTransform, domainKeyTransform);
+
+        showHorizontalGridLines = false;
+        showVerticalGridLines = false;
+    }
+
+    /**
+     * Returns the cell values.
+     *
+     * @return
+     * The cell values.
+     */
+    public double[][] getValues() {
+        return values;
+    }
+
+    /**
+     * Sets the cell values. The first index corresponds to the domain and the
+     * second to the range. {@link Double#NaN} values are not drawn. Cell
+     * values are ignored when the chart has data sets.
+     *
+     * @param values
+     * The cell values.
+     */
+    public void setValues(double[][] values) {
+        if (values == null) {
+            throw new IllegalArgumentException();
+        }
+
+        for (var i = 1; i < values.length; i++) {
+            if (values[i].length != values[0].length) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        this.values = values;
+
+        invalidate();
+    }
+
+    /**
+     * Returns the key bounds.
+     *
+     * @return
+     * The key bounds.
+     */
+    public Bounds<K> getKeyBounds() {
+        return keyBounds;
+    }
+
+    /**
+     * Sets the key bounds. The columns of the value grid are evenly distributed
+     * between the minimum and maximum keys.
+     *
+     * @param keyBounds
+     * The key bounds, or {@code null} to use the data set keys or, if the
+     * chart has no data sets, the column indices.
+     */
+    public void setKeyBounds(Bounds<K> keyBounds) {
+        this.keyBounds = keyBounds;
+
+        invalidate();
+    }
+
+    /**
+     * Returns the color scale.
+     *
+     * @return
+     * The color scale.
+     */
+    public List<Color> getColors() {
+        return colors;
+    }
+
+    /**
+     * Sets the color scale. Colors are interpolated evenly between the value
+     * minimum and maximum.
+     *
+     * @param colors
+     * The color scale.
+     */
+    public void setColors(List<Color> colors) {
+        if (colors == null || colors.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        this.colors = colors;
+
+        colorTable = null;
+
+        invalidate();
+    }
+
+    /**
+     * Returns the value bounds.
+     *
+     * @return
+     * The value bounds.
+     */
+    public Bounds<Double> getValueBounds() {
+        return valueBounds;
+    }
+
+    /**
+     * Sets the value bounds. Values outside of the bounds are drawn using the
+     * first or last color in the color scale.
+     *
+     * @param valueBounds
+     * The value bounds, or {@code null} for the default bounds.
+     */
+    public void setValueBounds(Bounds<Double> valueBounds) {
+        this.valueBounds = valueBounds;
+
+        invalidate();
+    }
+
+    @Override
+    public void validate() {
+        var dataSets = getDataSets();
+
+        if (dataSets.isEmpty()) {
+            grid = values;
+            gridKeyBounds = null;
+        } else {
+            validateGrid(dataSets);
+        }
+
+        var columnCount = grid.length;
+        var rowCount = (columnCount == 0) ? 0 : grid[0].length;
+
+        Bounds<K> defaultDomainBounds = null;
+
+        if (columnCount > 0) {
+            defaultDomainBounds = getImageKeyBounds(columnCount);
+        }
+
+        Bounds<Double> defaultRangeBounds = null;
+
+        if (rowCount > 0) {
+            defaultRangeBounds = new Bounds<>(0.0, (double)rowCount);
+        }
+
+        validateGrid(defaultDomainBounds, defaultRangeBounds);
+
+        if (columnCount == 0 || rowCount == 0) {
+            image = null;
+        } else {
+            if (image == null || image.getWidth() != columnCount || image.getHeight() != rowCount) {
+                image = new BufferedImage(columnCount, rowCount, BufferedImage.TYPE_INT_ARGB);
+            }
+
+            validateImage(columnCount, rowCount);
+        }
+
+        validateMarkers();
+    }
+
+    private void validateGrid(List<DataSet<K, Double>> dataSets) {
+        var keys = new TreeSet<K>();
+
+        for (var dataSet : dataSets) {
+            keys.addAll(dataSet.getDataPoints().keySet());
+        }
+
+        var columnCount = keys.size();
+        var rowCount = dataSets.size();
+
+        if (grid == null || grid == values || grid.length != columnCount || (columnCount > 0 && grid[0].length != rowCount)) {
+            grid = new double[columnCount][rowCount];
+        }
+
+        var i = 0;
+
+        for (var key : keys) {
+            var column = grid[i];
+
+            for (var j = 0; j < rowCount; j++) {
+                var value = dataSets.get(j).getDataPoints().get(key);
+
+                column[j] = (value == null) ? Double.NaN : value;
+            }
+
+            i++;
+        }
+
+        if (columnCount == 0) {
+            gridKeyBounds = null;
+        } else {
+            var domainValueTransform = getDomainValueTransform();
+
+            var minimum = domainValueTransform.apply(keys.first()).doubleValue();
+            var maximum = domainValueTransform.apply(keys.last()).doubleValue();
+
+            // The last column extends one step beyond the last key
+            var step = (columnCount > 1) ? (maximum - minimum) / (columnCount - 1) : 1.0;
+
+            gridKeyBounds = new Bounds<>(keys.first(), getDomainKeyTransform().apply(maximum + step));
+        }
+    }
+
+    private Bounds<K> getImageKeyBounds(int columnCount) {
+        if (keyBounds != null) {
+            return keyBounds;
+        }
+
+        if (gridKeyBounds != null) {
+            return gridKeyBounds;
+        }
+
+        var domainKeyTransform = getDomainKeyTransform();
+
+        return new Bounds<>(domainKeyTransform.apply(0), domainKeyTransform.apply(columnCount));
+    }
+
+    private void validateImage(int columnCount, int rowCount) {
+        if (colorTable == null) {
+            colorTable = createColorTable(colors);
+        }
+
+        double valueMinimum;
+        double valueMaximum;
+        if (valueBounds == null) {
+            valueMinimum = Double.POSITIVE_INFINITY;
+            valueMaximum = Double.NEGATIVE_INFINITY;
+
+            for (var column : grid) {
+                for (var value : column) {
+                    if (!Double.isNaN(value)) {
+                        valueMinimum = Math.min(valueMinimum, value);
+                        valueMaximum = Math.max(valueMaximum, value);
+                    }
+                }
+            }
+        } else {
+            valueMinimum = valueBounds.minimum();
+            valueMaximum = valueBounds.maximum();
+        }
+
+        var valueScale = (valueMaximum > valueMinimum) ? (COLOR_TABLE_SIZE - 1) / (valueMaximum - valueMinimum) : 0.0;
+
+        var pixels = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+
+        for (var i = 0; i < columnCount; i++) {
+            var column = grid[i];
+
+            var k = (rowCount - 1) * columnCount + i;
+
+            for (var j = 0; j < rowCount; j++) {
+                var value = column[j];
+
+                if (Double.isNaN(value)) {
+                    pixels[k] = 0;
+                } else {
+                    var index = (int)((value - valueMinimum) * valueScale);
+
+                    pixels[k] = colorTable[Math.min(Math.max(index, 0), COLOR_TABLE_SIZE - 1)];
+                }
+
+                k -= columnCount;
+            }
+        }
+    }
+
+    private static int[] createColorTable(List<Color> colors) {
+        var colorTable = new int[COLOR_TABLE_SIZE];
+
+        var n = colors.size();
+
+        for (var i = 0; i < COLOR_TABLE_SIZE; i++) {
+            if (n == 1) {
+                colorTable[i] = colors.getFirst().getRGB();
+            } else {
+                var position = (double)i / (COLOR_TABLE_SIZE - 1) * (n - 1);
+
+                var j = Math.min((int)position, n - 2);
+
+                var color1 = colors.get(j);
+                var color2 = colors.get(j + 1);
+
+                var t = position - j;
+
+                var alpha = interpolate(color1.getAlpha(), color2.getAlpha(), t);
+                var red = interpolate(color1.getRed(), color2.getRed(), t);
+                var green = interpolate(color1.getGreen(), color2.getGreen(), t);
+                var blue = interpolate(color1.getBlue(), color2.getBlue(), t);
+
+                colorTable[i] = (alpha << 24) | (red << 16) | (green << 8) | blue;
+            }
+        }
+
+        return colorTable;
+    }
+
+    private static int interpolate(int value1, int value2, double t) {
+        return (int)Math.round(value1 + (value2 - value1) * t);
+    }
+
+    @Override
+    long getPointCount() {
+        return (grid == null || grid.length == 0) ? 0 : (long)grid.length * grid[0].length;
+    }
+
+    @Override
+    int getShapeCount() {
+        return (image == null) ? 0 : 1;
+    }
+
+    @Override
+    void drawChart(Graphics2D graphics) {
+        drawGrid(graphics);
+
+        if (image == null) {
+            return;
+        }
+
+        var imageKeyBounds = getImageKeyBounds(image.getWidth());
+
+        var domainValueTransform = getDomainValueTransform();
+
+        var domainScale = getDomainScale();
+        var rangeScale = getRangeScale();
+
+        var origin = getOrigin();
+
+        var x1 = origin.x + domainValueTransform.apply(imageKeyBounds.minimum()).doubleValue() * domainScale;
+        var x2 = origin.x + domainValueTransform.apply(imageKeyBounds.maximum()).doubleValue() * domainScale;
+
+        var y1 = origin.y - image.getHeight() * rangeScale;
+        var y2 = origin.y;
+
+        var transform = AffineTransform.getTranslateInstance(x1, y1);
+
+        transform.scale((x2 - x1) / image.getWidth(), (y2 - y1) / image.getHeight());
+
+        var imageGraphics = (Graphics2D)graphics.create();
+
+        imageGraphics.clip(getGridBounds());
+
+        imageGraphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+
+        imageGraphics.drawImage(image, transform, null);
+
+        imageGraphics.dispose();
+
+        drawMarkers(graphics);
+    }
+}
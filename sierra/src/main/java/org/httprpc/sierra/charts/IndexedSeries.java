@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * Abstract base class for read-only series whose entries are stored in
+ * ascending key order and can be accessed by index.
+ */
+abstract class IndexedSeries extends AbstractMap<Long, Double> implements SortedMap<Long, Double> {
+    private class EntrySet extends AbstractSet<Map.Entry<Long, Double>> {
+        @Override
+        public Iterator<Map.Entry<Long, Double>> iterator() {
+            return new Iterator<>() {
+                long index = 0;
+
+                long count = getCount();
+
+                @Override
+                public boolean hasNext() {
+                    return index < count;
+                }
+
+                @Override
+                public Map.Entry<Long, Double> next() {
+                    if (index == count) {
+                        throw new NoSuchElementException();
+                    }
+
+                    var entry = Map.entry(getKey(index), getValue(index));
+
+                    index++;
+
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return IndexedSeries.this.size();
+        }
+    }
+
+    private EntrySet entrySet = null;
+
+    abstract long getCount();
+
+    abstract long getKey(long index);
+
+    abstract double getValue(long index);
+
+    abstract IndexedSeries slice(long start, long end);
+
+    long indexOf(long key) {
+        var low = 0L;
+        var high = getCount();
+
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+
+            if (getKey(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    @Override
+    public int size() {
+        return (int)Math.min(getCount(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getCount() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof Long value)) {
+            return false;
+        }
+
+        var index = indexOf(value);
+
+        return index < getCount() && getKey(index) == value;
+    }
+
+    @Override
+    public Double get(Object key) {
+        if (!(key instanceof Long value)) {
+            return null;
+        }
+
+        var index = indexOf(value);
+
+        if (index < getCount() && getKey(index) == value) {
+            return getValue(index);
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<Long, Double>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public Comparator<? super Long> comparator() {
+        return null;
+    }
+
+    @Override
+    public SortedMap<Long, Double> subMap(Long fromKey, Long toKey) {
+        if (fromKey == null || toKey == null || fromKey > toKey) {
+            throw new IllegalArgumentException();
+        }
+
+        return slice(indexOf(fromKey), indexOf(toKey));
+    }
+
+    @Override
+    public SortedMap<Long, Double> headMap(Long toKey) {
+        if (toKey == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return slice(0, indexOf(toKey));
+    }
+
+    @Override
+    public SortedMap<Long, Double> tailMap(Long fromKey) {
+        if (fromKey == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return slice(indexOf(fromKey), getCount());
+    }
+
+    @Override
+    public Long firstKey() {
+        if (getCount() == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return getKey(0);
+    }
+
+    @Override
+    public Long lastKey() {
+        var count = getCount();
+
+        if (count == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return getKey(count - 1);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only series backed by a memory-mapped file. The file must consist of
+ * fixed-width records, each containing an 8-byte {@code long} key followed by
+ * an 8-byte {@code double} value. Records must be sorted by key in ascending
+ * order, and keys must be unique.
+ */
+public class MappedSeries extends IndexedSeries {
+    private ByteBuffer[] segments;
+
+    private int segmentShift;
+
+    private long start;
+    private long count;
+
+    /**
+     * The record size, in bytes.
+     */
+    public static final int RECORD_SIZE = 16;
+
+    private static final int RECORD_SHIFT = 4;
+
+    private static final int DEFAULT_SEGMENT_SHIFT = 26;
+
+    /**
+     * Constructs a new mapped series using big-endian byte order.
+     *
+     * @param path
+     * The path to the series file.
+     *
+     * @throws IOException
+     * If an exception occurs while mapping the file.
+     */
+    public MappedSeries(Path path) throws IOException {
+        this(path, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs a new mapped series.
+     *
+     * @param path
+     * The path to the series file.
+     *
+     * @param byteOrder
+     * The byte order of the series file.
+     *
+     * @throws IOException
+     * If an exception occurs while mapping the file.
+     */
+    public MappedSeries(Path path, ByteOrder byteOrder) throws IOException {
+        this(path, byteOrder, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    MappedSeries(Path path, ByteOrder byteOrder, int segmentShift) throws IOException {
+        if (path == null || byteOrder == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.segmentShift = segmentShift;
+
+        try (var fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = fileChannel.size();
+
+            if (size % RECORD_SIZE != 0) {
+                throw new IOException("Invalid file size.");
+            }
+
+            count = size / RECORD_SIZE;
+
+            var segmentSize = (long)RECORD_SIZE << segmentShift;
+
+            segments = new ByteBuffer[(int)((size + segmentSize - 1) / segmentSize)];
+
+            for (var i = 0; i < segments.length; i++) {
+                var position = segmentSize * i;
+
+                segments[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentSize, size - position)).order(byteOrder);
+            }
+        }
+
+        start = 0;
+    }
+
+    private MappedSeries(MappedSeries series, long start, long end) {
+        segments = series.segments;
+
+        segmentShift = series.segmentShift;
+
+        this.start = series.start + start;
+
+        count = Math.max(end - start, 0);
+    }
+
+    @Override
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    long getKey(long index) {
+        var i = start + index;
+
+        return segments[(int)(i >>> segmentShift)].getLong(getOffset(i));
+    }
+
+    @Override
+    double getValue(long index) {
+        var i = start + index;
+
+        return segments[(int)(i >>> segmentShift)].getDouble(getOffset(i) + Long.BYTES);
+    }
+
+    private int getOffset(long i) {
+        return (int)(i & ((1L << segmentShift) - 1)) << RECORD_SHIFT;
+    }
+
+    @Override
+    IndexedSeries slice(long start, long end) {
+        return new MappedSeries(this, start, end);
+    }
+}
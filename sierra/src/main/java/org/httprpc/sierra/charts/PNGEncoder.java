@@ -0,0 +1,216 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Streaming PNG encoder. Images are encoded as a sequence of horizontal
+ * strips that can be compressed independently and concurrently; compressed
+ * strips are written in order as a single zlib stream.
+ */
+class PNGEncoder {
+    record Strip(byte[] data, int length, long checksum, long size) {
+    }
+
+    private OutputStream outputStream;
+
+    private int width;
+    private int height;
+
+    private long checksum = 1;
+
+    private CRC32 crc32 = new CRC32();
+
+    private static final byte[] SIGNATURE = {(byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+    private static final byte[] ZLIB_HEADER = {0x78, (byte)0x9c};
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final int BUFFER_SIZE = 65536;
+
+    private static final int ADLER_BASE = 65521;
+
+    PNGEncoder(OutputStream outputStream, int width, int height) {
+        this.outputStream = outputStream;
+
+        this.width = width;
+        this.height = height;
+    }
+
+    void writeHeader() throws IOException {
+        outputStream.write(SIGNATURE);
+
+        var header = new byte[13];
+
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+
+        header[8] = 8; // Bit depth
+        header[9] = 6; // RGBA
+        header[10] = 0; // Deflate
+        header[11] = 0; // Adaptive filtering
+        header[12] = 0; // No interlace
+
+        writeChunk("IHDR", header, header.length);
+        writeChunk("IDAT", ZLIB_HEADER, ZLIB_HEADER.length);
+    }
+
+    static Strip compress(BufferedImage image, boolean last) {
+        var width = image.getWidth();
+        var height = image.getHeight();
+
+        var pixels = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+
+        var rowLength = width * BYTES_PER_PIXEL + 1;
+
+        var rows = new byte[rowLength * height];
+
+        var k = 0;
+
+        for (var i = 0; i < height; i++) {
+            rows[k++] = 1; // Sub filter
+
+            var previous = 0;
+
+            for (var j = 0; j < width; j++) {
+                var argb = pixels[i * width + j];
+
+                rows[k++] = (byte)((argb >> 16) - (previous >> 16));
+                rows[k++] = (byte)((argb >> 8) - (previous >> 8));
+                rows[k++] = (byte)(argb - previous);
+                rows[k++] = (byte)((argb >> 24) - (previous >> 24));
+
+                previous = argb;
+            }
+        }
+
+        var adler32 = new Adler32();
+
+        adler32.update(rows);
+
+        var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+        deflater.setInput(rows);
+
+        var outputStream = new ByteArrayOutputStream(rows.length / 4);
+
+        var buffer = new byte[BUFFER_SIZE];
+
+        if (last) {
+            deflater.finish();
+
+            while (!deflater.finished()) {
+                var n = deflater.deflate(buffer);
+
+                outputStream.write(buffer, 0, n);
+            }
+        } else {
+            int n;
+            do {
+                n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+
+                outputStream.write(buffer, 0, n);
+            } while (n == buffer.length);
+        }
+
+        deflater.end();
+
+        return new Strip(outputStream.toByteArray(), outputStream.size(), adler32.getValue(), rows.length);
+    }
+
+    void writeStrip(Strip strip) throws IOException {
+        writeChunk("IDAT", strip.data(), strip.length());
+
+        checksum = combine(checksum, strip.checksum(), strip.size());
+    }
+
+    void finish() throws IOException {
+        var trailer = new byte[4];
+
+        writeInt(trailer, 0, (int)checksum);
+
+        writeChunk("IDAT", trailer, trailer.length);
+        writeChunk("IEND", new byte[0], 0);
+
+        outputStream.flush();
+    }
+
+    static long combine(long checksum1, long checksum2, long length2) {
+        var remainder = length2 % ADLER_BASE;
+
+        var sum1 = checksum1 & 0xffff;
+        var sum2 = (remainder * sum1) % ADLER_BASE;
+
+        sum1 += (checksum2 & 0xffff) + ADLER_BASE - 1;
+        sum2 += ((checksum1 >> 16) & 0xffff) + ((checksum2 >> 16) & 0xffff) + ADLER_BASE - remainder;
+
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+
+        if (sum2 >= (ADLER_BASE << 1)) {
+            sum2 -= (ADLER_BASE << 1);
+        }
+
+        if (sum2 >= ADLER_BASE) {
+            sum2 -= ADLER_BASE;
+        }
+
+        return sum1 | (sum2 << 16);
+    }
+
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        var typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+
+        var lengthBytes = new byte[4];
+
+        writeInt(lengthBytes, 0, length);
+
+        outputStream.write(lengthBytes);
+        outputStream.write(typeBytes);
+        outputStream.write(data, 0, length);
+
+        crc32.reset();
+        crc32.update(typeBytes);
+        crc32.update(data, 0, length);
+
+        var crcBytes = new byte[4];
+
+        writeInt(crcBytes, 0, (int)crc32.getValue());
+
+        outputStream.write(crcBytes);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte)(value >>> 24);
+        bytes[offset + 1] = (byte)(value >>> 16);
+        bytes[offset + 2] = (byte)(value >>> 8);
+        bytes[offset + 3] = (byte)value;
+    }
+}
@@ -262,6 +262,11 @@ public class PieChart<K extends Comparable<? super K>, V extends Number> extends
         }
     }
 
+    @Override
+    int getShapeCount() {
+        return sliceArcs.size();
+    }
+
     @Override
     void drawChart(Graphics2D graphics) {
         var i = 0;
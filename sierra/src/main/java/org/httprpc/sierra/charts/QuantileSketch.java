@@ -0,0 +1,356 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch based on the merging t-digest. Memory use is
+ * bounded by the compression factor, independent of the number of values
+ * added to the sketch.
+ */
+public class QuantileSketch {
+    private double compression;
+
+    private double[] means;
+    private double[] weights;
+
+    private int centroidCount = 0;
+
+    private double[] buffer;
+
+    private int bufferCount = 0;
+
+    private double[] mergedMeans;
+    private double[] mergedWeights;
+
+    private long count = 0;
+
+    private double minimum = Double.NaN;
+    private double maximum = Double.NaN;
+
+    private static final double DEFAULT_COMPRESSION = 100.0;
+
+    /**
+     * Constructs a new quantile sketch.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Constructs a new quantile sketch.
+     *
+     * @param compression
+     * The compression factor. Larger values produce more accurate quantile
+     * estimates at the cost of additional memory.
+     */
+    public QuantileSketch(double compression) {
+        if (compression < 10.0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.compression = compression;
+
+        var capacity = (int)Math.ceil(compression) * 2 + 10;
+
+        means = new double[capacity];
+        weights = new double[capacity];
+
+        buffer = new double[capacity * 5];
+
+        mergedMeans = new double[capacity + buffer.length];
+        mergedWeights = new double[capacity + buffer.length];
+    }
+
+    /**
+     * Returns the compression factor.
+     *
+     * @return
+     * The compression factor.
+     */
+    public double getCompression() {
+        return compression;
+    }
+
+    /**
+     * Returns the number of values added to the sketch.
+     *
+     * @return
+     * The value count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the minimum value added to the sketch.
+     *
+     * @return
+     * The minimum value, or {@link Double#NaN} if the sketch is empty.
+     */
+    public double getMinimum() {
+        return minimum;
+    }
+
+    /**
+     * Returns the maximum value added to the sketch.
+     *
+     * @return
+     * The maximum value, or {@link Double#NaN} if the sketch is empty.
+     */
+    public double getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value
+     * The value to add.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException();
+        }
+
+        if (count == 0) {
+            minimum = value;
+            maximum = value;
+        } else {
+            minimum = Math.min(minimum, value);
+            maximum = Math.max(maximum, value);
+        }
+
+        count++;
+
+        buffer[bufferCount++] = value;
+
+        if (bufferCount == buffer.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Merges the contents of another sketch into this sketch.
+     *
+     * @param sketch
+     * The sketch to merge.
+     */
+    public void merge(QuantileSketch sketch) {
+        if (sketch == null || sketch == this) {
+            throw new IllegalArgumentException();
+        }
+
+        if (sketch.count == 0) {
+            return;
+        }
+
+        flush();
+        sketch.flush();
+
+        if (count == 0) {
+            minimum = sketch.minimum;
+            maximum = sketch.maximum;
+        } else {
+            minimum = Math.min(minimum, sketch.minimum);
+            maximum = Math.max(maximum, sketch.maximum);
+        }
+
+        count += sketch.count;
+
+        var n = centroidCount + sketch.centroidCount;
+
+        if (mergedMeans.length < n) {
+            mergedMeans = new double[n];
+            mergedWeights = new double[n];
+        }
+
+        merge(means, weights, centroidCount, sketch.means, sketch.weights, sketch.centroidCount);
+
+        compress(n);
+    }
+
+    /**
+     * Estimates the value at a given quantile.
+     *
+     * @param quantile
+     * The quantile, as a value from 0.0 to 1.0.
+     *
+     * @return
+     * The estimated value, or {@link Double#NaN} if the sketch is empty.
+     */
+    public double getQuantile(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException();
+        }
+
+        flush();
+
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+
+        if (quantile == 0.0) {
+            return minimum;
+        }
+
+        if (quantile == 1.0) {
+            return maximum;
+        }
+
+        if (centroidCount == 1) {
+            return means[0];
+        }
+
+        var target = quantile * count;
+
+        var center = weights[0] / 2;
+
+        if (target < center) {
+            return minimum + (means[0] - minimum) * (target / center);
+        }
+
+        for (var i = 0; i < centroidCount - 1; i++) {
+            var nextCenter = center + (weights[i] + weights[i + 1]) / 2;
+
+            if (target < nextCenter) {
+                return means[i] + (means[i + 1] - means[i]) * ((target - center) / (nextCenter - center));
+            }
+
+            center = nextCenter;
+        }
+
+        var last = centroidCount - 1;
+
+        var remainder = count - center;
+
+        return means[last] + (maximum - means[last]) * ((target - center) / remainder);
+    }
+
+    private void flush() {
+        if (bufferCount == 0) {
+            return;
+        }
+
+        Arrays.sort(buffer, 0, bufferCount);
+
+        var n = centroidCount + bufferCount;
+
+        if (mergedMeans.length < n) {
+            mergedMeans = new double[n];
+            mergedWeights = new double[n];
+        }
+
+        var i = 0;
+        var j = 0;
+        var k = 0;
+
+        while (i < centroidCount || j < bufferCount) {
+            if (j == bufferCount || (i < centroidCount && means[i] <= buffer[j])) {
+                mergedMeans[k] = means[i];
+                mergedWeights[k] = weights[i];
+
+                i++;
+            } else {
+                mergedMeans[k] = buffer[j];
+                mergedWeights[k] = 1.0;
+
+                j++;
+            }
+
+            k++;
+        }
+
+        bufferCount = 0;
+
+        compress(k);
+    }
+
+    private void merge(double[] means1, double[] weights1, int n1, double[] means2, double[] weights2, int n2) {
+        var i = 0;
+        var j = 0;
+        var k = 0;
+
+        while (i < n1 || j < n2) {
+            if (j == n2 || (i < n1 && means1[i] <= means2[j])) {
+                mergedMeans[k] = means1[i];
+                mergedWeights[k] = weights1[i];
+
+                i++;
+            } else {
+                mergedMeans[k] = means2[j];
+                mergedWeights[k] = weights2[j];
+
+                j++;
+            }
+
+            k++;
+        }
+    }
+
+    private void compress(int n) {
+        var total = 0.0;
+
+        for (var i = 0; i < n; i++) {
+            total += mergedWeights[i];
+        }
+
+        var mean = mergedMeans[0];
+        var weight = mergedWeights[0];
+
+        var weightSoFar = 0.0;
+
+        var k0 = scale(0.0);
+
+        centroidCount = 0;
+
+        for (var i = 1; i < n; i++) {
+            var proposedWeight = weight + mergedWeights[i];
+
+            if (scale((weightSoFar + proposedWeight) / total) - k0 <= 1.0) {
+                mean += (mergedMeans[i] - mean) * mergedWeights[i] / proposedWeight;
+                weight = proposedWeight;
+            } else {
+                append(mean, weight);
+
+                weightSoFar += weight;
+
+                k0 = scale(weightSoFar / total);
+
+                mean = mergedMeans[i];
+                weight = mergedWeights[i];
+            }
+        }
+
+        append(mean, weight);
+    }
+
+    private void append(double mean, double weight) {
+        if (centroidCount == means.length) {
+            means = Arrays.copyOf(means, centroidCount * 2);
+            weights = Arrays.copyOf(weights, centroidCount * 2);
+        }
+
+        means[centroidCount] = mean;
+        weights[centroidCount] = weight;
+
+        centroidCount++;
+    }
+
+    private double scale(double quantile) {
+        return compression / (2 * Math.PI) * Math.asin(2 * quantile - 1);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+/**
+ * Streaming least-squares accumulator. Means and co-moments are updated
+ * incrementally using Welford's algorithm, so points can be added or removed
+ * in constant time.
+ */
+class RegressionAccumulator {
+    private long count = 0;
+
+    private double meanX = 0.0;
+    private double meanY = 0.0;
+
+    private double sumSquaresX = 0.0;
+    private double sumProducts = 0.0;
+
+    void add(double x, double y) {
+        count++;
+
+        var dx = x - meanX;
+
+        meanX += dx / count;
+        meanY += (y - meanY) / count;
+
+        sumSquaresX += dx * (x - meanX);
+        sumProducts += dx * (y - meanY);
+    }
+
+    void remove(double x, double y) {
+        if (count <= 1) {
+            clear();
+
+            return;
+        }
+
+        var n = count - 1;
+
+        var previousMeanX = meanX - (x - meanX) / n;
+        var previousMeanY = meanY - (y - meanY) / n;
+
+        var dx = x - previousMeanX;
+
+        sumSquaresX -= dx * (x - meanX);
+        sumProducts -= dx * (y - meanY);
+
+        meanX = previousMeanX;
+        meanY = previousMeanY;
+
+        count = n;
+    }
+
+    void clear() {
+        count = 0;
+
+        meanX = 0.0;
+        meanY = 0.0;
+
+        sumSquaresX = 0.0;
+        sumProducts = 0.0;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    double getMeanX() {
+        return meanX;
+    }
+
+    double getVarianceX() {
+        return (count == 0) ? Double.NaN : Math.max(sumSquaresX, 0.0) / count;
+    }
+
+    double getSlope() {
+        return (count < 2 || sumSquaresX <= 0.0) ? Double.NaN : sumProducts / sumSquaresX;
+    }
+
+    double getIntercept() {
+        return meanY - getSlope() * meanX;
+    }
+}
@@ -0,0 +1,1264 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import javax.imageio.ImageIO;
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.text.AttributedCharacterIterator;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Graphics context that streams SVG markup directly to a writer. Shapes are
+ * written as compact relative path data, and consecutive elements that share
+ * the same presentation attributes and clip are written to a common group.
+ */
+final class SVGGraphics extends Graphics2D {
+    private static class Output {
+        Writer writer;
+
+        Graphics2D scratchGraphics;
+
+        int clipCount = 0;
+
+        boolean groupOpen = false;
+
+        String groupClipID = null;
+        String groupAttributes = null;
+
+        Paint stylePaint = null;
+        Stroke styleStroke = null;
+        boolean styleFill = false;
+        double styleScale = 0.0;
+        float styleAlpha = 0.0f;
+        String style = null;
+
+        double[] coordinates = new double[6];
+
+        char lastCommand = 0;
+        boolean separatorRequired = false;
+
+        Output(Writer writer) {
+            this.writer = writer;
+
+            scratchGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        }
+    }
+
+    private Output output;
+
+    private Paint paint = Color.BLACK;
+    private Color background = Color.WHITE;
+    private Font font;
+    private Stroke stroke = new BasicStroke();
+    private Composite composite = AlphaComposite.SrcOver;
+
+    private AffineTransform transform = new AffineTransform();
+
+    private Shape clip = null;
+    private String clipID = null;
+
+    private RenderingHints renderingHints = new RenderingHints(null);
+
+    private static final String SVG_NAMESPACE = "http://www.w3.org/2000/svg";
+    private static final String XLINK_NAMESPACE = "http://www.w3.org/1999/xlink";
+
+    SVGGraphics(Writer writer, int width, int height) {
+        output = new Output(writer);
+
+        font = output.scratchGraphics.getFont();
+
+        write("<svg xmlns=\"");
+        write(SVG_NAMESPACE);
+        write("\" xmlns:xlink=\"");
+        write(XLINK_NAMESPACE);
+        write("\" width=\"");
+        write(String.valueOf(width));
+        write("\" height=\"");
+        write(String.valueOf(height));
+        write("\" viewBox=\"0 0 ");
+        write(String.valueOf(width));
+        write(" ");
+        write(String.valueOf(height));
+        write("\">\n");
+    }
+
+    private SVGGraphics(SVGGraphics graphics) {
+        output = graphics.output;
+
+        paint = graphics.paint;
+        background = graphics.background;
+        font = graphics.font;
+        stroke = graphics.stroke;
+        composite = graphics.composite;
+
+        transform = new AffineTransform(graphics.transform);
+
+        clip = graphics.clip;
+        clipID = graphics.clipID;
+
+        renderingHints = (RenderingHints)graphics.renderingHints.clone();
+    }
+
+    void finish() throws IOException {
+        try {
+            endGroup();
+
+            write("</svg>\n");
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        output.scratchGraphics.dispose();
+
+        output.writer.flush();
+    }
+
+    @Override
+    public Graphics create() {
+        return new SVGGraphics(this);
+    }
+
+    @Override
+    public void dispose() {
+        // No-op
+    }
+
+    @Override
+    public void draw(Shape shape) {
+        if (stroke instanceof BasicStroke) {
+            writeShape(shape, false);
+        } else {
+            writeShape(stroke.createStrokedShape(shape), true);
+        }
+    }
+
+    @Override
+    public void fill(Shape shape) {
+        writeShape(shape, true);
+    }
+
+    private void writeShape(Shape shape, boolean fill) {
+        beginGroup(getStyle(fill));
+
+        if (transform.getType() == AffineTransform.TYPE_IDENTITY
+            || transform.getType() == AffineTransform.TYPE_TRANSLATION) {
+            var dx = transform.getTranslateX();
+            var dy = transform.getTranslateY();
+
+            if (shape instanceof Rectangle2D rectangle && rectangle.getWidth() >= 0.0 && rectangle.getHeight() >= 0.0) {
+                write("<rect x=\"");
+                writeNumber(rectangle.getX() + dx);
+                write("\" y=\"");
+                writeNumber(rectangle.getY() + dy);
+                write("\" width=\"");
+                writeNumber(rectangle.getWidth());
+                write("\" height=\"");
+                writeNumber(rectangle.getHeight());
+                write("\"/>\n");
+
+                return;
+            }
+
+            if (shape instanceof Ellipse2D ellipse && ellipse.getWidth() >= 0.0 && ellipse.getHeight() >= 0.0) {
+                write("<ellipse cx=\"");
+                writeNumber(ellipse.getCenterX() + dx);
+                write("\" cy=\"");
+                writeNumber(ellipse.getCenterY() + dy);
+                write("\" rx=\"");
+                writeNumber(ellipse.getWidth() / 2);
+                write("\" ry=\"");
+                writeNumber(ellipse.getHeight() / 2);
+                write("\"/>\n");
+
+                return;
+            }
+
+            if (shape instanceof Line2D line) {
+                write("<line x1=\"");
+                writeNumber(line.getX1() + dx);
+                write("\" y1=\"");
+                writeNumber(line.getY1() + dy);
+                write("\" x2=\"");
+                writeNumber(line.getX2() + dx);
+                write("\" y2=\"");
+                writeNumber(line.getY2() + dy);
+                write("\"/>\n");
+
+                return;
+            }
+        }
+
+        var pathIterator = shape.getPathIterator(transform);
+
+        write("<path d=\"");
+        writePathData(pathIterator);
+        write("\"");
+
+        if (fill && pathIterator.getWindingRule() == PathIterator.WIND_EVEN_ODD) {
+            write(" fill-rule=\"evenodd\"");
+        }
+
+        write("/>\n");
+    }
+
+    private String getStyle(boolean fill) {
+        var scale = Math.sqrt(Math.abs(transform.getDeterminant()));
+        var alpha = getAlpha();
+
+        if (output.style != null
+            && paint.equals(output.stylePaint)
+            && stroke.equals(output.styleStroke)
+            && fill == output.styleFill
+            && scale == output.styleScale
+            && alpha == output.styleAlpha) {
+            return output.style;
+        }
+
+        var color = getColor(paint);
+
+        var opacity = color.getAlpha() / 255.0 * alpha;
+
+        var style = new StringBuilder();
+
+        if (fill) {
+            style.append(" fill=\"");
+            style.append(formatColor(color));
+            style.append("\"");
+
+            if (opacity < 1.0) {
+                style.append(" fill-opacity=\"");
+                style.append(formatNumber(opacity));
+                style.append("\"");
+            }
+        } else {
+            var basicStroke = (BasicStroke)stroke;
+
+            style.append(" fill=\"none\" stroke=\"");
+            style.append(formatColor(color));
+            style.append("\"");
+
+            if (opacity < 1.0) {
+                style.append(" stroke-opacity=\"");
+                style.append(formatNumber(opacity));
+                style.append("\"");
+            }
+
+            style.append(" stroke-width=\"");
+            style.append(formatNumber(basicStroke.getLineWidth() * scale));
+            style.append("\"");
+
+            switch (basicStroke.getEndCap()) {
+                case BasicStroke.CAP_ROUND -> style.append(" stroke-linecap=\"round\"");
+                case BasicStroke.CAP_SQUARE -> style.append(" stroke-linecap=\"square\"");
+                default -> {
+                    // Butt is the default
+                }
+            }
+
+            switch (basicStroke.getLineJoin()) {
+                case BasicStroke.JOIN_ROUND -> style.append(" stroke-linejoin=\"round\"");
+                case BasicStroke.JOIN_BEVEL -> style.append(" stroke-linejoin=\"bevel\"");
+                default -> {
+                    style.append(" stroke-miterlimit=\"");
+                    style.append(formatNumber(basicStroke.getMiterLimit()));
+                    style.append("\"");
+                }
+            }
+
+            var dashArray = basicStroke.getDashArray();
+
+            if (dashArray != null) {
+                style.append(" stroke-dasharray=\"");
+
+                for (var i = 0; i < dashArray.length; i++) {
+                    if (i > 0) {
+                        style.append(",");
+                    }
+
+                    style.append(formatNumber(dashArray[i] * scale));
+                }
+
+                style.append("\"");
+
+                if (basicStroke.getDashPhase() != 0.0f) {
+                    style.append(" stroke-dashoffset=\"");
+                    style.append(formatNumber(basicStroke.getDashPhase() * scale));
+                    style.append("\"");
+                }
+            }
+        }
+
+        output.stylePaint = paint;
+        output.styleStroke = stroke;
+        output.styleFill = fill;
+        output.styleScale = scale;
+        output.styleAlpha = alpha;
+        output.style = style.toString();
+
+        return output.style;
+    }
+
+    private float getAlpha() {
+        if (composite instanceof AlphaComposite alphaComposite) {
+            return alphaComposite.getAlpha();
+        } else {
+            return 1.0f;
+        }
+    }
+
+    private static Color getColor(Paint paint) {
+        if (paint instanceof Color color) {
+            return color;
+        } else if (paint instanceof GradientPaint gradientPaint) {
+            return gradientPaint.getColor1();
+        } else {
+            return Color.BLACK;
+        }
+    }
+
+    private static String formatColor(Color color) {
+        return String.format("#%06x", color.getRGB() & 0xffffff);
+    }
+
+    private static String formatNumber(double value) {
+        var stringBuilder = new StringBuilder();
+
+        appendNumber(stringBuilder, Math.round(value * 100));
+
+        return stringBuilder.toString();
+    }
+
+    static void appendNumber(StringBuilder stringBuilder, long hundredths) {
+        if (hundredths < 0) {
+            stringBuilder.append('-');
+
+            hundredths = -hundredths;
+        }
+
+        stringBuilder.append(hundredths / 100);
+
+        var fraction = (int)(hundredths % 100);
+
+        if (fraction != 0) {
+            stringBuilder.append('.');
+
+            if (fraction < 10) {
+                stringBuilder.append('0');
+                stringBuilder.append(fraction);
+            } else if (fraction % 10 == 0) {
+                stringBuilder.append(fraction / 10);
+            } else {
+                stringBuilder.append(fraction);
+            }
+        }
+    }
+
+    private void writeNumber(double value) {
+        writeNumber(Math.round(value * 100));
+    }
+
+    private void writeNumber(long hundredths) {
+        var stringBuilder = new StringBuilder(12);
+
+        appendNumber(stringBuilder, hundredths);
+
+        write(stringBuilder.toString());
+    }
+
+    private void writeCoefficient(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE) {
+            write(Long.toString((long)value));
+        } else {
+            write(Double.toString(value));
+        }
+    }
+
+    private void writePathData(PathIterator pathIterator) {
+        var coordinates = output.coordinates;
+
+        output.lastCommand = 0;
+
+        var x = 0L;
+        var y = 0L;
+
+        var startX = 0L;
+        var startY = 0L;
+
+        while (!pathIterator.isDone()) {
+            var type = pathIterator.currentSegment(coordinates);
+
+            switch (type) {
+                case PathIterator.SEG_MOVETO -> {
+                    x = Math.round(coordinates[0] * 100);
+                    y = Math.round(coordinates[1] * 100);
+
+                    writeCommand('M');
+                    writeCoordinate(x);
+                    writeCoordinate(y);
+
+                    startX = x;
+                    startY = y;
+                }
+
+                case PathIterator.SEG_LINETO -> {
+                    var x1 = Math.round(coordinates[0] * 100);
+                    var y1 = Math.round(coordinates[1] * 100);
+
+                    writeCommand('l');
+                    writeCoordinate(x1 - x);
+                    writeCoordinate(y1 - y);
+
+                    x = x1;
+                    y = y1;
+                }
+
+                case PathIterator.SEG_QUADTO -> {
+                    var x1 = Math.round(coordinates[0] * 100);
+                    var y1 = Math.round(coordinates[1] * 100);
+                    var x2 = Math.round(coordinates[2] * 100);
+                    var y2 = Math.round(coordinates[3] * 100);
+
+                    writeCommand('q');
+                    writeCoordinate(x1 - x);
+                    writeCoordinate(y1 - y);
+                    writeCoordinate(x2 - x);
+                    writeCoordinate(y2 - y);
+
+                    x = x2;
+                    y = y2;
+                }
+
+                case PathIterator.SEG_CUBICTO -> {
+                    var x1 = Math.round(coordinates[0] * 100);
+                    var y1 = Math.round(coordinates[1] * 100);
+                    var x2 = Math.round(coordinates[2] * 100);
+                    var y2 = Math.round(coordinates[3] * 100);
+                    var x3 = Math.round(coordinates[4] * 100);
+                    var y3 = Math.round(coordinates[5] * 100);
+
+                    writeCommand('c');
+                    writeCoordinate(x1 - x);
+                    writeCoordinate(y1 - y);
+                    writeCoordinate(x2 - x);
+                    writeCoordinate(y2 - y);
+                    writeCoordinate(x3 - x);
+                    writeCoordinate(y3 - y);
+
+                    x = x3;
+                    y = y3;
+                }
+
+                case PathIterator.SEG_CLOSE -> {
+                    writeCommand('z');
+
+                    x = startX;
+                    y = startY;
+                }
+
+                default -> throw new UnsupportedOperationException();
+            }
+
+            pathIterator.next();
+        }
+    }
+
+    private void writeCommand(char command) {
+        if (command != output.lastCommand || command == 'M' || command == 'z') {
+            write(String.valueOf(command));
+
+            output.separatorRequired = false;
+        }
+
+        output.lastCommand = command;
+    }
+
+    private void writeCoordinate(long hundredths) {
+        if (output.separatorRequired && hundredths >= 0) {
+            write(" ");
+        }
+
+        writeNumber(hundredths);
+
+        output.separatorRequired = true;
+    }
+
+    private void beginGroup(String attributes) {
+        if (clip != null && clipID == null) {
+            endGroup();
+
+            clipID = "c" + (++output.clipCount);
+
+            write("<clipPath id=\"");
+            write(clipID);
+            write("\"><path d=\"");
+            writePathData(clip.getPathIterator(null));
+            write("\"/></clipPath>\n");
+        }
+
+        if (output.groupOpen && attributes.equals(output.groupAttributes) && equals(clipID, output.groupClipID)) {
+            return;
+        }
+
+        endGroup();
+
+        write("<g");
+
+        if (clipID != null) {
+            write(" clip-path=\"url(#");
+            write(clipID);
+            write(")\"");
+        }
+
+        write(attributes);
+        write(">\n");
+
+        output.groupOpen = true;
+
+        output.groupClipID = clipID;
+        output.groupAttributes = attributes;
+    }
+
+    private void endGroup() {
+        if (output.groupOpen) {
+            write("</g>\n");
+
+            output.groupOpen = false;
+        }
+    }
+
+    private static boolean equals(String value1, String value2) {
+        return (value1 == null) ? value2 == null : value1.equals(value2);
+    }
+
+    private void write(String text) {
+        try {
+            output.writer.write(text);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeEscaped(String text) {
+        var stringBuilder = new StringBuilder(text.length());
+
+        for (int i = 0, n = text.length(); i < n; i++) {
+            var c = text.charAt(i);
+
+            switch (c) {
+                case '&' -> stringBuilder.append("&amp;");
+                case '<' -> stringBuilder.append("&lt;");
+                case '>' -> stringBuilder.append("&gt;");
+                case '"' -> stringBuilder.append("&quot;");
+                default -> stringBuilder.append(c);
+            }
+        }
+
+        write(stringBuilder.toString());
+    }
+
+    @Override
+    public void drawString(String text, int x, int y) {
+        drawString(text, (float)x, (float)y);
+    }
+
+    @Override
+    public void drawString(String text, float x, float y) {
+        if (text == null) {
+            throw new NullPointerException();
+        }
+
+        if (text.isEmpty()) {
+            return;
+        }
+
+        beginGroup(getStyle(true));
+
+        write("<text");
+
+        if (transform.getType() == AffineTransform.TYPE_IDENTITY
+            || transform.getType() == AffineTransform.TYPE_TRANSLATION) {
+            write(" x=\"");
+            writeNumber(x + transform.getTranslateX());
+            write("\" y=\"");
+            writeNumber(y + transform.getTranslateY());
+            write("\"");
+        } else {
+            write(" x=\"");
+            writeNumber(x);
+            write("\" y=\"");
+            writeNumber(y);
+            write("\"");
+
+            writeTransform(transform);
+        }
+
+        write(" font-family=\"");
+        writeEscaped(getFontFamily(font));
+        write("\" font-size=\"");
+        writeNumber(font.getSize2D());
+        write("\"");
+
+        if (font.isBold()) {
+            write(" font-weight=\"bold\"");
+        }
+
+        if (font.isItalic()) {
+            write(" font-style=\"italic\"");
+        }
+
+        write(" xml:space=\"preserve\">");
+        writeEscaped(text);
+        write("</text>\n");
+    }
+
+    private static String getFontFamily(Font font) {
+        var family = font.getFamily();
+
+        return switch (family) {
+            case Font.DIALOG, Font.SANS_SERIF -> "sans-serif";
+            case Font.SERIF -> "serif";
+            case Font.DIALOG_INPUT, Font.MONOSPACED -> "monospace";
+            default -> family;
+        };
+    }
+
+    private void writeTransform(AffineTransform transform) {
+        // Scale and shear coefficients are written at full precision, since small errors are magnified
+        write(" transform=\"matrix(");
+        writeCoefficient(transform.getScaleX());
+        write(" ");
+        writeCoefficient(transform.getShearY());
+        write(" ");
+        writeCoefficient(transform.getShearX());
+        write(" ");
+        writeCoefficient(transform.getScaleY());
+        write(" ");
+        writeNumber(transform.getTranslateX());
+        write(" ");
+        writeNumber(transform.getTranslateY());
+        write(")\"");
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+        drawString(iterator, (float)x, (float)y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+        var textLayout = new TextLayout(iterator, getFontRenderContext());
+
+        fill(textLayout.getOutline(AffineTransform.getTranslateInstance(x, y)));
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector glyphVector, float x, float y) {
+        fill(glyphVector.getOutline(x, y));
+    }
+
+    @Override
+    public boolean drawImage(Image image, AffineTransform imageTransform, ImageObserver observer) {
+        var bufferedImage = getBufferedImage(image);
+
+        if (bufferedImage == null) {
+            return false;
+        }
+
+        writeImage(bufferedImage, (imageTransform == null) ? new AffineTransform() : imageTransform);
+
+        return true;
+    }
+
+    @Override
+    public void drawImage(BufferedImage image, BufferedImageOp operation, int x, int y) {
+        if (operation != null) {
+            image = operation.filter(image, null);
+        }
+
+        writeImage(image, AffineTransform.getTranslateInstance(x, y));
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage image, AffineTransform imageTransform) {
+        BufferedImage bufferedImage;
+        if (image instanceof BufferedImage) {
+            bufferedImage = (BufferedImage)image;
+        } else {
+            var colorModel = image.getColorModel();
+
+            var raster = colorModel.createCompatibleWritableRaster(image.getWidth(), image.getHeight());
+
+            image.copyData(raster);
+
+            bufferedImage = new BufferedImage(colorModel, raster, colorModel.isAlphaPremultiplied(), null);
+        }
+
+        writeImage(bufferedImage, (imageTransform == null) ? new AffineTransform() : imageTransform);
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage image, AffineTransform imageTransform) {
+        drawRenderedImage(image.createDefaultRendering(), imageTransform);
+    }
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, ImageObserver observer) {
+        return drawImage(image, AffineTransform.getTranslateInstance(x, y), observer);
+    }
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, int width, int height, ImageObserver observer) {
+        var bufferedImage = getBufferedImage(image);
+
+        if (bufferedImage == null) {
+            return false;
+        }
+
+        var imageTransform = AffineTransform.getTranslateInstance(x, y);
+
+        imageTransform.scale((double)width / bufferedImage.getWidth(), (double)height / bufferedImage.getHeight());
+
+        writeImage(bufferedImage, imageTransform);
+
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, Color backgroundColor, ImageObserver observer) {
+        var bufferedImage = getBufferedImage(image);
+
+        if (bufferedImage == null) {
+            return false;
+        }
+
+        fillBackground(x, y, bufferedImage.getWidth(), bufferedImage.getHeight(), backgroundColor);
+
+        writeImage(bufferedImage, AffineTransform.getTranslateInstance(x, y));
+
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, int width, int height, Color backgroundColor, ImageObserver observer) {
+        fillBackground(x, y, width, height, backgroundColor);
+
+        return drawImage(image, x, y, width, height, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image image,
+        int dx1, int dy1, int dx2, int dy2,
+        int sx1, int sy1, int sx2, int sy2,
+        ImageObserver observer) {
+        var bufferedImage = getBufferedImage(image);
+
+        if (bufferedImage == null) {
+            return false;
+        }
+
+        var sx = Math.min(sx1, sx2);
+        var sy = Math.min(sy1, sy2);
+
+        var sourceWidth = Math.abs(sx2 - sx1);
+        var sourceHeight = Math.abs(sy2 - sy1);
+
+        if (sourceWidth == 0 || sourceHeight == 0) {
+            return true;
+        }
+
+        var subimage = bufferedImage.getSubimage(sx, sy, sourceWidth, sourceHeight);
+
+        var imageTransform = AffineTransform.getTranslateInstance(dx1, dy1);
+
+        imageTransform.scale((double)(dx2 - dx1) / (sx2 - sx1), (double)(dy2 - dy1) / (sy2 - sy1));
+
+        if (sx2 < sx1) {
+            imageTransform.translate(-sourceWidth, 0);
+        }
+
+        if (sy2 < sy1) {
+            imageTransform.translate(0, -sourceHeight);
+        }
+
+        writeImage(subimage, imageTransform);
+
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image image,
+        int dx1, int dy1, int dx2, int dy2,
+        int sx1, int sy1, int sx2, int sy2,
+        Color backgroundColor, ImageObserver observer) {
+        fillBackground(Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1), Math.abs(dy2 - dy1), backgroundColor);
+
+        return drawImage(image, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer);
+    }
+
+    private void fillBackground(int x, int y, int width, int height, Color backgroundColor) {
+        if (backgroundColor == null) {
+            return;
+        }
+
+        var paint = this.paint;
+
+        this.paint = backgroundColor;
+
+        fill(new Rectangle(x, y, width, height));
+
+        this.paint = paint;
+    }
+
+    private static BufferedImage getBufferedImage(Image image) {
+        if (image instanceof BufferedImage bufferedImage) {
+            return bufferedImage;
+        }
+
+        var width = image.getWidth(null);
+        var height = image.getHeight(null);
+
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+
+        var bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        var graphics = bufferedImage.createGraphics();
+
+        graphics.drawImage(image, 0, 0, null);
+
+        graphics.dispose();
+
+        return bufferedImage;
+    }
+
+    private void writeImage(BufferedImage image, AffineTransform imageTransform) {
+        beginGroup("");
+
+        var fullTransform = new AffineTransform(transform);
+
+        fullTransform.concatenate(imageTransform);
+
+        write("<image width=\"");
+        write(String.valueOf(image.getWidth()));
+        write("\" height=\"");
+        write(String.valueOf(image.getHeight()));
+        write("\" preserveAspectRatio=\"none\"");
+
+        writeTransform(fullTransform);
+
+        var alpha = getAlpha();
+
+        if (alpha < 1.0f) {
+            write(" opacity=\"");
+            writeNumber(alpha);
+            write("\"");
+        }
+
+        if (renderingHints.get(RenderingHints.KEY_INTERPOLATION) == RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR) {
+            write(" style=\"image-rendering:pixelated\"");
+        }
+
+        write(" xlink:href=\"data:image/png;base64,");
+
+        var outputStream = Base64.getEncoder().wrap(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                output.writer.write(b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                for (var i = 0; i < length; i++) {
+                    output.writer.write(bytes[offset + i]);
+                }
+            }
+
+            @Override
+            public void close() {
+                // No-op
+            }
+        });
+
+        try (outputStream) {
+            ImageIO.write(image, "png", outputStream);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        write("\"/>\n");
+    }
+
+    @Override
+    public boolean hit(Rectangle rectangle, Shape shape, boolean onStroke) {
+        if (onStroke) {
+            shape = stroke.createStrokedShape(shape);
+        }
+
+        return transform.createTransformedShape(shape).intersects(rectangle);
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return output.scratchGraphics.getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite(Composite composite) {
+        if (composite == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.composite = composite;
+    }
+
+    @Override
+    public Composite getComposite() {
+        return composite;
+    }
+
+    @Override
+    public void setPaint(Paint paint) {
+        if (paint != null) {
+            this.paint = paint;
+        }
+    }
+
+    @Override
+    public Paint getPaint() {
+        return paint;
+    }
+
+    @Override
+    public void setStroke(Stroke stroke) {
+        if (stroke == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.stroke = stroke;
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return stroke;
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key key, Object value) {
+        renderingHints.put(key, value);
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key key) {
+        return renderingHints.get(key);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints) {
+        renderingHints.clear();
+        renderingHints.putAll(hints);
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints) {
+        renderingHints.putAll(hints);
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return (RenderingHints)renderingHints.clone();
+    }
+
+    @Override
+    public void translate(int x, int y) {
+        transform.translate(x, y);
+    }
+
+    @Override
+    public void translate(double x, double y) {
+        transform.translate(x, y);
+    }
+
+    @Override
+    public void rotate(double theta) {
+        transform.rotate(theta);
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+        transform.rotate(theta, x, y);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        transform.scale(sx, sy);
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+        transform.shear(shx, shy);
+    }
+
+    @Override
+    public void transform(AffineTransform transform) {
+        this.transform.concatenate(transform);
+    }
+
+    @Override
+    public void setTransform(AffineTransform transform) {
+        this.transform = new AffineTransform(transform);
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return new AffineTransform(transform);
+    }
+
+    @Override
+    public void setBackground(Color background) {
+        this.background = background;
+    }
+
+    @Override
+    public Color getBackground() {
+        return background;
+    }
+
+    @Override
+    public Color getColor() {
+        return getColor(paint);
+    }
+
+    @Override
+    public void setColor(Color color) {
+        if (color != null) {
+            paint = color;
+        }
+    }
+
+    @Override
+    public void setPaintMode() {
+        composite = AlphaComposite.SrcOver;
+    }
+
+    @Override
+    public void setXORMode(Color color) {
+        // No-op
+    }
+
+    @Override
+    public Font getFont() {
+        return font;
+    }
+
+    @Override
+    public void setFont(Font font) {
+        if (font != null) {
+            this.font = font;
+        }
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font font) {
+        return output.scratchGraphics.getFontMetrics(font);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        var textAntialiasing = renderingHints.get(RenderingHints.KEY_TEXT_ANTIALIASING);
+        var fractionalMetrics = renderingHints.get(RenderingHints.KEY_FRACTIONALMETRICS);
+
+        return new FontRenderContext(transform,
+            (textAntialiasing == null) ? RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT : textAntialiasing,
+            (fractionalMetrics == null) ? RenderingHints.VALUE_FRACTIONALMETRICS_DEFAULT : fractionalMetrics);
+    }
+
+    @Override
+    public void clip(Shape shape) {
+        if (shape == null) {
+            setClip(null);
+            return;
+        }
+
+        var deviceShape = transform.createTransformedShape(shape);
+
+        if (clip == null) {
+            clip = deviceShape;
+        } else if (clip instanceof Rectangle2D rectangle1 && deviceShape instanceof Rectangle2D rectangle2) {
+            clip = rectangle1.createIntersection(rectangle2);
+        } else {
+            var area = new Area(clip);
+
+            area.intersect(new Area(deviceShape));
+
+            clip = area;
+        }
+
+        clipID = null;
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        var clip = getClip();
+
+        return (clip == null) ? null : clip.getBounds();
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        clip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        setClip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public Shape getClip() {
+        if (clip == null) {
+            return null;
+        }
+
+        try {
+            return transform.createInverse().createTransformedShape(clip);
+        } catch (NoninvertibleTransformException exception) {
+            return null;
+        }
+    }
+
+    @Override
+    public void setClip(Shape clip) {
+        this.clip = (clip == null) ? null : transform.createTransformedShape(clip);
+
+        clipID = null;
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+        // No-op
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        draw(new Line2D.Float(x1, y1, x2, y2));
+    }
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        fill(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        fillBackground(x, y, width, height, background);
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        draw(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        fill(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        draw(new Ellipse2D.Float(x, y, width, height));
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        fill(new Ellipse2D.Float(x, y, width, height));
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        draw(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.OPEN));
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        fill(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.PIE));
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int pointCount) {
+        if (pointCount < 2) {
+            return;
+        }
+
+        var path = new Path2D.Float(Path2D.WIND_NON_ZERO, pointCount);
+
+        path.moveTo(xPoints[0], yPoints[0]);
+
+        for (var i = 1; i < pointCount; i++) {
+            path.lineTo(xPoints[i], yPoints[i]);
+        }
+
+        draw(path);
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int pointCount) {
+        draw(new Polygon(xPoints, yPoints, pointCount));
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int pointCount) {
+        fill(new Polygon(xPoints, yPoints, pointCount));
+    }
+}
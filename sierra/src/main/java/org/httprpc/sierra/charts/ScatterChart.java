@@ -15,14 +15,18 @@
 package org.httprpc.sierra.charts;
 
 import javax.swing.Icon;
+import javax.swing.SwingUtilities;
 import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.geom.Ellipse2D;
-import java.awt.geom.Line2D;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static org.httprpc.kilo.util.Collections.*;
@@ -91,16 +95,70 @@ public class ScatterChart<K extends Comparable<? super K>, V extends Number> ext
         }
     }
 
+    /**
+     * Trend line models.
+     */
+    public enum TrendLineModel {
+        /**
+         * Linear least-squares regression.
+         */
+        LINEAR,
+
+        /**
+         * Second-degree polynomial least-squares regression.
+         */
+        QUADRATIC,
+
+        /**
+         * Third-degree polynomial least-squares regression.
+         */
+        CUBIC,
+
+        /**
+         * Locally weighted linear regression.
+         */
+        LOESS
+    }
+
+    private static class Trend {
+        SortedMap<?, ?> dataPoints;
+
+        RegressionAccumulator accumulator = new RegressionAccumulator();
+
+        double[] xs = new double[0];
+        double[] ys = new double[0];
+
+        volatile TrendLineModel model = null;
+        volatile CurveFit curveFit = null;
+
+        volatile boolean current = false;
+        volatile boolean pending = false;
+
+        boolean updated = false;
+
+        Trend(SortedMap<?, ?> dataPoints) {
+            this.dataPoints = dataPoints;
+        }
+    }
+
     private boolean showTrendLines = false;
 
+    private TrendLineModel trendLineModel = TrendLineModel.LINEAR;
+
     private double valueMarkerTransparency = 1.0;
 
     private List<List<Shape>> valueMarkerShapes = listOf();
 
-    private List<Line2D.Double> trendLines = listOf();
+    private List<Shape> trendLines = listOf();
+
+    private Map<DataSet<K, V>, Trend> trends = new IdentityHashMap<>();
 
     private static final int VALUE_MARKER_SIZE = 10;
 
+    private static final double LOESS_SPAN = 0.3;
+
+    private static final int CURVE_RESOLUTION = 100;
+
     /**
      * Constructs a new scatter chart.
      *
@@ -133,6 +191,37 @@ public class ScatterChart<K extends Comparable<? super K>, V extends Number> ext
      */
     public void setShowTrendLines(boolean showTrendLines) {
         this.showTrendLines = showTrendLines;
+
+        invalidate();
+    }
+
+    /**
+     * Returns the trend line model. The default value is
+     * {@link TrendLineModel#LINEAR}.
+     *
+     * @return
+     * The trend line model.
+     */
+    public TrendLineModel getTrendLineModel() {
+        return trendLineModel;
+    }
+
+    /**
+     * Sets the trend line model. Linear trend lines are maintained
+     * incrementally as data points are published; other models are fitted on
+     * a background thread.
+     *
+     * @param trendLineModel
+     * The trend line model.
+     */
+    public void setTrendLineModel(TrendLineModel trendLineModel) {
+        if (trendLineModel == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.trendLineModel = trendLineModel;
+
+        invalidate();
     }
 
     /**
@@ -159,6 +248,21 @@ public class ScatterChart<K extends Comparable<? super K>, V extends Number> ext
         this.valueMarkerTransparency = valueMarkerTransparency;
     }
 
+    @Override
+    public void setDataSets(List<DataSet<K, V>> dataSets) {
+        super.setDataSets(dataSets);
+
+        trends.clear();
+    }
+
+    @Override
+    void invalidate() {
+        super.invalidate();
+
+        // Trends that were not maintained incrementally may no longer reflect their data points
+        trends.values().removeIf(trend -> !trend.updated);
+    }
+
     @Override
     public void validate() {
         valueMarkerShapes.clear();
@@ -187,15 +291,6 @@ public class ScatterChart<K extends Comparable<? super K>, V extends Number> ext
 
             var dataPoints = dataSet.getDataPoints();
 
-            var n = dataPoints.size();
-
-            var totalXY = 0.0;
-
-            var totalX = 0.0;
-            var totalY = 0.0;
-
-            var totalXSquared = 0.0;
-
             for (var entry : dataPoints.entrySet()) {
                 var domainValue = domainValueTransform.apply(entry.getKey()).doubleValue();
 
@@ -205,16 +300,7 @@ public class ScatterChart<K extends Comparable<? super K>, V extends Number> ext
                     var x = gridX + (domainValue - domainMinimum) * domainScale - (double)VALUE_MARKER_SIZE / 2;
                     var y = zeroY - rangeValue * rangeScale - (double)VALUE_MARKER_SIZE / 2;
 
-                    if (showTrendLines) {
-                        totalXY += domainValue * rangeValue;
-
-                        totalX += domainValue;
-                        totalY += rangeValue;
-
-                        totalXSquared += Math.pow(domainValue, 2);
-                    }
-
-                    var shape = new Ellipse2D.Double(x, y, VALUE_MARKER_SIZE, VALUE_MARKER_SIZE);
+                    var shape = createEllipse(x, y, VALUE_MARKER_SIZE, VALUE_MARKER_SIZE);
 
                     dataSetValueMarkerShapes.add(shape);
                 }
@@ -223,27 +309,210 @@ public class ScatterChart<K extends Comparable<? super K>, V extends Number> ext
             valueMarkerShapes.add(dataSetValueMarkerShapes);
 
             if (showTrendLines) {
-                var domainMaximum = domainValueTransform.apply(domainBounds.maximum()).doubleValue();
+                trendLines.add(validateTrendLine(dataSet));
+            }
+        }
+
+        for (var trend : trends.values()) {
+            trend.updated = false;
+        }
+
+        validateMarkers();
+    }
+
+    private Shape validateTrendLine(DataSet<K, V> dataSet) {
+        var trend = getTrend(dataSet);
+
+        var domainBounds = getDomainBounds();
+
+        var gridBounds = getGridBounds();
+
+        var gridX = gridBounds.getX();
+
+        var domainScale = getDomainScale();
+        var rangeScale = getRangeScale();
+
+        var zeroY = getOrigin().getY();
+
+        var domainValueTransform = getDomainValueTransform();
+
+        var domainMinimum = domainValueTransform.apply(domainBounds.minimum()).doubleValue();
+        var domainMaximum = domainValueTransform.apply(domainBounds.maximum()).doubleValue();
+
+        if (trendLineModel == TrendLineModel.LINEAR) {
+            var m = trend.accumulator.getSlope();
+
+            if (Double.isNaN(m)) {
+                return createLine(0.0, 0.0, 0.0, 0.0);
+            }
+
+            var b = trend.accumulator.getIntercept();
+
+            var y1 = zeroY - (m * domainMinimum + b) * rangeScale;
+            var y2 = zeroY - (m * domainMaximum + b) * rangeScale;
+
+            return createLine(gridX, y1, gridX + gridBounds.getWidth(), y2);
+        }
+
+        if (trend.model != trendLineModel || !trend.current) {
+            fit(dataSet, trend);
+        }
+
+        var path = createPath(CURVE_RESOLUTION + 1);
+
+        var curveFit = (trend.model == trendLineModel) ? trend.curveFit : null;
+
+        if (curveFit == null) {
+            return path;
+        }
+
+        var minimum = Math.max(domainMinimum, curveFit.getMinimum());
+        var maximum = Math.min(domainMaximum, curveFit.getMaximum());
+
+        if (minimum >= maximum) {
+            return path;
+        }
+
+        var step = (maximum - minimum) / CURVE_RESOLUTION;
 
-                var m = (totalXY - totalX * totalY) / (totalXSquared - Math.pow(totalX, 2));
+        var moved = false;
 
-                Line2D.Double trendLine;
-                if (!Double.isNaN(m)) {
-                    var b = (totalY - m * totalX) / n;
+        for (var i = 0; i <= CURVE_RESOLUTION; i++) {
+            var domainValue = minimum + i * step;
 
-                    var y1 = zeroY - (m * domainMinimum + b) * rangeScale;
-                    var y2 = zeroY - (m * domainMaximum + b) * rangeScale;
+            var rangeValue = curveFit.evaluate(domainValue);
 
-                    trendLine = new Line2D.Double(gridX, y1, gridX + gridBounds.getWidth(), y2);
-                } else {
-                    trendLine = new Line2D.Double();
+            if (Double.isNaN(rangeValue)) {
+                continue;
+            }
+
+            var x = gridX + (domainValue - domainMinimum) * domainScale;
+            var y = zeroY - rangeValue * rangeScale;
+
+            if (moved) {
+                path.lineTo(x, y);
+            } else {
+                path.moveTo(x, y);
+
+                moved = true;
+            }
+        }
+
+        return path;
+    }
+
+    private Trend getTrend(DataSet<K, V> dataSet) {
+        var dataPoints = dataSet.getDataPoints();
+
+        var trend = trends.get(dataSet);
+
+        if (trend == null || trend.dataPoints != dataPoints) {
+            trend = new Trend(dataPoints);
+
+            var domainValueTransform = getDomainValueTransform();
+
+            for (var entry : dataPoints.entrySet()) {
+                var rangeValue = map(entry.getValue(), Number::doubleValue);
+
+                if (rangeValue != null) {
+                    trend.accumulator.add(domainValueTransform.apply(entry.getKey()).doubleValue(), rangeValue);
                 }
+            }
+
+            trends.put(dataSet, trend);
+        }
 
-                trendLines.add(trendLine);
+        return trend;
+    }
+
+    private void fit(DataSet<K, V> dataSet, Trend trend) {
+        if (trend.pending) {
+            return;
+        }
+
+        trend.pending = true;
+        trend.current = true;
+
+        var model = trendLineModel;
+
+        // Take a snapshot of the data points, since they may be updated while the fit is computed
+        var dataPoints = dataSet.getDataPoints();
+
+        var size = dataPoints.size();
+
+        // The buffers are reused, since no other fit can be pending for the trend
+        if (trend.xs.length < size) {
+            trend.xs = new double[size];
+            trend.ys = new double[size];
+        }
+
+        var xs = trend.xs;
+        var ys = trend.ys;
+
+        var n = 0;
+
+        var domainValueTransform = getDomainValueTransform();
+
+        for (var entry : dataPoints.entrySet()) {
+            var value = entry.getValue();
+
+            if (value != null) {
+                xs[n] = domainValueTransform.apply(entry.getKey()).doubleValue();
+                ys[n] = value.doubleValue();
+
+                n++;
             }
         }
 
-        validateMarkers();
+        var count = n;
+
+        CompletableFuture.supplyAsync(() -> switch (model) {
+            case QUADRATIC -> CurveFit.polynomial(xs, ys, count, 2);
+            case CUBIC -> CurveFit.polynomial(xs, ys, count, 3);
+            case LOESS -> CurveFit.loess(xs, ys, count, LOESS_SPAN, CURVE_RESOLUTION);
+            default -> throw new UnsupportedOperationException();
+        }).whenCompleteAsync((curveFit, exception) -> {
+            trend.pending = false;
+
+            if (exception != null || trends.get(dataSet) != trend) {
+                return;
+            }
+
+            trend.model = model;
+            trend.curveFit = curveFit;
+
+            // The data points have not changed, so the cached trends remain valid
+            super.invalidate();
+
+            fireStateChanged();
+        }, SwingUtilities::invokeLater);
+    }
+
+    @Override
+    void dataPointUpdated(DataSet<K, V> dataSet, K key, V previousValue, V value) {
+        var trend = trends.get(dataSet);
+
+        if (trend == null || trend.dataPoints != dataSet.getDataPoints()) {
+            return;
+        }
+
+        var domainValue = getDomainValueTransform().apply(key).doubleValue();
+
+        if (previousValue != null) {
+            trend.accumulator.remove(domainValue, previousValue.doubleValue());
+        }
+
+        if (value != null) {
+            trend.accumulator.add(domainValue, value.doubleValue());
+        }
+
+        trend.current = false;
+        trend.updated = true;
+    }
+
+    @Override
+    int getShapeCount() {
+        return getShapeCount(valueMarkerShapes) + trendLines.size();
     }
 
     @Override
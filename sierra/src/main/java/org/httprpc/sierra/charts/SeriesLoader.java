@@ -0,0 +1,851 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * Loads chart series from CSV and binary files. Files are divided into chunks
+ * that are parsed in parallel, and the results are assembled into
+ * {@link ArraySeries} instances.
+ */
+public class SeriesLoader {
+    private static class Chunk {
+        long[] keys;
+        double[][] values;
+
+        int count = 0;
+
+        int lineCount = 0;
+
+        IOException exception = null;
+
+        Chunk(int columnCount, int capacity) {
+            keys = new long[capacity];
+            values = new double[columnCount][capacity];
+        }
+
+        int next() {
+            if (count == keys.length) {
+                var capacity = count * 2;
+
+                keys = Arrays.copyOf(keys, capacity);
+
+                for (var i = 0; i < values.length; i++) {
+                    values[i] = Arrays.copyOf(values[i], capacity);
+                }
+            }
+
+            for (var i = 0; i < values.length; i++) {
+                values[i][count] = Double.NaN;
+            }
+
+            return count++;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class SortTask extends RecursiveAction {
+        long[] keys;
+
+        int[] order;
+        int[] buffer;
+
+        int from;
+        int to;
+
+        SortTask(long[] keys, int[] order, int[] buffer, int from, int to) {
+            this.keys = keys;
+
+            this.order = order;
+            this.buffer = buffer;
+
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_SORT_THRESHOLD) {
+                sort(keys, order, buffer, from, to);
+            } else {
+                var mid = (from + to) >>> 1;
+
+                invokeAll(new SortTask(keys, order, buffer, from, mid), new SortTask(keys, order, buffer, mid, to));
+
+                merge(keys, order, buffer, from, mid, to);
+            }
+        }
+    }
+
+    private static final int CHUNK_SIZE = 1 << 25;
+
+    private static final int ESTIMATED_LINE_LENGTH = 32;
+
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private static final int MAXIMUM_FAST_PATH_DIGITS = 15;
+
+    private static final double[] powersOfTen = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+        1e21, 1e22
+    };
+
+    private SeriesLoader() {
+    }
+
+    /**
+     * Reads series from a CSV file. The first line of the file is expected to
+     * contain column headings. The first column contains the series keys,
+     * and each remaining column produces a series named by its heading.
+     * Keys may be specified either as epoch milliseconds or as ISO-8601 dates
+     * or date/times; date/times without an offset are interpreted as UTC.
+     * Empty or {@code NaN} values are omitted from the resulting series. If
+     * a key appears more than once, the last value is used. Fields may not
+     * contain line breaks.
+     *
+     * @param path
+     * The path to the CSV file.
+     *
+     * @return
+     * The series, keyed by column heading.
+     *
+     * @throws IOException
+     * If an exception occurs while reading the file.
+     */
+    public static Map<String, ArraySeries> readCSV(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException();
+        }
+
+        try (var fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = fileChannel.size();
+
+            var headerEnd = findLineEnd(fileChannel, 0, size);
+
+            var headings = readHeadings(fileChannel, headerEnd);
+
+            var columnCount = Math.max(headings.length - 1, 0);
+
+            var boundaries = new ArrayList<Long>();
+
+            var position = headerEnd;
+
+            boundaries.add(position);
+
+            while (position < size) {
+                position = findLineEnd(fileChannel, Math.min(position + CHUNK_SIZE, size), size);
+
+                boundaries.add(position);
+            }
+
+            List<Chunk> chunks;
+            try {
+                chunks = IntStream.range(0, boundaries.size() - 1).parallel().mapToObj(i -> {
+                    var start = boundaries.get(i);
+                    var end = boundaries.get(i + 1);
+
+                    try {
+                        return parseChunk(fileChannel, start, end - start, columnCount);
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                }).toList();
+            } catch (UncheckedIOException exception) {
+                throw exception.getCause();
+            }
+
+            var count = 0L;
+
+            // The header occupies the first line
+            var lineNumber = 1;
+
+            for (var chunk : chunks) {
+                if (chunk.exception != null) {
+                    throw new IOException(String.format("[Line %d] %s", lineNumber + chunk.lineCount, chunk.exception.getMessage()), chunk.exception);
+                }
+
+                count += chunk.count;
+
+                lineNumber += chunk.lineCount;
+            }
+
+            if (count > Integer.MAX_VALUE - 8) {
+                throw new IOException("File is too large.");
+            }
+
+            var keys = new long[(int)count];
+            var values = new double[columnCount][(int)count];
+
+            var offset = 0;
+
+            for (var chunk : chunks) {
+                System.arraycopy(chunk.keys, 0, keys, offset, chunk.count);
+
+                for (var i = 0; i < columnCount; i++) {
+                    System.arraycopy(chunk.values[i], 0, values[i], offset, chunk.count);
+                }
+
+                offset += chunk.count;
+            }
+
+            var series = createSeries(keys, values);
+
+            var result = new LinkedHashMap<String, ArraySeries>();
+
+            for (var i = 0; i < columnCount; i++) {
+                result.put(headings[i + 1], series[i]);
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Reads a series from a binary file using big-endian byte order.
+     *
+     * @param path
+     * The path to the binary file.
+     *
+     * @return
+     * The series.
+     *
+     * @throws IOException
+     * If an exception occurs while reading the file.
+     */
+    public static ArraySeries readBinary(Path path) throws IOException {
+        return readBinary(path, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Reads a series from a binary file. The file must consist of the same
+     * fixed-width records used by {@link MappedSeries}; however, the records
+     * are not required to be sorted. If a key appears more than once, the last
+     * value is used.
+     *
+     * @param path
+     * The path to the binary file.
+     *
+     * @param byteOrder
+     * The byte order of the binary file.
+     *
+     * @return
+     * The series.
+     *
+     * @throws IOException
+     * If an exception occurs while reading the file.
+     */
+    public static ArraySeries readBinary(Path path, ByteOrder byteOrder) throws IOException {
+        if (path == null || byteOrder == null) {
+            throw new IllegalArgumentException();
+        }
+
+        try (var fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = fileChannel.size();
+
+            if (size % MappedSeries.RECORD_SIZE != 0) {
+                throw new IOException("Invalid file size.");
+            }
+
+            var count = size / MappedSeries.RECORD_SIZE;
+
+            if (count > Integer.MAX_VALUE - 8) {
+                throw new IOException("File is too large.");
+            }
+
+            var keys = new long[(int)count];
+            var values = new double[(int)count];
+
+            var chunkRecordCount = CHUNK_SIZE / MappedSeries.RECORD_SIZE;
+
+            var chunkCount = (int)((count + chunkRecordCount - 1) / chunkRecordCount);
+
+            try {
+                IntStream.range(0, chunkCount).parallel().forEach(i -> {
+                    var offset = i * chunkRecordCount;
+
+                    var n = (int)Math.min(chunkRecordCount, count - offset);
+
+                    ByteBuffer buffer;
+                    try {
+                        buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, (long)offset * MappedSeries.RECORD_SIZE, (long)n * MappedSeries.RECORD_SIZE);
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+
+                    buffer.order(byteOrder);
+
+                    for (var j = 0; j < n; j++) {
+                        var position = j * MappedSeries.RECORD_SIZE;
+
+                        keys[offset + j] = buffer.getLong(position);
+                        values[offset + j] = buffer.getDouble(position + Long.BYTES);
+                    }
+                });
+            } catch (UncheckedIOException exception) {
+                throw exception.getCause();
+            }
+
+            return createSeries(keys, new double[][] {values})[0];
+        }
+    }
+
+    private static long findLineEnd(FileChannel fileChannel, long position, long size) throws IOException {
+        if (position == 0 && size == 0) {
+            return 0;
+        }
+
+        var buffer = ByteBuffer.allocate(8192);
+
+        while (position < size) {
+            buffer.clear();
+
+            var n = fileChannel.read(buffer, position);
+
+            if (n < 0) {
+                break;
+            }
+
+            for (var i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+
+            position += n;
+        }
+
+        return size;
+    }
+
+    private static String[] readHeadings(FileChannel fileChannel, long headerEnd) throws IOException {
+        if (headerEnd > Integer.MAX_VALUE) {
+            throw new IOException("Invalid header.");
+        }
+
+        var buffer = ByteBuffer.allocate((int)headerEnd);
+
+        while (buffer.hasRemaining()) {
+            if (fileChannel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        var header = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).strip();
+
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        if (header.isEmpty()) {
+            return new String[0];
+        }
+
+        var headings = header.split(",", -1);
+
+        for (var i = 0; i < headings.length; i++) {
+            var heading = headings[i].strip();
+
+            if (heading.length() >= 2 && heading.startsWith("\"") && heading.endsWith("\"")) {
+                heading = heading.substring(1, heading.length() - 1);
+            }
+
+            headings[i] = heading;
+        }
+
+        return headings;
+    }
+
+    private static Chunk parseChunk(FileChannel fileChannel, long position, long size, int columnCount) throws IOException {
+        var n = (int)size;
+
+        var buffer = new byte[n];
+
+        fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size).get(0, buffer);
+
+        var chunk = new Chunk(columnCount, Math.max(n / ESTIMATED_LINE_LENGTH, 16));
+
+        var i = 0;
+
+        while (i < n) {
+            var lineEnd = i;
+
+            while (lineEnd < n && buffer[lineEnd] != '\n') {
+                lineEnd++;
+            }
+
+            var end = lineEnd;
+
+            if (end > i && buffer[end - 1] == '\r') {
+                end--;
+            }
+
+            chunk.lineCount++;
+
+            if (end > i) {
+                try {
+                    parseLine(buffer, i, end, chunk);
+                } catch (IOException exception) {
+                    // Line numbers are assigned once all chunks have been parsed
+                    chunk.exception = exception;
+
+                    break;
+                }
+            }
+
+            i = lineEnd + 1;
+        }
+
+        return chunk;
+    }
+
+    private static void parseLine(byte[] buffer, int start, int end, Chunk chunk) throws IOException {
+        var row = chunk.next();
+
+        var columnCount = chunk.values.length;
+
+        var field = 0;
+
+        var fieldStart = start;
+
+        for (var i = start; i <= end && field <= columnCount; i++) {
+            if (i == end || buffer[i] == ',') {
+                var s = fieldStart;
+                var e = i;
+
+                while (s < e && isPadding(buffer[s])) {
+                    s++;
+                }
+
+                while (e > s && isPadding(buffer[e - 1])) {
+                    e--;
+                }
+
+                if (field == 0) {
+                    chunk.keys[row] = parseKey(buffer, s, e);
+                } else {
+                    chunk.values[field - 1][row] = parseValue(buffer, s, e);
+                }
+
+                field++;
+
+                fieldStart = i + 1;
+            }
+        }
+    }
+
+    private static boolean isPadding(byte b) {
+        return b == ' ' || b == '\t' || b == '"';
+    }
+
+    private static long parseKey(byte[] buffer, int start, int end) throws IOException {
+        if (start == end) {
+            throw new IOException("Missing key.");
+        }
+
+        var i = start;
+
+        var negative = buffer[i] == '-';
+
+        if (negative) {
+            i++;
+        }
+
+        var j = i;
+
+        while (j < end && isDigit(buffer[j])) {
+            j++;
+        }
+
+        if (j == end && j > i) {
+            if (j - i > 18) {
+                throw new IOException("Invalid key.");
+            }
+
+            var key = 0L;
+
+            for (var k = i; k < j; k++) {
+                key = key * 10 + (buffer[k] - '0');
+            }
+
+            return negative ? -key : key;
+        }
+
+        if (negative || end - start < 10 || buffer[start + 4] != '-' || buffer[start + 7] != '-') {
+            throw new IOException("Invalid key.");
+        }
+
+        var year = parseDigits(buffer, start, 4, end);
+        var month = parseDigits(buffer, start + 5, 2, end);
+        var day = parseDigits(buffer, start + 8, 2, end);
+
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            throw new IOException("Invalid key.");
+        }
+
+        var millis = getEpochDay(year, month, day) * 86400000L;
+
+        i = start + 10;
+
+        if (i < end && (buffer[i] == 'T' || buffer[i] == ' ')) {
+            if (i + 6 > end || buffer[i + 3] != ':') {
+                throw new IOException("Invalid key.");
+            }
+
+            var hour = parseDigits(buffer, i + 1, 2, end);
+            var minute = parseDigits(buffer, i + 4, 2, end);
+
+            i += 6;
+
+            var second = 0;
+
+            if (i < end && buffer[i] == ':') {
+                second = parseDigits(buffer, i + 1, 2, end);
+
+                i += 3;
+            }
+
+            if (hour > 23 || minute > 59 || second > 59) {
+                throw new IOException("Invalid key.");
+            }
+
+            millis += hour * 3600000L + minute * 60000L + second * 1000L;
+
+            if (i < end && buffer[i] == '.') {
+                i++;
+
+                var scale = 100;
+
+                while (i < end && isDigit(buffer[i])) {
+                    millis += (buffer[i] - '0') * scale;
+
+                    scale /= 10;
+
+                    i++;
+                }
+            }
+
+            if (i < end) {
+                var b = buffer[i];
+
+                if (b == 'Z') {
+                    i++;
+                } else if (b == '+' || b == '-') {
+                    var offsetHours = parseDigits(buffer, i + 1, 2, end);
+
+                    i += 3;
+
+                    if (i < end && buffer[i] == ':') {
+                        i++;
+                    }
+
+                    var offsetMinutes = (i < end) ? parseDigits(buffer, i, 2, end) : 0;
+
+                    if (i < end) {
+                        i += 2;
+                    }
+
+                    var offset = offsetHours * 3600000L + offsetMinutes * 60000L;
+
+                    millis += (b == '+') ? -offset : offset;
+                }
+            }
+        }
+
+        if (i != end) {
+            throw new IOException("Invalid key.");
+        }
+
+        return millis;
+    }
+
+    private static int parseDigits(byte[] buffer, int start, int count, int end) throws IOException {
+        if (start + count > end) {
+            throw new IOException("Invalid key.");
+        }
+
+        var value = 0;
+
+        for (var i = start; i < start + count; i++) {
+            var b = buffer[i];
+
+            if (!isDigit(b)) {
+                throw new IOException("Invalid key.");
+            }
+
+            value = value * 10 + (b - '0');
+        }
+
+        return value;
+    }
+
+    private static long getEpochDay(long year, int month, int day) {
+        year -= (month <= 2) ? 1 : 0;
+
+        var era = Math.floorDiv(year, 400);
+
+        var yearOfEra = year - era * 400;
+        var dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+        var dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static double parseValue(byte[] buffer, int start, int end) throws IOException {
+        if (start == end) {
+            return Double.NaN;
+        }
+
+        var i = start;
+
+        var negative = false;
+
+        var b = buffer[i];
+
+        if (b == '-' || b == '+') {
+            negative = (b == '-');
+
+            i++;
+        }
+
+        var mantissa = 0L;
+
+        var digitCount = 0;
+        var significantDigitCount = 0;
+
+        var exponent = 0;
+
+        while (i < end && isDigit(b = buffer[i])) {
+            if (significantDigitCount < MAXIMUM_FAST_PATH_DIGITS + 1) {
+                mantissa = mantissa * 10 + (b - '0');
+            }
+
+            if (mantissa != 0) {
+                significantDigitCount++;
+            }
+
+            digitCount++;
+
+            i++;
+        }
+
+        if (i < end && buffer[i] == '.') {
+            i++;
+
+            while (i < end && isDigit(b = buffer[i])) {
+                if (significantDigitCount < MAXIMUM_FAST_PATH_DIGITS + 1) {
+                    mantissa = mantissa * 10 + (b - '0');
+
+                    exponent--;
+                }
+
+                if (mantissa != 0) {
+                    significantDigitCount++;
+                }
+
+                digitCount++;
+
+                i++;
+            }
+        }
+
+        if (digitCount > 0 && i < end && ((b = buffer[i]) == 'e' || b == 'E')) {
+            i++;
+
+            var negativeExponent = false;
+
+            if (i < end && ((b = buffer[i]) == '-' || b == '+')) {
+                negativeExponent = (b == '-');
+
+                i++;
+            }
+
+            var exponentStart = i;
+
+            var value = 0;
+
+            while (i < end && isDigit(b = buffer[i])) {
+                if (value < 10000) {
+                    value = value * 10 + (b - '0');
+                }
+
+                i++;
+            }
+
+            if (i == exponentStart) {
+                return parseValueSlow(buffer, start, end);
+            }
+
+            exponent += negativeExponent ? -value : value;
+        }
+
+        if (digitCount == 0 || i != end
+            || significantDigitCount > MAXIMUM_FAST_PATH_DIGITS
+            || exponent < -(powersOfTen.length - 1) || exponent > powersOfTen.length - 1) {
+            return parseValueSlow(buffer, start, end);
+        }
+
+        var value = (exponent < 0) ? mantissa / powersOfTen[-exponent] : mantissa * powersOfTen[exponent];
+
+        return negative ? -value : value;
+    }
+
+    private static double parseValueSlow(byte[] buffer, int start, int end) throws IOException {
+        try {
+            return Double.parseDouble(new String(buffer, start, end - start, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException exception) {
+            throw new IOException("Invalid value.", exception);
+        }
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static ArraySeries[] createSeries(long[] keys, double[][] values) {
+        int[] order = null;
+
+        for (var i = 1; i < keys.length; i++) {
+            if (keys[i] <= keys[i - 1]) {
+                order = sort(keys);
+
+                break;
+            }
+        }
+
+        var series = new ArraySeries[values.length];
+
+        var sortOrder = order;
+
+        IntStream.range(0, values.length).parallel().forEach(i -> series[i] = createSeries(keys, sortOrder, values[i]));
+
+        return series;
+    }
+
+    private static ArraySeries createSeries(long[] keys, int[] order, double[] values) {
+        var n = keys.length;
+
+        var seriesKeys = new long[n];
+        var seriesValues = new double[n];
+
+        var count = 0;
+
+        for (var i = 0; i < n; i++) {
+            var j = (order == null) ? i : order[i];
+
+            var value = values[j];
+
+            if (Double.isNaN(value)) {
+                continue;
+            }
+
+            var key = keys[j];
+
+            if (count > 0 && seriesKeys[count - 1] == key) {
+                seriesValues[count - 1] = value;
+            } else {
+                seriesKeys[count] = key;
+                seriesValues[count] = value;
+
+                count++;
+            }
+        }
+
+        return new ArraySeries(seriesKeys, seriesValues, 0, count);
+    }
+
+    private static int[] sort(long[] keys) {
+        var n = keys.length;
+
+        var order = new int[n];
+
+        Arrays.parallelSetAll(order, i -> i);
+
+        ForkJoinPool.commonPool().invoke(new SortTask(keys, order, new int[n], 0, n));
+
+        return order;
+    }
+
+    private static void sort(long[] keys, int[] order, int[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (var i = from + 1; i < to; i++) {
+                var index = order[i];
+                var key = keys[index];
+
+                var j = i - 1;
+
+                while (j >= from && keys[order[j]] > key) {
+                    order[j + 1] = order[j];
+
+                    j--;
+                }
+
+                order[j + 1] = index;
+            }
+        } else {
+            var mid = (from + to) >>> 1;
+
+            sort(keys, order, buffer, from, mid);
+            sort(keys, order, buffer, mid, to);
+
+            merge(keys, order, buffer, from, mid, to);
+        }
+    }
+
+    private static void merge(long[] keys, int[] order, int[] buffer, int from, int mid, int to) {
+        if (keys[order[mid - 1]] <= keys[order[mid]]) {
+            return;
+        }
+
+        System.arraycopy(order, from, buffer, from, to - from);
+
+        var i = from;
+        var j = mid;
+        var k = from;
+
+        while (i < mid && j < to) {
+            if (keys[buffer[j]] < keys[buffer[i]]) {
+                order[k++] = buffer[j++];
+            } else {
+                order[k++] = buffer[i++];
+            }
+        }
+
+        while (i < mid) {
+            order[k++] = buffer[i++];
+        }
+
+        while (j < to) {
+            order[k++] = buffer[j++];
+        }
+    }
+}
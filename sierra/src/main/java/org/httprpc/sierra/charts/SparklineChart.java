@@ -0,0 +1,279 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import javax.swing.UIManager;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Path2D;
+
+import static org.httprpc.kilo.util.Optionals.*;
+
+/**
+ * Sparkline chart. Draws a single line from an array of values, without axes,
+ * grid lines, or markers. Sparklines are sized by their container.
+ */
+public class SparklineChart {
+    private double[] values = new double[0];
+
+    private Color color = Color.GRAY;
+    private BasicStroke stroke = defaultStroke;
+
+    private Chart.Bounds<Double> rangeBounds = null;
+
+    private int width = 0;
+    private int height = 0;
+
+    private Path2D.Double path = new Path2D.Double();
+
+    private boolean valid = false;
+
+    private static final BasicStroke defaultStroke;
+    static {
+        defaultStroke = new BasicStroke(1.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    }
+
+    /**
+     * Constructs a new sparkline chart.
+     */
+    public SparklineChart() {
+        perform(UIManager.getColor("Component.accentColor"), color -> this.color = color);
+    }
+
+    /**
+     * Returns the chart values.
+     *
+     * @return
+     * The chart values. The array is not copied, so it should not be modified
+     * by the caller.
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Sets the chart values. {@link Double#NaN} values produce gaps in the
+     * line. The array is not copied; if its contents change, this method must
+     * be called again for the changes to be reflected in the chart.
+     *
+     * @param values
+     * The chart values.
+     */
+    public void setValues(double[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.values = values;
+
+        valid = false;
+    }
+
+    /**
+     * Returns the line color.
+     *
+     * @return
+     * The line color.
+     */
+    public Color getColor() {
+        return color;
+    }
+
+    /**
+     * Sets the line color.
+     *
+     * @param color
+     * The line color.
+     */
+    public void setColor(Color color) {
+        if (color == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.color = color;
+    }
+
+    /**
+     * Returns the line stroke.
+     *
+     * @return
+     * The line stroke.
+     */
+    public BasicStroke getStroke() {
+        return stroke;
+    }
+
+    /**
+     * Sets the line stroke.
+     *
+     * @param stroke
+     * The line stroke.
+     */
+    public void setStroke(BasicStroke stroke) {
+        if (stroke == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.stroke = stroke;
+
+        valid = false;
+    }
+
+    /**
+     * Returns the range bounds.
+     *
+     * @return
+     * The range bounds, or {@code null} if the bounds are determined by the
+     * chart values.
+     */
+    public Chart.Bounds<Double> getRangeBounds() {
+        return rangeBounds;
+    }
+
+    /**
+     * Sets the range bounds.
+     *
+     * @param rangeBounds
+     * The range bounds, or {@code null} to determine the bounds from the chart
+     * values.
+     */
+    public void setRangeBounds(Chart.Bounds<Double> rangeBounds) {
+        this.rangeBounds = rangeBounds;
+
+        valid = false;
+    }
+
+    /**
+     * Returns the chart width.
+     *
+     * @return
+     * The chart width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the chart height.
+     *
+     * @return
+     * The chart height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Sets the chart's size.
+     *
+     * @param width
+     * The chart width.
+     *
+     * @param height
+     * The chart height.
+     */
+    public void setSize(int width, int height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        if (width != this.width || height != this.height) {
+            valid = false;
+        }
+
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @param graphics
+     * The graphics context in which the chart will be drawn.
+     */
+    public void draw(Graphics2D graphics) {
+        if (!valid) {
+            validate();
+
+            valid = true;
+        }
+
+        graphics.setRenderingHints(Chart.renderingHints);
+
+        graphics.setColor(color);
+        graphics.setStroke(stroke);
+
+        graphics.draw(path);
+    }
+
+    private void validate() {
+        path.reset();
+
+        var n = values.length;
+
+        if (n == 0) {
+            return;
+        }
+
+        double rangeMinimum;
+        double rangeMaximum;
+        if (rangeBounds == null) {
+            rangeMinimum = Double.POSITIVE_INFINITY;
+            rangeMaximum = Double.NEGATIVE_INFINITY;
+
+            for (var value : values) {
+                if (!Double.isNaN(value)) {
+                    rangeMinimum = Math.min(rangeMinimum, value);
+                    rangeMaximum = Math.max(rangeMaximum, value);
+                }
+            }
+        } else {
+            rangeMinimum = rangeBounds.minimum();
+            rangeMaximum = rangeBounds.maximum();
+        }
+
+        var inset = (double)stroke.getLineWidth() / 2;
+
+        var width = Math.max(this.width - inset * 2, 0.0);
+        var height = Math.max(this.height - inset * 2, 0.0);
+
+        var domainScale = (n > 1) ? width / (n - 1) : 0.0;
+        var rangeScale = (rangeMaximum > rangeMinimum) ? height / (rangeMaximum - rangeMinimum) : 0.0;
+
+        var y0 = (rangeScale == 0.0) ? inset + height / 2 : inset + height;
+
+        var gap = true;
+
+        for (var i = 0; i < n; i++) {
+            var value = values[i];
+
+            if (Double.isNaN(value)) {
+                gap = true;
+            } else {
+                var x = inset + i * domainScale;
+                var y = y0 - (value - rangeMinimum) * rangeScale;
+
+                if (gap) {
+                    path.moveTo(x, y);
+
+                    gap = false;
+                } else {
+                    path.lineTo(x, y);
+                }
+            }
+        }
+    }
+}
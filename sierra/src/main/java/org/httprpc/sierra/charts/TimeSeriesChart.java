@@ -19,7 +19,6 @@ import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Shape;
-import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.util.ArrayList;
@@ -90,7 +89,7 @@ public class TimeSeriesChart<K extends Comparable<? super K>, V extends Number>
 
     private boolean showValueMarkers = false;
 
-    private List<Path2D.Double> paths = listOf();
+    private List<Path2D> paths = listOf();
     private List<List<Shape>> valueMarkerShapes = listOf();
 
     private static final int VALUE_MARKER_SCALE = 5;
@@ -148,7 +147,7 @@ public class TimeSeriesChart<K extends Comparable<? super K>, V extends Number>
         var domainMinimum = domainValueTransform.apply(getDomainBounds().minimum()).doubleValue();
 
         for (var dataSet : getDataSets()) {
-            var path = new Path2D.Double();
+            var path = createPath(dataSet.getDataPoints().size());
             var dataSetValueMarkerShapes = new ArrayList<Shape>(dataSet.getDataPoints().size());
 
             var i = 0;
@@ -171,7 +170,7 @@ public class TimeSeriesChart<K extends Comparable<? super K>, V extends Number>
                     if (showValueMarkers) {
                         var diameter = dataSet.getStroke().getLineWidth() * VALUE_MARKER_SCALE;
 
-                        var shape = new Ellipse2D.Double(x - diameter / 2, y - diameter / 2, diameter, diameter);
+                        var shape = createEllipse(x - diameter / 2, y - diameter / 2, diameter, diameter);
 
                         dataSetValueMarkerShapes.add(shape);
                     }
@@ -187,6 +186,11 @@ public class TimeSeriesChart<K extends Comparable<? super K>, V extends Number>
         validateMarkers();
     }
 
+    @Override
+    int getShapeCount() {
+        return paths.size() + getShapeCount(valueMarkerShapes);
+    }
+
     @Override
     void drawChart(Graphics2D graphics) {
         drawGrid(graphics);
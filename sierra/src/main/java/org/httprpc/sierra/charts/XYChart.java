@@ -14,8 +14,8 @@
 
 package org.httprpc.sierra.charts;
 
+import javax.swing.JComponent;
 import javax.swing.JLabel;
-import javax.swing.SwingConstants;
 import java.awt.Graphics2D;
 import java.util.List;
 import java.util.function.Function;
@@ -32,6 +32,8 @@ public abstract class XYChart<K extends Comparable<? super K>, V extends Number>
 
     private List<JLabel> domainMarkerLabels = listOf();
 
+    private ComponentPool<MarkerLabelKey, JLabel> domainMarkerLabelPool = new ComponentPool<>(Chart::createDomainMarkerLabel);
+
     XYChart(Function<K, Number> domainValueTransform, Function<Number, K> domainKeyTransform) {
         this.domainValueTransform = domainValueTransform;
         this.domainKeyTransform = domainKeyTransform;
@@ -47,16 +49,15 @@ public abstract class XYChart<K extends Comparable<? super K>, V extends Number>
         return domainKeyTransform;
     }
 
-    @Override
     void validateGrid() {
         var dataSets = getDataSets();
 
-        var domainBounds = getDomainBounds();
+        var domainBounds = getExplicitDomainBounds();
 
         K domainMinimum = null;
         K domainMaximum = null;
 
-        var rangeBounds = getRangeBounds();
+        var rangeBounds = getExplicitRangeBounds();
 
         var rangeMinimum = Double.POSITIVE_INFINITY;
         var rangeMaximum = Double.NEGATIVE_INFINITY;
@@ -88,15 +89,19 @@ public abstract class XYChart<K extends Comparable<? super K>, V extends Number>
             }
         }
 
+        Bounds<K> defaultDomainBounds = null;
+
         if (domainBounds == null && domainMinimum != null && domainMaximum != null) {
-            setDomainBounds(new Bounds<>(domainMinimum, domainMaximum));
+            defaultDomainBounds = new Bounds<>(domainMinimum, domainMaximum);
         }
 
+        Bounds<Double> defaultRangeBounds = null;
+
         if (rangeBounds == null && rangeMinimum <= rangeMaximum) {
-            setRangeBounds(adjustBounds(rangeMinimum, rangeMaximum));
+            defaultRangeBounds = adjustBounds(rangeMinimum, rangeMaximum);
         }
 
-        super.validateGrid();
+        validateGrid(defaultDomainBounds, defaultRangeBounds);
     }
 
     @Override
@@ -105,6 +110,9 @@ public abstract class XYChart<K extends Comparable<? super K>, V extends Number>
 
         domainMarkerLabels.clear();
 
+        domainMarkerLabelPool.reset();
+
+        var markerColor = getMarkerColor();
         var markerFont = getMarkerFont();
 
         var gridBounds = getGridBounds();
@@ -122,14 +130,9 @@ public abstract class XYChart<K extends Comparable<? super K>, V extends Number>
 
             var marker = entry.getValue();
 
-            var label = new JLabel(marker.text(), marker.icon(), SwingConstants.CENTER);
-
-            label.setHorizontalTextPosition(SwingConstants.CENTER);
-            label.setVerticalAlignment(SwingConstants.CENTER);
-            label.setVerticalTextPosition(SwingConstants.BOTTOM);
-            label.setIconTextGap(2);
+            var label = domainMarkerLabelPool.get(new MarkerLabelKey(marker, markerFont));
 
-            label.setFont(markerFont);
+            label.setForeground(markerColor);
 
             var size = label.getPreferredSize();
 
@@ -149,15 +152,20 @@ public abstract class XYChart<K extends Comparable<? super K>, V extends Number>
         super.drawGrid(graphics);
     }
 
+    @Override
+    List<JComponent> getLabels() {
+        var labels = super.getLabels();
+
+        labels.addAll(domainMarkerLabels);
+
+        return labels;
+    }
+
     @Override
     void drawMarkers(Graphics2D graphics) {
         super.drawMarkers(graphics);
 
-        var markerColor = getMarkerColor();
-
         for (var label : domainMarkerLabels) {
-            label.setForeground(markerColor);
-
             paintComponent(graphics, label);
         }
     }
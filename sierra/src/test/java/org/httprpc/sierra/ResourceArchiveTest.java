@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceArchiveTest {
+    @Test
+    public void testRoundTrip() throws IOException {
+        var archive = createArchive();
+
+        assertEquals(setOf("a.txt", "a/b/c.txt", "empty.txt"), archive.getNames());
+
+        assertTrue(archive.contains("a.txt"));
+        assertFalse(archive.contains("b.txt"));
+
+        var buffer = archive.getBuffer("a.txt");
+
+        assertTrue(buffer.isReadOnly());
+
+        var bytes = new byte[buffer.remaining()];
+
+        buffer.get(bytes);
+
+        assertEquals("abc", new String(bytes, StandardCharsets.UTF_8));
+
+        try (var inputStream = archive.getInputStream("a/b/c.txt")) {
+            assertEquals("xyz", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        try (var inputStream = archive.getInputStream("empty.txt")) {
+            assertEquals(-1, inputStream.read());
+        }
+
+        assertNull(archive.getBuffer("b.txt"));
+        assertNull(archive.getInputStream("b.txt"));
+    }
+
+    @Test
+    public void testURL() throws IOException {
+        var archive = createArchive();
+
+        var url = archive.getURL("a/b/c.txt");
+
+        assertEquals("sierra-archive", url.getProtocol());
+        assertTrue(url.toExternalForm().endsWith("!/a/b/c.txt"));
+
+        try (var inputStream = url.openStream()) {
+            assertEquals("xyz", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        assertEquals(3, url.openConnection().getContentLength());
+
+        assertNull(archive.getURL("b.txt"));
+    }
+
+    @Test
+    public void testInvalidMagicNumber() throws IOException {
+        var path = Files.createTempFile(ResourceArchiveTest.class.getSimpleName(), ".sra");
+
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        var dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+
+        dataOutputStream.writeInt(0x12345678);
+        dataOutputStream.writeInt(0);
+
+        Files.write(path, byteArrayOutputStream.toByteArray());
+
+        var exception = assertThrows(IOException.class, () -> ResourceArchive.open(path));
+
+        assertEquals("Invalid archive.", exception.getMessage());
+    }
+
+    @Test
+    public void testInvalidOffset() throws IOException {
+        var path = Files.createTempFile(ResourceArchiveTest.class.getSimpleName(), ".sra");
+
+        // The entry's data extends past the end of the file
+        var name = "a.txt".getBytes(StandardCharsets.UTF_8);
+
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        var dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+
+        dataOutputStream.writeInt(0x53524131);
+        dataOutputStream.writeInt(1);
+        dataOutputStream.writeInt(name.length);
+        dataOutputStream.write(name);
+        dataOutputStream.writeInt(8 + 12 + name.length);
+        dataOutputStream.writeInt(1024);
+        dataOutputStream.write("abc".getBytes(StandardCharsets.UTF_8));
+
+        Files.write(path, byteArrayOutputStream.toByteArray());
+
+        var exception = assertThrows(IOException.class, () -> ResourceArchive.open(path));
+
+        assertEquals("Invalid archive.", exception.getMessage());
+    }
+
+    @Test
+    public void testTruncatedIndex() throws IOException {
+        var path = Files.createTempFile(ResourceArchiveTest.class.getSimpleName(), ".sra");
+
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        var dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+
+        dataOutputStream.writeInt(0x53524131);
+        dataOutputStream.writeInt(1);
+
+        Files.write(path, byteArrayOutputStream.toByteArray());
+
+        var exception = assertThrows(IOException.class, () -> ResourceArchive.open(path));
+
+        assertEquals("Invalid archive.", exception.getMessage());
+    }
+
+    private static ResourceArchive createArchive() throws IOException {
+        var directory = Files.createTempDirectory(ResourceArchiveTest.class.getSimpleName());
+
+        Files.writeString(directory.resolve("a.txt"), "abc");
+        Files.writeString(Files.createDirectories(directory.resolve("a").resolve("b")).resolve("c.txt"), "xyz");
+        Files.writeString(directory.resolve("empty.txt"), "");
+
+        var path = directory.resolveSibling(String.format("%s.sra", directory.getFileName()));
+
+        ResourceArchive.create(directory, path);
+
+        return ResourceArchive.open(path);
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.DefaultButtonModel;
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JRadioButton;
+import javax.swing.JTabbedPane;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UILoaderTest {
+    public static class Owner {
+        private @Outlet JLabel label = null;
+        private @Outlet JButton button = null;
+
+        private @Outlet JRadioButton radioButton1 = null;
+        private @Outlet JRadioButton radioButton2 = null;
+    }
+
+    public static class ImageOwner {
+        private @Outlet ImagePane imagePane = null;
+    }
+
+    private static final UILoader.Template template = UILoader.compile(Owner.class, "UILoaderTest.xml");
+
+    @Test
+    public void testTemplateReuse() {
+        var owner1 = new Owner();
+        var owner2 = new Owner();
+
+        var component1 = template.instantiate(owner1);
+        var component2 = template.instantiate(owner2);
+
+        assertNotSame(component1, component2);
+
+        assertEquals(4, component1.getComponentCount());
+        assertEquals(4, component2.getComponentCount());
+
+        assertEquals("Label", owner1.label.getText());
+        assertEquals("Label", owner2.label.getText());
+    }
+
+    @Test
+    public void testOutlets() {
+        var owner1 = new Owner();
+        var owner2 = new Owner();
+
+        var component1 = template.instantiate(owner1);
+        var component2 = template.instantiate(owner2);
+
+        assertNotSame(owner1.label, owner2.label);
+        assertNotSame(owner1.button, owner2.button);
+
+        assertSame(component1, owner1.label.getParent());
+        assertSame(component2, owner2.label.getParent());
+
+        assertEquals("label", owner1.label.getName());
+    }
+
+    @Test
+    public void testButtonGroups() {
+        var owner1 = new Owner();
+        var owner2 = new Owner();
+
+        template.instantiate(owner1);
+        template.instantiate(owner2);
+
+        var group1 = ((DefaultButtonModel)owner1.radioButton1.getModel()).getGroup();
+        var group2 = ((DefaultButtonModel)owner2.radioButton1.getModel()).getGroup();
+
+        assertNotNull(group1);
+        assertNotNull(group2);
+
+        assertSame(group1, ((DefaultButtonModel)owner1.radioButton2.getModel()).getGroup());
+        assertNotSame(group1, group2);
+
+        owner1.radioButton1.setSelected(true);
+        owner2.radioButton2.setSelected(true);
+
+        assertTrue(owner1.radioButton1.isSelected());
+        assertFalse(owner1.radioButton2.isSelected());
+
+        owner1.radioButton2.setSelected(true);
+
+        assertFalse(owner1.radioButton1.isSelected());
+        assertTrue(owner2.radioButton2.isSelected());
+    }
+
+    @Test
+    public void testIcons() {
+        var owner1 = new Owner();
+        var owner2 = new Owner();
+
+        template.instantiate(owner1);
+        template.instantiate(owner2);
+
+        assertNotNull(owner1.label.getIcon());
+        assertSame(owner1.label.getIcon(), owner2.label.getIcon());
+
+        assertNotNull(owner1.button.getIcon());
+        assertNotSame(owner1.button.getIcon(), owner2.button.getIcon());
+    }
+
+    @Test
+    public void testLookAndFeelValues() {
+        var key = "UILoaderTest.foreground";
+
+        UIManager.put(key, Color.RED);
+
+        try {
+            var lookAndFeelTemplate = UILoader.compile(Owner.class, "look-and-feel.xml");
+
+            var owner1 = new Owner();
+
+            lookAndFeelTemplate.instantiate(owner1);
+
+            assertEquals(Color.RED, owner1.label.getForeground());
+
+            UIManager.put(key, Color.BLUE);
+
+            var owner2 = new Owner();
+
+            lookAndFeelTemplate.instantiate(owner2);
+
+            assertEquals(Color.BLUE, owner2.label.getForeground());
+            assertNotSame(owner1.label.getBorder(), owner2.label.getBorder());
+        } finally {
+            UIManager.put(key, null);
+        }
+    }
+
+    @Test
+    public void testImageExecutor() {
+        UILoader.clearCache();
+
+        var tasks = new ArrayList<Runnable>();
+
+        UILoader.setImageExecutor(tasks::add);
+
+        try {
+            var imagePaneTemplate = UILoader.compile(ImageOwner.class, "image-pane.xml");
+
+            var owner1 = new ImageOwner();
+
+            imagePaneTemplate.instantiate(owner1);
+
+            var placeholder = (BufferedImage)owner1.imagePane.getImage();
+
+            assertEquals(BufferedImage.TYPE_BYTE_BINARY, placeholder.getType());
+
+            assertEquals(4, placeholder.getWidth());
+            assertEquals(3, placeholder.getHeight());
+
+            assertEquals(1, tasks.size());
+
+            // The executor is consulted when the template is instantiated, not when it is compiled
+            UILoader.setImageExecutor(null);
+
+            var owner2 = new ImageOwner();
+
+            imagePaneTemplate.instantiate(owner2);
+
+            var image = (BufferedImage)owner2.imagePane.getImage();
+
+            assertNotEquals(BufferedImage.TYPE_BYTE_BINARY, image.getType());
+
+            assertEquals(4, image.getWidth());
+            assertEquals(3, image.getHeight());
+
+            assertEquals(1, tasks.size());
+        } finally {
+            UILoader.setImageExecutor(null);
+        }
+    }
+
+    @Test
+    public void testIncludeAttributes() {
+        var owner = new Owner();
+
+        var component = UILoader.load(owner, "include.xml");
+
+        var formPanel = (FormPanel)component.getComponent(0);
+
+        assertEquals("Name", ((JLabel)formPanel.getComponent(0)).getText());
+
+        var tabbedPane = (JTabbedPane)component.getComponent(1);
+
+        assertEquals("First", tabbedPane.getTitleAt(0));
+        assertEquals("Second", tabbedPane.getTitleAt(1));
+
+        assertSame(tabbedPane.getComponentAt(0), owner.label);
+
+        tabbedPane.setSelectedIndex(1);
+
+        assertSame(tabbedPane.getComponentAt(1), owner.label);
+    }
+
+    @Test
+    public void testFragmentErrors() {
+        var compileException = assertThrows(RuntimeException.class, () -> UILoader.load(new Owner(), "invalid-tag-include.xml"));
+
+        assertEquals("[Line 2] invalid-tag.xml: [Line 2] Invalid tag (xyz).", compileException.getMessage());
+
+        var instantiateException = assertThrows(RuntimeException.class, () -> UILoader.load(new Owner(), "invalid-color-include.xml"));
+
+        assertTrue(instantiateException.getMessage().startsWith("[Line 2] invalid-color.xml: [Line 1] "));
+    }
+
+    @Test
+    public void testIncludeTiming() {
+        UILoader.clearCache();
+
+        var profiles = new ArrayList<LoadProfile>();
+
+        UILoader.setProfileHandler(profiles::add);
+
+        try {
+            UILoader.compile(Owner.class, "include.xml");
+        } finally {
+            UILoader.setProfileHandler(null);
+        }
+
+        var tagTimings = profiles.getFirst().getTagTimings();
+
+        // The fragment's elements are timed individually, so the include elements are not
+        assertFalse(tagTimings.containsKey("include"));
+        assertTrue(tagTimings.containsKey("label"));
+    }
+
+    @Test
+    public void testResourceTiming() {
+        UILoader.clearCache();
+
+        var profiles = new ArrayList<LoadProfile>();
+
+        UILoader.setProfileHandler(profiles::add);
+
+        try {
+            UILoader.load(new Owner(), "UILoaderTest.xml");
+            UILoader.load(new ImageOwner(), "image-pane.xml");
+
+            // The template was compiled without profiling, so its attributes are not timed
+            template.instantiate(new Owner());
+        } finally {
+            UILoader.setProfileHandler(null);
+        }
+
+        assertEquals(3, profiles.size());
+
+        var profile = profiles.getFirst();
+
+        assertTrue(profile.getDocumentTime() > 0);
+
+        // The label's icon is shared, but the button's icon is created when the document is instantiated
+        assertEquals(2, profile.getIconCount());
+        assertEquals(0, profile.getImageCount());
+
+        assertEquals(0, profiles.get(1).getIconCount());
+        assertEquals(1, profiles.get(1).getImageCount());
+
+        assertEquals(1, profiles.get(2).getIconCount());
+        assertTrue(profiles.get(2).getAttributeTimings().isEmpty());
+    }
+
+    @Test
+    public void testCacheStatistics() {
+        UILoader.clearCache();
+
+        // The label's icon is looked up when the document is compiled
+        UILoader.load(new Owner(), "UILoaderTest.xml");
+
+        assertEquals(0, UILoader.getCacheHitCount());
+        assertEquals(1, UILoader.getCacheMissCount());
+
+        UILoader.load(new Owner(), "UILoaderTest.xml");
+
+        assertEquals(1, UILoader.getCacheHitCount());
+        assertEquals(1, UILoader.getCacheMissCount());
+
+        UILoader.clearCache();
+
+        assertEquals(0, UILoader.getCacheHitCount());
+        assertEquals(0, UILoader.getCacheMissCount());
+    }
+
+    @Test
+    public void testCacheCapacity() {
+        var capacity = UILoader.getCacheCapacity();
+
+        UILoader.clearCache();
+
+        UILoader.setCacheCapacity(1);
+
+        try {
+            assertEquals(1, UILoader.getCacheCapacity());
+
+            UILoader.load(new Owner(), "UILoaderTest.xml");
+
+            // The image is looked up when the document is compiled and again when it is instantiated
+            UILoader.load(new ImageOwner(), "image-pane.xml");
+
+            assertEquals(1, UILoader.getCacheHitCount());
+            assertEquals(2, UILoader.getCacheMissCount());
+
+            // The label's icon was evicted when the image was cached
+            UILoader.load(new Owner(), "UILoaderTest.xml");
+
+            assertEquals(1, UILoader.getCacheHitCount());
+            assertEquals(3, UILoader.getCacheMissCount());
+
+            UILoader.setCacheCapacity(capacity);
+
+            UILoader.load(new ImageOwner(), "image-pane.xml");
+
+            assertEquals(2, UILoader.getCacheHitCount());
+            assertEquals(4, UILoader.getCacheMissCount());
+
+            // Reducing the capacity evicts the least recently used entries
+            UILoader.setCacheCapacity(1);
+
+            UILoader.load(new Owner(), "UILoaderTest.xml");
+
+            assertEquals(2, UILoader.getCacheHitCount());
+            assertEquals(5, UILoader.getCacheMissCount());
+        } finally {
+            UILoader.setCacheCapacity(capacity);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> UILoader.setCacheCapacity(-1));
+    }
+
+    @Test
+    public void testLoadAsync() throws Exception {
+        var owner = new Owner();
+
+        var eventDispatchThread = new AtomicBoolean(false);
+
+        var future = new AtomicReference<CompletableFuture<JComponent>>();
+
+        // The document cannot be instantiated until this task returns, so the action is registered before the future completes
+        SwingUtilities.invokeAndWait(() -> future.set(UILoader.loadAsync(owner, "UILoaderTest.xml")
+            .whenComplete((component, exception) -> eventDispatchThread.set(SwingUtilities.isEventDispatchThread()))));
+
+        var component = future.get().get(10, TimeUnit.SECONDS);
+
+        assertTrue(eventDispatchThread.get());
+
+        assertEquals(4, component.getComponentCount());
+
+        assertEquals("Label", owner.label.getText());
+        assertSame(component, owner.label.getParent());
+        assertSame(component, owner.button.getParent());
+    }
+
+    @Test
+    public void testLoadAsyncErrors() {
+        var missingException = assertThrows(ExecutionException.class, () -> UILoader.loadAsync(new Owner(), "missing.xml").get(10, TimeUnit.SECONDS));
+
+        assertEquals("Named resource does not exist.", missingException.getCause().getMessage());
+
+        var invalidException = assertThrows(ExecutionException.class, () -> UILoader.loadAsync(new Owner(), "invalid-tag.xml").get(10, TimeUnit.SECONDS));
+
+        assertEquals("[Line 2] Invalid tag (xyz).", invalidException.getCause().getMessage());
+    }
+
+    @Test
+    public void testInvalidOwner() {
+        assertThrows(IllegalArgumentException.class, () -> template.instantiate(new Object()));
+    }
+}
@@ -24,6 +24,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 
 import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class BarChartTest extends ChartTest {
     @Test
@@ -692,4 +693,42 @@ public class BarChartTest extends ChartTest {
 
         compare("bar-chart-size-to-fit-horizontal.svg", chart, true);
     }
+
+    @Test
+    public void testDomainBoundsSortedMap() {
+        var keys = new long[100];
+        var values = new double[100];
+
+        for (var i = 0; i < 100; i++) {
+            keys[i] = i * 2;
+            values[i] = i;
+        }
+
+        var chart = new BarChart<Long, Double>();
+
+        var dataSet = new DataSet<Long, Double>("Values", Color.RED);
+
+        // Array series are sorted but not navigable, so they are windowed without being copied
+        dataSet.setDataPoints(new ArraySeries(keys, values));
+
+        chart.setDataSets(listOf(dataSet));
+
+        chart.setDomainBounds(new Chart.Bounds<>(10L, 20L));
+
+        draw(chart);
+
+        assertEquals(listOf(10L, 12L, 14L, 16L, 18L, 20L), listOf(chart.getKeys().toArray()));
+
+        chart.setDomainBounds(new Chart.Bounds<>(11L, 21L));
+
+        draw(chart);
+
+        assertEquals(listOf(12L, 14L, 16L, 18L, 20L), listOf(chart.getKeys().toArray()));
+
+        chart.setDomainBounds(new Chart.Bounds<>(190L, 300L));
+
+        draw(chart);
+
+        assertEquals(listOf(190L, 192L, 194L, 196L, 198L), listOf(chart.getKeys().toArray()));
+    }
 }
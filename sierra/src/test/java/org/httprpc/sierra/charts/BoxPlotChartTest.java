@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Insets;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoxPlotChartTest extends ChartTest {
+    @Test
+    public void testValues() {
+        var chart = createChart();
+
+        var image = draw(chart);
+
+        assertEquals(2, chart.getKeys().size());
+        assertEquals(8, chart.getShapeCount());
+
+        assertEquals(Color.RED.getRGB(), image.getRGB(160, 200));
+        assertEquals(Color.RED.getRGB(), image.getRGB(480, 280));
+
+        assertEquals(0, image.getRGB(40, 200));
+        assertEquals(0, image.getRGB(360, 200));
+    }
+
+    @Test
+    public void testWhiskerQuantile() {
+        var chart = createChart();
+
+        chart.setRangeBounds(new Chart.Bounds<>(0.0, 100.0));
+
+        var image = draw(chart);
+
+        assertNotEquals(0, image.getRGB(160, 60) >>> 24);
+
+        chart.setWhiskerQuantile(0.25);
+
+        image = draw(chart);
+
+        assertEquals(0, image.getRGB(160, 60) >>> 24);
+    }
+
+    private static BoxPlotChart<String> createChart() {
+        var chart = new BoxPlotChart<String>();
+
+        var dataSet = new DataSet<String, QuantileSketch>("Values", Color.RED);
+
+        dataSet.setDataPoints(sortedMapOf(
+            entry("a", createSketch(0)),
+            entry("b", createSketch(-20))
+        ));
+
+        chart.setDataSets(listOf(dataSet));
+
+        chart.setBoxTransparency(1.0);
+
+        chart.setMargins(new Insets(0, 0, 0, 0));
+
+        return chart;
+    }
+
+    private static QuantileSketch createSketch(int offset) {
+        var sketch = new QuantileSketch();
+
+        for (var i = 0; i <= 100; i++) {
+            sketch.add(Math.max(i + offset, 0));
+        }
+
+        return sketch;
+    }
+}
@@ -22,8 +22,11 @@ import java.awt.Insets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class CandlestickChartTest extends ChartTest {
     @Test
@@ -311,4 +314,91 @@ public class CandlestickChartTest extends ChartTest {
 
         compare("candlestick-chart-size-to-fit-labels.svg", chart, true);
     }
+
+    @Test
+    public void testDomainBounds() {
+        var first = LocalDate.of(2025, 1, 1);
+
+        var dataPoints = new TreeMap<LocalDate, OHLC>();
+
+        for (var i = 0; i < 100; i++) {
+            dataPoints.put(first.plusDays(i), new OHLC(10 + i % 5, 20 + i % 7, i % 3, 12 - i % 4));
+        }
+
+        var chart = createChart(dataPoints);
+
+        for (var i = 40; i < 45; i++) {
+            var start = first.plusDays(i);
+            var end = first.plusDays(i + 19);
+
+            chart.setDomainBounds(new Chart.Bounds<>(start, end));
+
+            var image = draw(chart);
+
+            assertEquals(20, chart.getKeys().size());
+            assertEquals(60, chart.getShapeCount());
+
+            var expected = draw(createChart(dataPoints.subMap(start, true, end, true)));
+
+            for (var x = 0; x < image.getWidth(); x++) {
+                for (var y = 0; y < image.getHeight(); y++) {
+                    assertEquals(expected.getRGB(x, y), image.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDomainBoundsTrend() {
+        var first = LocalDate.of(2025, 1, 1);
+
+        var dataPoints = new TreeMap<LocalDate, OHLC>();
+
+        for (var i = 0; i < 1000; i++) {
+            dataPoints.put(first.plusDays(i), new OHLC(100 + i, 110 + i, 99 + i, 105 + i));
+        }
+
+        var chart = createChart(dataPoints);
+
+        for (var i : listOf(0, 900)) {
+            var start = first.plusDays(i);
+            var end = first.plusDays(i + 10);
+
+            chart.setDomainBounds(new Chart.Bounds<>(start, end));
+
+            var image = draw(chart);
+
+            var rangeBounds = chart.getRangeBounds();
+
+            assertTrue(rangeBounds.minimum() <= 99 + i);
+            assertTrue(rangeBounds.maximum() >= 120 + i);
+            assertTrue(rangeBounds.maximum() - rangeBounds.minimum() < 100);
+
+            var expected = draw(createChart(dataPoints.subMap(start, true, end, true)));
+
+            for (var x = 0; x < image.getWidth(); x++) {
+                for (var y = 0; y < image.getHeight(); y++) {
+                    assertEquals(expected.getRGB(x, y), image.getRGB(x, y));
+                }
+            }
+        }
+
+        chart.setRangeBounds(new Chart.Bounds<>(0.0, 2000.0));
+
+        draw(chart);
+
+        assertEquals(new Chart.Bounds<>(0.0, 2000.0), chart.getRangeBounds());
+    }
+
+    private static CandlestickChart<LocalDate> createChart(SortedMap<LocalDate, OHLC> dataPoints) {
+        var chart = new CandlestickChart<LocalDate>();
+
+        var dataSet = new DataSet<LocalDate, OHLC>("Values", Color.RED);
+
+        dataSet.setDataPoints(dataPoints);
+
+        chart.setDataSets(listOf(dataSet));
+
+        return chart;
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.SortedMap;
+import java.util.function.Function;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChartGroupTest extends ChartTest {
+    @Test
+    public void testSharedKeys() {
+        var chart1 = createBarChart(sortedMapOf(
+            entry("a", 1),
+            entry("b", 2)
+        ));
+
+        var chart2 = createBarChart(sortedMapOf(
+            entry("b", 3),
+            entry("c", 4)
+        ));
+
+        var domainLabels = new ArrayList<String>();
+
+        Function<String, String> domainLabelTransform = key -> {
+            domainLabels.add(key);
+
+            return key.toUpperCase();
+        };
+
+        chart1.setDomainLabelTransform(domainLabelTransform);
+        chart2.setDomainLabelTransform(domainLabelTransform);
+
+        var chartGroup = new ChartGroup<String>();
+
+        chartGroup.setCharts(listOf(chart1, chart2));
+
+        draw(chart1);
+        draw(chart2);
+
+        assertEquals(listOf("a", "b", "c"), listOf(chart1.getKeys()));
+        assertEquals(listOf("a", "b", "c"), listOf(chart2.getKeys()));
+
+        assertEquals(listOf("a", "b", "c"), domainLabels);
+
+        chartGroup.setCharts(listOf());
+
+        draw(chart1);
+
+        assertEquals(listOf("a", "b"), listOf(chart1.getKeys()));
+    }
+
+    @Test
+    public void testSharedDomainBounds() {
+        var chart1 = createTimeSeriesChart(sortedMapOf(
+            entry(0.0, 1.0),
+            entry(5.0, 2.0)
+        ));
+
+        var chart2 = createTimeSeriesChart(sortedMapOf(
+            entry(-2.0, 3.0),
+            entry(3.0, 4.0)
+        ));
+
+        var chartGroup = new ChartGroup<Double>();
+
+        chartGroup.setCharts(listOf(chart1, chart2));
+
+        draw(chart1);
+        draw(chart2);
+
+        assertEquals(new Chart.Bounds<>(-2.0, 5.0), chart1.getDomainBounds());
+        assertEquals(new Chart.Bounds<>(-2.0, 5.0), chart2.getDomainBounds());
+
+        chartGroup.setDomainBounds(new Chart.Bounds<>(1.0, 2.0));
+
+        draw(chart1);
+        draw(chart2);
+
+        assertEquals(new Chart.Bounds<>(1.0, 2.0), chart1.getDomainBounds());
+        assertEquals(new Chart.Bounds<>(1.0, 2.0), chart2.getDomainBounds());
+
+        chartGroup.setCharts(listOf());
+
+        draw(chart1);
+
+        assertEquals(new Chart.Bounds<>(0.0, 5.0), chart1.getDomainBounds());
+    }
+
+    @Test
+    public void testSharedCategoryDomainBounds() {
+        var chart1 = createBarChart(sortedMapOf(
+            entry("a", 100),
+            entry("b", 1),
+            entry("c", 2)
+        ));
+
+        var chart2 = createBarChart(sortedMapOf(
+            entry("b", 3),
+            entry("c", 4),
+            entry("d", 200)
+        ));
+
+        var chartGroup = new ChartGroup<String>();
+
+        chartGroup.setCharts(listOf(chart1, chart2));
+
+        chartGroup.setDomainBounds(new Chart.Bounds<>("b", "c"));
+
+        draw(chart1);
+        draw(chart2);
+
+        assertEquals(listOf("b", "c"), listOf(chart1.getKeys()));
+        assertEquals(listOf("b", "c"), listOf(chart2.getKeys()));
+
+        assertTrue(chart1.getRangeBounds().maximum() < 100.0);
+        assertTrue(chart2.getRangeBounds().maximum() < 200.0);
+
+        chartGroup.setDomainBounds(null);
+
+        draw(chart1);
+        draw(chart2);
+
+        assertEquals(listOf("a", "b", "c", "d"), listOf(chart1.getKeys()));
+        assertEquals(listOf("a", "b", "c", "d"), listOf(chart2.getKeys()));
+
+        assertTrue(chart1.getRangeBounds().maximum() >= 100.0);
+        assertTrue(chart2.getRangeBounds().maximum() >= 200.0);
+    }
+
+    @Test
+    public void testMultipleGroups() {
+        var chart = createTimeSeriesChart(sortedMapOf());
+
+        var chartGroup1 = new ChartGroup<Double>();
+
+        chartGroup1.setCharts(listOf(chart));
+
+        var chartGroup2 = new ChartGroup<Double>();
+
+        assertThrows(IllegalArgumentException.class, () -> chartGroup2.setCharts(listOf(chart)));
+    }
+
+    private static BarChart<String, Integer> createBarChart(SortedMap<String, Integer> dataPoints) {
+        var chart = new BarChart<String, Integer>();
+
+        var dataSet = new DataSet<String, Integer>("Values", Color.RED);
+
+        dataSet.setDataPoints(dataPoints);
+
+        chart.setDataSets(listOf(dataSet));
+
+        return chart;
+    }
+
+    private static TimeSeriesChart<Double, Double> createTimeSeriesChart(SortedMap<Double, Double> dataPoints) {
+        var chart = new TimeSeriesChart<Double, Double>(key -> key, Number::doubleValue);
+
+        var dataSet = new DataSet<Double, Double>("Values", Color.RED);
+
+        dataSet.setDataPoints(dataPoints);
+
+        chart.setDataSets(listOf(dataSet));
+
+        return chart;
+    }
+}
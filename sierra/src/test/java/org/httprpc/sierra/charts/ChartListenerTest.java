@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChartListenerTest {
+    @Test
+    public void testChartListener() {
+        var chart = new BarChart<Integer, Integer>();
+
+        var dataSet = new DataSet<Integer, Integer>("Values", Color.RED);
+
+        dataSet.setDataPoints(sortedMapOf(
+            entry(1, 5),
+            entry(2, 10),
+            entry(3, 15)
+        ));
+
+        chart.setDataSets(listOf(dataSet));
+
+        var validationMetrics = new ArrayList<ChartMetrics>();
+        var drawingMetrics = new ArrayList<ChartMetrics>();
+
+        var listener = new ChartListener() {
+            @Override
+            public void chartValidated(Chart<?, ?> chart, ChartMetrics metrics) {
+                validationMetrics.add(metrics);
+            }
+
+            @Override
+            public void chartDrawn(Chart<?, ?> chart, ChartMetrics metrics) {
+                drawingMetrics.add(metrics);
+            }
+        };
+
+        chart.addChartListener(listener);
+
+        var image = new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+        for (var i = 0; i < 2; i++) {
+            var graphics = image.createGraphics();
+
+            chart.draw(graphics);
+
+            graphics.dispose();
+        }
+
+        assertEquals(1, validationMetrics.size());
+        assertEquals(2, drawingMetrics.size());
+
+        for (var metrics : listOf(validationMetrics.getFirst(), drawingMetrics.getFirst())) {
+            assertEquals(3, metrics.pointCount());
+            assertEquals(3, metrics.shapeCount());
+
+            assertTrue(metrics.dataDuration() >= 0);
+            assertTrue(metrics.gridDuration() > 0);
+            assertTrue(metrics.seriesDuration() >= 0);
+            assertTrue(metrics.markerDuration() >= 0);
+
+            assertEquals(metrics.dataDuration() + metrics.gridDuration() + metrics.seriesDuration() + metrics.markerDuration(), metrics.totalDuration());
+        }
+
+        assertTrue(validationMetrics.getFirst().dataDuration() > 0);
+        assertEquals(0, drawingMetrics.getFirst().dataDuration());
+
+        chart.removeChartListener(listener);
+
+        chart.draw(image.createGraphics());
+
+        assertEquals(2, drawingMetrics.size());
+    }
+}
@@ -24,6 +24,7 @@ import org.w3c.dom.Document;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -86,6 +87,24 @@ public abstract class ChartTest {
         assertTrue(result);
     }
 
+    public BufferedImage draw(Chart<?, ?> chart) {
+        return draw(chart, WIDTH, HEIGHT);
+    }
+
+    public BufferedImage draw(Chart<?, ?> chart, int width, int height) {
+        chart.setSize(width, height);
+
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        var graphics = image.createGraphics();
+
+        chart.draw(graphics);
+
+        graphics.dispose();
+
+        return image;
+    }
+
     private Path writeSVG(String name, Chart<?, ?> chart) throws Exception {
         var domImplementation = GenericDOMImplementation.getDOMImplementation();
 
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JLabel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentPoolTest {
+    @Test
+    public void testReuse() {
+        var componentPool = new ComponentPool<String, JLabel>(JLabel::new);
+
+        var label1 = componentPool.get("a");
+        var label2 = componentPool.get("a");
+        var label3 = componentPool.get("b");
+
+        assertNotSame(label1, label2);
+
+        label1.setVisible(false);
+
+        componentPool.reset();
+
+        var label4 = componentPool.get("a");
+        var label5 = componentPool.get("a");
+        var label6 = componentPool.get("b");
+
+        assertTrue(label4 == label1 || label4 == label2);
+        assertTrue(label5 == label1 || label5 == label2);
+        assertNotSame(label4, label5);
+        assertSame(label3, label6);
+
+        assertTrue(label1.isVisible());
+
+        assertNotSame(label1, componentPool.get("a"));
+    }
+
+    @Test
+    public void testRelease() {
+        var componentPool = new ComponentPool<String, JLabel>(JLabel::new);
+
+        var label1 = componentPool.get("a");
+        var label2 = componentPool.get("a");
+
+        componentPool.reset();
+
+        var label3 = componentPool.get("a");
+
+        componentPool.reset();
+
+        componentPool.get("a");
+
+        var label4 = componentPool.get("a");
+
+        assertSame(label2, label3);
+
+        assertNotSame(label1, label4);
+        assertNotSame(label2, label4);
+
+        componentPool.reset();
+        componentPool.reset();
+
+        assertNotSame(label3, componentPool.get("a"));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CurveFitTest {
+    @Test
+    public void testPolynomial() {
+        var n = 200;
+
+        var xs = new double[n];
+        var ys = new double[n];
+
+        for (var i = 0; i < n; i++) {
+            var x = 1000.0 + i * 0.5;
+
+            xs[i] = x;
+            ys[i] = 3.0 * Math.pow(x - 1050.0, 2) - 2.0 * x + 7.0;
+        }
+
+        var curveFit = CurveFit.polynomial(xs, ys, n, 2);
+
+        assertNotNull(curveFit);
+
+        assertEquals(1000.0, curveFit.getMinimum());
+        assertEquals(1099.5, curveFit.getMaximum());
+
+        for (var i = 0; i < n; i++) {
+            assertEquals(ys[i], curveFit.evaluate(xs[i]), 1e-6);
+        }
+
+        assertNull(CurveFit.polynomial(xs, ys, 2, 2));
+    }
+
+    @Test
+    public void testLoess() {
+        var n = 1000;
+
+        var xs = new double[n];
+        var ys = new double[n];
+
+        for (var i = 0; i < n; i++) {
+            xs[i] = i;
+            ys[i] = 4.0 * i - 3.0 + ((i % 2 == 0) ? 1.0 : -1.0);
+        }
+
+        var curveFit = CurveFit.loess(xs, ys, n, 0.3, 100);
+
+        assertNotNull(curveFit);
+
+        assertEquals(0.0, curveFit.getMinimum());
+        assertEquals(999.0, curveFit.getMaximum());
+
+        for (var x = 0.0; x <= 999.0; x += 37.0) {
+            assertEquals(4.0 * x - 3.0, curveFit.evaluate(x), 0.1);
+        }
+
+        assertNull(CurveFit.loess(xs, ys, 2, 0.3, 100));
+    }
+}
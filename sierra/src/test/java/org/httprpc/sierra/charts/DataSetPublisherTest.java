@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.util.Collections;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataSetPublisherTest {
+    @Test
+    public void testFlush() {
+        var chart = new TimeSeriesChart<Integer, Integer>(key -> key, Number::intValue);
+
+        var dataSet = new DataSet<Integer, Integer>("Values", Color.RED);
+
+        dataSet.setDataPoints(sortedMapOf(
+            entry(0, 0),
+            entry(1, 10)
+        ));
+
+        chart.setDataSets(listOf(dataSet));
+
+        var publisher = new DataSetPublisher<>(chart, dataSet);
+
+        publisher.setCapacity(3);
+
+        var changes = new AtomicInteger();
+
+        publisher.addChangeListener(event -> changes.incrementAndGet());
+
+        publisher.put(2, 20);
+        publisher.put(3, 30);
+        publisher.remove(1);
+        publisher.put(4, 40);
+
+        publisher.flush();
+
+        assertEquals(sortedMapOf(
+            entry(2, 20),
+            entry(3, 30),
+            entry(4, 40)
+        ), dataSet.getDataPoints());
+
+        assertEquals(1, changes.get());
+
+        publisher.flush();
+
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testCoalescing() {
+        var updates = new AtomicInteger();
+
+        var chart = new TimeSeriesChart<Integer, Integer>(key -> key, Number::intValue) {
+            @Override
+            void dataPointUpdated(DataSet<Integer, Integer> dataSet, Integer key, Integer previousValue, Integer value) {
+                updates.incrementAndGet();
+            }
+        };
+
+        var dataSet = new DataSet<Integer, Integer>("Values", Color.RED);
+
+        dataSet.setDataPoints(new TreeMap<>(mapOf(
+            entry(0, 0),
+            entry(1, 10)
+        )));
+
+        chart.setDataSets(listOf(dataSet));
+
+        var publisher = new DataSetPublisher<>(chart, dataSet);
+
+        var changes = new AtomicInteger();
+
+        chart.addChangeListener(event -> changes.incrementAndGet());
+
+        for (var i = 0; i < 100; i++) {
+            publisher.put(1, i);
+            publisher.put(2, i);
+        }
+
+        publisher.remove(0);
+        publisher.put(0, 5);
+        publisher.remove(2);
+
+        publisher.flush();
+
+        assertEquals(sortedMapOf(
+            entry(0, 5),
+            entry(1, 99)
+        ), dataSet.getDataPoints());
+
+        assertEquals(3, updates.get());
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testInvalidDataPoints() {
+        var chart = new TimeSeriesChart<Integer, Integer>(key -> key, Number::intValue);
+
+        var dataSet = new DataSet<Integer, Integer>("Values", Color.RED);
+
+        dataSet.setDataPoints(Collections.unmodifiableSortedMap(new TreeMap<>()));
+
+        chart.setDataSets(listOf(dataSet));
+
+        assertThrows(IllegalArgumentException.class, () -> new DataSetPublisher<>(chart, dataSet));
+    }
+
+    @Test
+    public void testConcurrentPublication() throws Exception {
+        var chart = new TimeSeriesChart<Integer, Integer>(key -> key, Number::intValue);
+
+        var dataSet = new DataSet<Integer, Integer>("Values", Color.RED);
+
+        chart.setDataSets(listOf(dataSet));
+
+        var publisher = new DataSetPublisher<>(chart, dataSet);
+
+        var n = 10000;
+
+        var latch = new CountDownLatch(1);
+
+        publisher.addChangeListener(event -> {
+            assertTrue(SwingUtilities.isEventDispatchThread());
+
+            if (dataSet.getDataPoints().size() == n * 2) {
+                latch.countDown();
+            }
+        });
+
+        var threads = listOf(
+            new Thread(() -> {
+                for (var i = 0; i < n; i++) {
+                    publisher.put(i, i);
+                }
+            }),
+            new Thread(() -> {
+                for (var i = n; i < n * 2; i++) {
+                    publisher.put(i, i);
+                }
+            })
+        );
+
+        for (var thread : threads) {
+            thread.start();
+        }
+
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+}
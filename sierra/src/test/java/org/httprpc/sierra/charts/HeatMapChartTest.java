@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Insets;
+import java.time.LocalDate;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeatMapChartTest extends ChartTest {
+    @Test
+    public void testValues() {
+        var chart = new HeatMapChart<Integer>(key -> key, Number::intValue);
+
+        chart.setValues(new double[][] {
+            {0.0, 1.0},
+            {Double.NaN, 1.0}
+        });
+
+        chart.setColors(listOf(Color.BLUE, Color.RED));
+
+        chart.setMargins(new Insets(0, 0, 0, 0));
+
+        var image = draw(chart, 100, 100);
+
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(25, 75));
+        assertEquals(Color.RED.getRGB(), image.getRGB(25, 25));
+        assertEquals(0, image.getRGB(75, 75));
+        assertEquals(Color.RED.getRGB(), image.getRGB(75, 25));
+
+        assertEquals(new Chart.Bounds<>(0, 2), chart.getDomainBounds());
+        assertEquals(new Chart.Bounds<>(0.0, 2.0), chart.getRangeBounds());
+    }
+
+    @Test
+    public void testValueBounds() {
+        var chart = new HeatMapChart<Integer>(key -> key, Number::intValue);
+
+        chart.setValues(new double[][] {
+            {-10.0, 5.0, 20.0}
+        });
+
+        chart.setColors(listOf(Color.BLUE, Color.RED));
+        chart.setValueBounds(new Chart.Bounds<>(0.0, 10.0));
+
+        chart.setMargins(new Insets(0, 0, 0, 0));
+
+        var image = draw(chart, 30, 30);
+
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(15, 25));
+        assertEquals(Color.RED.getRGB(), image.getRGB(15, 5));
+    }
+
+    @Test
+    public void testKeyBounds() {
+        var chart = new HeatMapChart<LocalDate>(LocalDate::toEpochDay, value -> LocalDate.ofEpochDay(value.longValue()));
+
+        chart.setValues(new double[][] {
+            {0.0},
+            {1.0}
+        });
+
+        chart.setColors(listOf(Color.BLUE, Color.RED));
+
+        var keyBounds = new Chart.Bounds<>(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3));
+
+        chart.setKeyBounds(keyBounds);
+
+        chart.setMargins(new Insets(0, 0, 0, 0));
+
+        var image = draw(chart, 100, 100);
+
+        assertEquals(keyBounds, chart.getDomainBounds());
+
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(25, 50));
+        assertEquals(Color.RED.getRGB(), image.getRGB(75, 50));
+
+        chart.setDomainBounds(new Chart.Bounds<>(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3)));
+
+        image = draw(chart, 100, 100);
+
+        assertEquals(Color.RED.getRGB(), image.getRGB(25, 50));
+        assertEquals(Color.RED.getRGB(), image.getRGB(75, 50));
+    }
+
+    @Test
+    public void testDataSets() {
+        var chart = new HeatMapChart<Integer>(key -> key, Number::intValue);
+
+        var dataSet1 = new DataSet<Integer, Double>("1", Color.BLACK);
+
+        dataSet1.setDataPoints(sortedMapOf(
+            entry(10, 0.0),
+            entry(11, 1.0)
+        ));
+
+        var dataSet2 = new DataSet<Integer, Double>("2", Color.BLACK);
+
+        dataSet2.setDataPoints(sortedMapOf(
+            entry(11, 1.0)
+        ));
+
+        chart.setDataSets(listOf(dataSet1, dataSet2));
+
+        chart.setColors(listOf(Color.BLUE, Color.RED));
+
+        chart.setMargins(new Insets(0, 0, 0, 0));
+
+        var image = draw(chart, 100, 100);
+
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(25, 75));
+        assertEquals(0, image.getRGB(25, 25));
+        assertEquals(Color.RED.getRGB(), image.getRGB(75, 75));
+        assertEquals(Color.RED.getRGB(), image.getRGB(75, 25));
+
+        assertEquals(new Chart.Bounds<>(10, 12), chart.getDomainBounds());
+        assertEquals(new Chart.Bounds<>(0.0, 2.0), chart.getRangeBounds());
+    }
+
+    @Test
+    public void testInvalidValues() {
+        var chart = new HeatMapChart<Integer>(key -> key, Number::intValue);
+
+        assertThrows(IllegalArgumentException.class, () -> chart.setValues(new double[][] {
+            {0.0, 1.0},
+            {0.0}
+        }));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedSeriesTest {
+    private static final int COUNT = 1000;
+
+    @Test
+    public void testMappedSeries() throws IOException {
+        var path = createSeriesFile();
+
+        try {
+            var series = new MappedSeries(path, ByteOrder.BIG_ENDIAN, 4);
+
+            var expected = new TreeMap<Long, Double>();
+
+            for (var i = 0; i < COUNT; i++) {
+                expected.put(i * 10L, i * 0.5);
+            }
+
+            assertEquals(expected, series);
+
+            assertEquals(COUNT, series.size());
+
+            assertEquals(0L, series.firstKey());
+            assertEquals((COUNT - 1) * 10L, series.lastKey());
+
+            assertEquals(25.0, series.get(500L));
+            assertNull(series.get(505L));
+
+            assertTrue(series.containsKey(990L));
+            assertFalse(series.containsKey(-10L));
+
+            assertEquals(expected.subMap(105L, 500L), series.subMap(105L, 500L));
+            assertEquals(expected.headMap(255L), series.headMap(255L));
+            assertEquals(expected.tailMap(9000L), series.tailMap(9000L));
+
+            assertEquals(expected.subMap(100L, 1000L).subMap(200L, 300L), series.subMap(100L, 1000L).subMap(200L, 300L));
+
+            assertTrue(series.tailMap(100000L).isEmpty());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testInvalidFileSize() throws IOException {
+        var path = Files.createTempFile("series", ".dat");
+
+        try {
+            Files.write(path, new byte[MappedSeries.RECORD_SIZE + 1]);
+
+            assertThrows(IOException.class, () -> new MappedSeries(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static Path createSeriesFile() throws IOException {
+        var path = Files.createTempFile("series", ".dat");
+
+        try (var outputStream = new DataOutputStream(Files.newOutputStream(path))) {
+            for (var i = 0; i < COUNT; i++) {
+                outputStream.writeLong(i * 10L);
+                outputStream.writeDouble(i * 0.5);
+            }
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.zip.Adler32;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PNGEncoderTest {
+    @Test
+    public void testCombine() {
+        var random = new Random(0);
+
+        var bytes = new byte[100000];
+
+        random.nextBytes(bytes);
+
+        var expected = new Adler32();
+
+        expected.update(bytes);
+
+        var checksum = 1L;
+
+        for (var i = 0; i < bytes.length; i += 30000) {
+            var adler32 = new Adler32();
+
+            var n = Math.min(30000, bytes.length - i);
+
+            adler32.update(bytes, i, n);
+
+            checksum = PNGEncoder.combine(checksum, adler32.getValue(), n);
+        }
+
+        assertEquals(expected.getValue(), checksum);
+    }
+
+    @Test
+    public void testWritePNG() throws Exception {
+        var chart = new TimeSeriesChart<Double, Double>(key -> key, Number::doubleValue);
+
+        var dataSet = new DataSet<Double, Double>("Values", Color.RED);
+
+        var dataPoints = new TreeMap<Double, Double>();
+
+        var random = new Random(0);
+
+        for (var i = 0; i < 1000; i++) {
+            dataPoints.put((double)i, random.nextGaussian());
+        }
+
+        dataSet.setDataPoints(dataPoints);
+
+        chart.setDataSets(listOf(dataSet));
+
+        chart.setDomainMarkers(sortedMapOf(entry(500.0, new Chart.Marker("Domain", null))));
+        chart.setRangeMarkers(sortedMapOf(entry(1.0, new Chart.Marker("Range", null))));
+
+        chart.setSize(640, 480);
+
+        var scale = 4.0;
+
+        var outputStream = new ByteArrayOutputStream();
+
+        chart.writePNG(outputStream, scale);
+
+        var image = ImageIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        var width = (int)(chart.getWidth() * scale);
+        var height = (int)(chart.getHeight() * scale);
+
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+
+        var expected = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        var graphics = expected.createGraphics();
+
+        graphics.scale(scale, scale);
+
+        chart.draw(graphics);
+
+        graphics.dispose();
+
+        assertTrue(Arrays.equals(expected.getRGB(0, 0, width, height, null, 0, width),
+            image.getRGB(0, 0, width, height, null, 0, width)));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuantileSketchTest {
+    @Test
+    public void testEmpty() {
+        var sketch = new QuantileSketch();
+
+        assertEquals(0, sketch.getCount());
+
+        assertTrue(Double.isNaN(sketch.getMinimum()));
+        assertTrue(Double.isNaN(sketch.getMaximum()));
+
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+    }
+
+    @Test
+    public void testSingleValue() {
+        var sketch = new QuantileSketch();
+
+        sketch.add(42.0);
+
+        assertEquals(1, sketch.getCount());
+
+        assertEquals(42.0, sketch.getQuantile(0.0));
+        assertEquals(42.0, sketch.getQuantile(0.5));
+        assertEquals(42.0, sketch.getQuantile(1.0));
+    }
+
+    @Test
+    public void testUniform() {
+        var sketch = new QuantileSketch();
+
+        var n = 100000;
+
+        for (var i = 0; i < n; i++) {
+            sketch.add(i);
+        }
+
+        assertEquals(n, sketch.getCount());
+
+        assertEquals(0.0, sketch.getMinimum());
+        assertEquals(n - 1, sketch.getMaximum());
+
+        assertEquals(0.0, sketch.getQuantile(0.0));
+        assertEquals(n - 1, sketch.getQuantile(1.0));
+
+        assertEquals(n * 0.25, sketch.getQuantile(0.25), n * 0.01);
+        assertEquals(n * 0.5, sketch.getQuantile(0.5), n * 0.01);
+        assertEquals(n * 0.75, sketch.getQuantile(0.75), n * 0.01);
+        assertEquals(n * 0.99, sketch.getQuantile(0.99), n * 0.001);
+    }
+
+    @Test
+    public void testMerge() {
+        var random = new Random(0);
+
+        var sketch1 = new QuantileSketch();
+        var sketch2 = new QuantileSketch();
+
+        for (var i = 0; i < 50000; i++) {
+            sketch1.add(random.nextGaussian());
+            sketch2.add(random.nextGaussian() + 10.0);
+        }
+
+        sketch1.merge(sketch2);
+
+        assertEquals(100000, sketch1.getCount());
+
+        assertEquals(5.0, sketch1.getQuantile(0.5), 5.0);
+        assertEquals(0.0, sketch1.getQuantile(0.25), 0.1);
+        assertEquals(10.0, sketch1.getQuantile(0.75), 0.1);
+
+        assertTrue(sketch1.getMinimum() < -3.0);
+        assertTrue(sketch1.getMaximum() > 13.0);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        var sketch = new QuantileSketch();
+
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(1.0));
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(sketch));
+        assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(1.5));
+    }
+}
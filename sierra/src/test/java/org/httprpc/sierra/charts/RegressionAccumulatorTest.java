@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegressionAccumulatorTest {
+    @Test
+    public void testSlopeAndIntercept() {
+        var accumulator = new RegressionAccumulator();
+
+        assertTrue(Double.isNaN(accumulator.getSlope()));
+
+        for (var i = 0; i < 100; i++) {
+            accumulator.add(i, 2.0 * i + 5.0);
+        }
+
+        assertEquals(100, accumulator.getCount());
+
+        assertEquals(2.0, accumulator.getSlope(), 1e-9);
+        assertEquals(5.0, accumulator.getIntercept(), 1e-9);
+    }
+
+    @Test
+    public void testRemove() {
+        var accumulator = new RegressionAccumulator();
+
+        for (var i = 0; i < 100; i++) {
+            accumulator.add(i, 2.0 * i + 5.0);
+        }
+
+        for (var i = 0; i < 50; i++) {
+            accumulator.add(i, -1.0);
+        }
+
+        for (var i = 0; i < 50; i++) {
+            accumulator.remove(i, -1.0);
+        }
+
+        assertEquals(100, accumulator.getCount());
+
+        assertEquals(2.0, accumulator.getSlope(), 1e-9);
+        assertEquals(5.0, accumulator.getIntercept(), 1e-9);
+
+        for (var i = 0; i < 100; i++) {
+            accumulator.remove(i, 2.0 * i + 5.0);
+        }
+
+        assertEquals(0, accumulator.getCount());
+
+        assertTrue(Double.isNaN(accumulator.getSlope()));
+    }
+
+    @Test
+    public void testLargeOffset() {
+        var accumulator = new RegressionAccumulator();
+
+        var offset = 1.7e12;
+
+        for (var i = 0; i < 1000; i++) {
+            accumulator.add(offset + i, 0.5 * i);
+        }
+
+        assertEquals(0.5, accumulator.getSlope(), 1e-9);
+    }
+}
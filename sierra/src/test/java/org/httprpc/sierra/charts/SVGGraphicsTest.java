@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SVGGraphicsTest {
+    @Test
+    public void testNumbers() {
+        assertEquals("0", format(0));
+        assertEquals("1", format(100));
+        assertEquals("-1", format(-100));
+        assertEquals("1.5", format(150));
+        assertEquals("1.05", format(105));
+        assertEquals("-0.25", format(-25));
+        assertEquals("123.4", format(12340));
+    }
+
+    private static String format(long hundredths) {
+        var stringBuilder = new StringBuilder();
+
+        SVGGraphics.appendNumber(stringBuilder, hundredths);
+
+        return stringBuilder.toString();
+    }
+
+    @Test
+    public void testPathData() throws Exception {
+        var writer = new StringWriter();
+
+        var svgGraphics = new SVGGraphics(writer, 100, 100);
+
+        var path = new Path2D.Double();
+
+        path.moveTo(10, 10);
+        path.lineTo(20, 10);
+        path.lineTo(20, 5.5);
+        path.closePath();
+
+        svgGraphics.setColor(Color.RED);
+        svgGraphics.setStroke(new BasicStroke(2.0f));
+
+        svgGraphics.draw(path);
+
+        svgGraphics.translate(10, 0);
+
+        svgGraphics.draw(path);
+
+        svgGraphics.finish();
+
+        var documentElement = parse(writer.toString());
+
+        var groups = documentElement.getElementsByTagName("g");
+
+        assertEquals(1, groups.getLength());
+
+        var group = (Element)groups.item(0);
+
+        assertEquals("none", group.getAttribute("fill"));
+        assertEquals("#ff0000", group.getAttribute("stroke"));
+        assertEquals("2", group.getAttribute("stroke-width"));
+
+        var paths = group.getElementsByTagName("path");
+
+        assertEquals(2, paths.getLength());
+
+        assertEquals("M10 10l10 0 0-4.5z", ((Element)paths.item(0)).getAttribute("d"));
+        assertEquals("M20 10l10 0 0-4.5z", ((Element)paths.item(1)).getAttribute("d"));
+    }
+
+    @Test
+    public void testImageTransform() throws Exception {
+        var writer = new StringWriter();
+
+        var svgGraphics = new SVGGraphics(writer, 100, 100);
+
+        var image = new BufferedImage(3000, 1, BufferedImage.TYPE_INT_ARGB);
+
+        var transform = AffineTransform.getTranslateInstance(10.125, 20);
+
+        transform.scale(280.0 / 3000, 0.004);
+
+        svgGraphics.drawImage(image, transform, null);
+
+        svgGraphics.finish();
+
+        var documentElement = parse(writer.toString());
+
+        var images = documentElement.getElementsByTagName("image");
+
+        assertEquals(1, images.getLength());
+
+        assertEquals(String.format("matrix(%s 0 0 0.004 10.13 20)", 280.0 / 3000), ((Element)images.item(0)).getAttribute("transform"));
+    }
+
+    @Test
+    public void testWriteSVG() throws Exception {
+        var chart = new TimeSeriesChart<Double, Double>(key -> key, Number::doubleValue);
+
+        var dataSet = new DataSet<Double, Double>("Values", Color.RED);
+
+        dataSet.setDataPoints(sortedMapOf(
+            entry(0.0, 0.0),
+            entry(1.0, 10.0),
+            entry(2.0, 20.0)
+        ));
+
+        chart.setDataSets(listOf(dataSet));
+
+        chart.setSize(640, 480);
+
+        var writer = new StringWriter();
+
+        chart.writeSVG(writer);
+
+        var documentElement = parse(writer.toString());
+
+        assertEquals("svg", documentElement.getTagName());
+
+        assertEquals("640", documentElement.getAttribute("width"));
+        assertEquals("480", documentElement.getAttribute("height"));
+
+        var seriesGroups = 0;
+
+        var groups = documentElement.getElementsByTagName("g");
+
+        for (int i = 0, n = groups.getLength(); i < n; i++) {
+            var group = (Element)groups.item(i);
+
+            if (group.getAttribute("stroke").equals("#ff0000")) {
+                assertFalse(group.getAttribute("clip-path").isEmpty());
+
+                assertEquals(1, group.getElementsByTagName("path").getLength());
+
+                seriesGroups++;
+            }
+        }
+
+        assertEquals(1, seriesGroups);
+    }
+
+    private static Element parse(String text) throws Exception {
+        var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+
+        documentBuilderFactory.setNamespaceAware(true);
+
+        var documentBuilder = documentBuilderFactory.newDocumentBuilder();
+
+        var document = documentBuilder.parse(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+        return document.getDocumentElement();
+    }
+}
@@ -19,8 +19,13 @@ import org.junit.jupiter.api.Test;
 
 import java.awt.Color;
 import java.awt.Insets;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ScatterChartTest extends ChartTest {
     @Test
@@ -293,4 +298,88 @@ public class ScatterChartTest extends ChartTest {
 
         compare("scatter-chart-custom-margins.svg", chart);
     }
+
+    @Test
+    public void testTrendLineModel() throws Exception {
+        var chart = new ScatterChart<Double, Double>(key -> key, Number::doubleValue);
+
+        var dataSet = new DataSet<Double, Double>("Values", Color.RED);
+
+        var dataPoints = new TreeMap<Double, Double>();
+
+        for (var i = 0; i < 100; i++) {
+            dataPoints.put((double)i, Math.pow(i - 50.0, 2));
+        }
+
+        dataSet.setDataPoints(dataPoints);
+
+        chart.setDataSets(listOf(dataSet));
+
+        chart.setShowTrendLines(true);
+        chart.setTrendLineModel(ScatterChart.TrendLineModel.QUADRATIC);
+
+        var latch = new CountDownLatch(1);
+
+        chart.addChangeListener(event -> latch.countDown());
+
+        var image1 = draw(chart);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        var image2 = draw(chart);
+
+        var width = chart.getWidth();
+        var height = chart.getHeight();
+
+        assertFalse(Arrays.equals(image1.getRGB(0, 0, width, height, null, 0, width),
+            image2.getRGB(0, 0, width, height, null, 0, width)));
+    }
+
+    @Test
+    public void testTrendInvalidation() {
+        var dataPoints = new TreeMap<Double, Double>();
+
+        for (var i = 0; i < 10; i++) {
+            dataPoints.put((double)i, (double)i);
+        }
+
+        var chart = createTrendChart(dataPoints);
+
+        var image1 = draw(chart);
+
+        for (var i = 0; i < 10; i++) {
+            dataPoints.put((double)i, 9.0 - i);
+        }
+
+        chart.invalidate();
+
+        var image2 = draw(chart);
+
+        var expected = draw(createTrendChart(new TreeMap<>(dataPoints)));
+
+        var width = chart.getWidth();
+        var height = chart.getHeight();
+
+        assertFalse(Arrays.equals(image1.getRGB(0, 0, width, height, null, 0, width),
+            image2.getRGB(0, 0, width, height, null, 0, width)));
+
+        assertArrayEquals(expected.getRGB(0, 0, width, height, null, 0, width),
+            image2.getRGB(0, 0, width, height, null, 0, width));
+    }
+
+    private static ScatterChart<Double, Double> createTrendChart(TreeMap<Double, Double> dataPoints) {
+        var chart = new ScatterChart<Double, Double>(key -> key, Number::doubleValue);
+
+        var dataSet = new DataSet<Double, Double>("Values", Color.RED);
+
+        dataSet.setDataPoints(dataPoints);
+
+        chart.setDataSets(listOf(dataSet));
+
+        chart.setShowTrendLines(true);
+
+        chart.setRangeBounds(new Chart.Bounds<>(0.0, 10.0));
+
+        return chart;
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeriesLoaderTest {
+    @Test
+    public void testReadCSV() throws IOException {
+        var path = createFile("""
+            "time", "a", "b"\r
+            2024-01-01T00:00:02Z,3.5,\r
+            1704067200000,1,-2.25\r
+            2024-01-01T00:00:01.5+01:00,2e3,"7"\r
+            2024-01-01,10,NaN\r
+            2024-01-01 00:00:04,4.125,8
+            """);
+
+        try {
+            var series = SeriesLoader.readCSV(path);
+
+            assertEquals(listOf("a", "b"), listOf(series.keySet()));
+
+            var t0 = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+            var a = new TreeMap<Long, Double>();
+
+            a.put(t0 - 3600000 + 1500, 2000.0);
+            a.put(t0, 10.0);
+            a.put(t0 + 2000, 3.5);
+            a.put(t0 + 4000, 4.125);
+
+            assertEquals(a, series.get("a"));
+
+            var b = new TreeMap<Long, Double>();
+
+            b.put(t0 - 3600000 + 1500, 7.0);
+            b.put(t0, -2.25);
+            b.put(t0 + 4000, 8.0);
+
+            assertEquals(b, series.get("b"));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testReadCSVValues() throws IOException {
+        var random = new Random(0);
+
+        var n = 20000;
+
+        var values = new String[n];
+
+        var text = new StringBuilder("key,value\n");
+
+        for (var i = 0; i < n; i++) {
+            values[i] = switch (i % 4) {
+                case 0 -> Double.toString(random.nextDouble());
+                case 1 -> String.format(Locale.ROOT, "%.3f", random.nextGaussian() * 1000);
+                case 2 -> String.format(Locale.ROOT, "%.6e", random.nextDouble() * 1e30);
+                default -> Long.toString(random.nextLong());
+            };
+
+            text.append(n - i);
+            text.append(',');
+            text.append(values[i]);
+            text.append('\n');
+        }
+
+        var path = createFile(text.toString());
+
+        try {
+            var series = SeriesLoader.readCSV(path).get("value");
+
+            assertEquals(n, series.size());
+
+            for (var i = 0; i < n; i++) {
+                assertEquals(Double.parseDouble(values[i]), series.get((long)(n - i)));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testReadCSVInvalidValue() throws IOException {
+        var path = createFile("key,value\n1,10\n\n2,abc\n");
+
+        try {
+            var exception = assertThrows(IOException.class, () -> SeriesLoader.readCSV(path));
+
+            assertEquals("[Line 4] Invalid value.", exception.getMessage());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testReadCSVInvalidKey() throws IOException {
+        var path = createFile("key,value\n1,10\n2024-13-01,20\n");
+
+        try {
+            var exception = assertThrows(IOException.class, () -> SeriesLoader.readCSV(path));
+
+            assertEquals("[Line 3] Invalid key.", exception.getMessage());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testReadBinary() throws IOException {
+        var path = Files.createTempFile("series", ".dat");
+
+        try {
+            var expected = new TreeMap<Long, Double>();
+
+            var random = new Random(0);
+
+            try (var outputStream = new DataOutputStream(Files.newOutputStream(path))) {
+                for (var i = 0; i < 50000; i++) {
+                    var key = (long)random.nextInt(40000);
+                    var value = random.nextDouble();
+
+                    outputStream.writeLong(key);
+                    outputStream.writeDouble(value);
+
+                    expected.put(key, value);
+                }
+            }
+
+            assertEquals(expected, SeriesLoader.readBinary(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static Path createFile(String text) throws IOException {
+        var path = Files.createTempFile("series", ".csv");
+
+        Files.writeString(path, text);
+
+        return path;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.httprpc.sierra.charts;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparklineChartTest {
+    @Test
+    public void testValues() {
+        var chart = new SparklineChart();
+
+        chart.setValues(new double[] {0.0, 10.0, Double.NaN, 0.0, 10.0});
+
+        chart.setColor(Color.RED);
+        chart.setStroke(new BasicStroke(2.0f));
+
+        var image = draw(chart, 41, 21);
+
+        assertNotEquals(0, image.getRGB(6, 10));
+        assertEquals(0, image.getRGB(20, 10));
+        assertNotEquals(0, image.getRGB(35, 10));
+    }
+
+    @Test
+    public void testRangeBounds() {
+        var chart = new SparklineChart();
+
+        chart.setValues(new double[] {5.0, 5.0});
+
+        chart.setColor(Color.RED);
+        chart.setStroke(new BasicStroke(2.0f));
+
+        var image = draw(chart, 41, 21);
+
+        assertNotEquals(0, image.getRGB(20, 10));
+
+        chart.setRangeBounds(new Chart.Bounds<>(0.0, 5.0));
+
+        image = draw(chart, 41, 21);
+
+        assertEquals(0, image.getRGB(20, 10));
+        assertNotEquals(0, image.getRGB(20, 1));
+    }
+
+    @Test
+    public void testInvalidValues() {
+        var chart = new SparklineChart();
+
+        assertThrows(IllegalArgumentException.class, () -> chart.setValues(null));
+        assertThrows(IllegalArgumentException.class, () -> chart.setSize(-1, 0));
+    }
+
+    private static BufferedImage draw(SparklineChart chart, int width, int height) {
+        chart.setSize(width, height);
+
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        var graphics = image.createGraphics();
+
+        chart.draw(graphics);
+
+        graphics.dispose();
+
+        return image;
+    }
+}
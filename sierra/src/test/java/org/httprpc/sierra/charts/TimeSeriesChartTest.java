@@ -27,6 +27,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.function.Function;
 
 import static org.httprpc.kilo.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TimeSeriesChartTest extends ChartTest {
     @Test
@@ -376,4 +377,37 @@ public class TimeSeriesChartTest extends ChartTest {
 
         compare("time-series-chart-size-to-fit.svg", chart, true);
     }
+
+    @Test
+    public void testFloatPrecision() {
+        var dataSet = new DataSet<Double, Double>("Values", Color.RED);
+
+        dataSet.setDataPoints(sortedMapOf(
+            entry(0.0, 0.0),
+            entry(1.0, 12.5),
+            entry(2.0, 7.25),
+            entry(3.0, 30.0),
+            entry(4.0, 22.75)
+        ));
+
+        var doubleImage = draw(createChart(dataSet, false), 320, 240);
+        var floatImage = draw(createChart(dataSet, true), 320, 240);
+
+        for (var x = 0; x < doubleImage.getWidth(); x++) {
+            for (var y = 0; y < doubleImage.getHeight(); y++) {
+                assertEquals(doubleImage.getRGB(x, y), floatImage.getRGB(x, y));
+            }
+        }
+    }
+
+    private static TimeSeriesChart<Double, Double> createChart(DataSet<Double, Double> dataSet, boolean floatPrecision) {
+        var chart = new TimeSeriesChart<Double, Double>(key -> key, Number::doubleValue);
+
+        chart.setShowValueMarkers(true);
+        chart.setFloatPrecision(floatPrecision);
+
+        chart.setDataSets(listOf(dataSet));
+
+        return chart;
+    }
 }